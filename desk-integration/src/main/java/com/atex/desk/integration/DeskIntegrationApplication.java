@@ -1,7 +1,9 @@
 package com.atex.desk.integration;
 
+import com.atex.desk.api.config.HttpClientConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
@@ -20,6 +22,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
     "com.atex.desk.api.plugin",
     "com.atex.desk.api.indexing"
 })
+@Import(HttpClientConfig.class) // desk.http.client.* and pool metrics for the shared outbound clients
 @EnableScheduling
 public class DeskIntegrationApplication {
 
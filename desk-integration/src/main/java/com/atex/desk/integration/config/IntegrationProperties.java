@@ -27,10 +27,13 @@ public class IntegrationProperties {
     /** Polling interval for feed directories in milliseconds. */
     private long pollIntervalMs = 10_000;
 
+    /** Pick up feed files from file system events; polling then only catches missed files. */
+    private boolean watchFeeds = true;
+
     /** File stability check delay in milliseconds (wait for file to finish writing). */
     private long fileStabilityDelayMs = 2_000;
 
-    /** Maximum number of files to process per poll cycle. */
+    /** Maximum number of files to hand to a feed's workers per poll cycle. */
     private int maxFilesPerPoll = 100;
 
     /** Default security parent for imported content. */
@@ -62,6 +65,9 @@ public class IntegrationProperties {
     public long getPollIntervalMs() { return pollIntervalMs; }
     public void setPollIntervalMs(long pollIntervalMs) { this.pollIntervalMs = pollIntervalMs; }
 
+    public boolean isWatchFeeds() { return watchFeeds; }
+    public void setWatchFeeds(boolean watchFeeds) { this.watchFeeds = watchFeeds; }
+
     public long getFileStabilityDelayMs() { return fileStabilityDelayMs; }
     public void setFileStabilityDelayMs(long v) { this.fileStabilityDelayMs = v; }
 
@@ -98,6 +104,7 @@ public class IntegrationProperties {
         private String fieldMappingFile;
         private boolean enabled = true;
         private int threadPoolSize = 4;
+        private int queueCapacity = 500;
 
         public String getDirectory() { return directory; }
         public void setDirectory(String directory) { this.directory = directory; }
@@ -121,6 +128,8 @@ public class IntegrationProperties {
         public void setEnabled(boolean enabled) { this.enabled = enabled; }
         public int getThreadPoolSize() { return threadPoolSize; }
         public void setThreadPoolSize(int threadPoolSize) { this.threadPoolSize = threadPoolSize; }
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
     }
 
     /**
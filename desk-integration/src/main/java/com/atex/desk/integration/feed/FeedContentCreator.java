@@ -1,11 +1,11 @@
 package com.atex.desk.integration.feed;
 
+import com.atex.desk.api.onecms.LocalContentManager;
 import com.atex.desk.integration.config.IntegrationProperties;
 import com.atex.onecms.app.dam.standard.aspects.OneArticleBean;
 import com.atex.onecms.app.dam.standard.aspects.OneImageBean;
 import com.atex.onecms.content.ContentFileInfo;
 import com.atex.onecms.content.ContentId;
-import com.atex.onecms.content.ContentManager;
 import com.atex.onecms.content.ContentResult;
 import com.atex.onecms.content.ContentVersionId;
 import com.atex.onecms.content.ContentWrite;
@@ -28,6 +28,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -51,11 +52,11 @@ public class FeedContentCreator {
     private static final String DIMENSION_TAG = "dimension.Tag";
     private static final String DIMENSION_LOCATION = "dimension.Location";
 
-    private final ContentManager contentManager;
+    private final LocalContentManager contentManager;
     private final FileService fileService;
     private final IntegrationProperties properties;
 
-    public FeedContentCreator(ContentManager contentManager,
+    public FeedContentCreator(LocalContentManager contentManager,
                                FileService fileService,
                                IntegrationProperties properties) {
         this.contentManager = contentManager;
@@ -69,6 +70,51 @@ public class FeedContentCreator {
      * @return the content ID of the created article
      */
     public ContentId createArticle(WireArticle article, String securityParent) {
+        ContentWrite<OneArticleBean> content = buildArticle(article, resolveParent(securityParent));
+        ContentResult<OneArticleBean> cr = contentManager.create(content, SYSTEM_SUBJECT);
+        if (!cr.getStatus().isOk()) {
+            LOG.warning("Failed to create article: " + cr.getStatus());
+            return null;
+        }
+
+        LOG.info("Created wire article: " + cr.getContentId().getContentId()
+            + " headline=" + article.getHeadline());
+        return cr.getContentId().getContentId();
+    }
+
+    /**
+     * Create several articles, e.g. all articles of one feed file, with a single batch write.
+     *
+     * @return the content IDs of the created articles, in order; null for articles that failed
+     */
+    public List<ContentId> createArticles(List<WireArticle> articles, String securityParent) {
+        if (articles.size() == 1) {
+            return Collections.singletonList(createArticle(articles.getFirst(), securityParent));
+        }
+
+        ContentId parentId = resolveParent(securityParent);
+        List<LocalContentManager.BatchWrite> writes = new ArrayList<>(articles.size());
+        for (WireArticle article : articles) {
+            writes.add(LocalContentManager.BatchWrite.create(buildArticle(article, parentId)));
+        }
+
+        List<LocalContentManager.BatchResult> results = contentManager.writeBatch(writes, SYSTEM_SUBJECT);
+        List<ContentId> ids = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            LocalContentManager.BatchResult result = results.get(i);
+            if (!result.status().isOk()) {
+                LOG.warning("Failed to create article: " + result.status() + " " + result.message());
+                ids.add(null);
+                continue;
+            }
+            ContentId id = result.versionId().getContentId();
+            LOG.info("Created wire article: " + id + " headline=" + articles.get(i).getHeadline());
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private ContentWrite<OneArticleBean> buildArticle(WireArticle article, ContentId parentId) {
         OneArticleBean bean = new OneArticleBean();
         bean.setHeadline(new StructuredText(article.getHeadline()));
         if (article.getLead() != null) {
@@ -91,8 +137,6 @@ public class FeedContentCreator {
         cwb.type(OneArticleBean.ASPECT_NAME);
 
         // p.InsertionInfo
-        ContentId parentId = resolveSecurityParent(
-            securityParent != null ? securityParent : properties.getDefaultSecurityParent());
         if (parentId != null) {
             cwb.aspect("p.InsertionInfo", new InsertionInfoAspectBean(parentId));
         }
@@ -100,16 +144,7 @@ public class FeedContentCreator {
         // atex.Metadata
         cwb.aspect("atex.Metadata", buildMetadata(article.getTags(), article.getLocations()));
 
-        ContentWrite<OneArticleBean> content = cwb.buildCreate();
-        ContentResult<OneArticleBean> cr = contentManager.create(content, SYSTEM_SUBJECT);
-        if (!cr.getStatus().isOk()) {
-            LOG.warning("Failed to create article: " + cr.getStatus());
-            return null;
-        }
-
-        LOG.info("Created wire article: " + cr.getContentId().getContentId()
-            + " headline=" + article.getHeadline());
-        return cr.getContentId().getContentId();
+        return cwb.buildCreate();
     }
 
     /**
@@ -214,6 +249,11 @@ public class FeedContentCreator {
         return new Dimension(id, id, false, entities);
     }
 
+    private ContentId resolveParent(String securityParent) {
+        return resolveSecurityParent(
+            securityParent != null ? securityParent : properties.getDefaultSecurityParent());
+    }
+
     private ContentId resolveSecurityParent(String externalId) {
         try {
             ContentVersionId vid = contentManager.resolve(externalId, SYSTEM_SUBJECT);
@@ -4,54 +4,97 @@ import com.atex.desk.integration.config.IntegrationProperties;
 import com.atex.desk.integration.config.IntegrationProperties.FeedSourceConfig;
 import com.atex.desk.integration.feed.parser.WireArticleParser;
 import com.atex.desk.integration.feed.parser.WireImageParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Polls configured feed directories for new files and processes them.
+ * Watches configured feed directories for new files and processes them.
  * Replaces Camel file-based routes from the legacy server-integration.
  *
  * <p>Each configured feed source (in {@code desk.integration.feeds.*}) specifies:
  * <ul>
- *   <li>directory to poll</li>
+ *   <li>directory to watch</li>
  *   <li>parser class (article or image)</li>
  *   <li>target partition and security parent</li>
+ *   <li>worker pool size and queue capacity</li>
  * </ul>
  *
- * <p>Files are processed, then moved to backup (success) or error (failure) directories.
- * File stability is checked before processing to avoid reading partially-written files.
+ * <p>With {@code desk.integration.watch-feeds} (the default) new files are picked up from
+ * {@link WatchService} events as they arrive. The directories are still listed every
+ * {@code poll-interval-ms}, which catches events the watch service cannot deliver (overflow,
+ * network file systems) and is the only source of files when watching is off or unavailable.
+ *
+ * <p>A file is handed over once it has been unchanged for {@code file-stability-delay-ms}, so
+ * partially-written files are not read. Each feed parses and creates content on its own bounded
+ * pool of {@code thread-pool-size} workers; when the queue is full, files wait in the directory.
+ * Files are processed, then moved to backup (success) or error (failure) directories.
+ *
+ * <p>Exports, tagged by feed: {@code desk.integration.feed.backlog} (files seen but not yet
+ * processed), {@code desk.integration.feed.latency} (file written to content created),
+ * {@code desk.integration.feed.processing} (parse and create time) and
+ * {@code desk.integration.feed.files} (files processed), both tagged by outcome.
  */
 @Component
 public class FeedPoller {
 
     private static final Logger LOG = Logger.getLogger(FeedPoller.class.getName());
 
+    /** How often the watcher thread hands over files that have become stable. */
+    private static final long WATCH_TICK_MS = 500;
+
     private final IntegrationProperties properties;
     private final FeedContentCreator contentCreator;
+    private final MeterRegistry meterRegistry;
 
-    /** Tracks file sizes for stability detection. */
-    private final Map<String, Long> fileSizeTracker = new ConcurrentHashMap<>();
+    /** Enabled feeds keyed by feed name. */
+    private final Map<String, FeedWorker> workers = new LinkedHashMap<>();
 
-    /** Cached parser instances keyed by class name. */
+    /** Cached parser instances keyed by class name, shared by the workers of a feed. */
     private final Map<String, Object> parserCache = new ConcurrentHashMap<>();
 
-    public FeedPoller(IntegrationProperties properties, FeedContentCreator contentCreator) {
+    private final Map<WatchKey, FeedWorker> watchKeys = new ConcurrentHashMap<>();
+    private volatile WatchService watchService;
+    private Thread watcher;
+
+    public FeedPoller(IntegrationProperties properties, FeedContentCreator contentCreator,
+                      MeterRegistry meterRegistry) {
         this.properties = properties;
         this.contentCreator = contentCreator;
+        this.meterRegistry = meterRegistry;
     }
 
     @PostConstruct
@@ -71,66 +114,341 @@ public class FeedPoller {
         } catch (IOException e) {
             LOG.log(Level.WARNING, "Could not create backup/error directories", e);
         }
+
+        for (Map.Entry<String, FeedSourceConfig> entry : feeds.entrySet()) {
+            if (!entry.getValue().isEnabled()) continue;
+            if (entry.getValue().getDirectory() == null) {
+                LOG.warning("No directory configured for feed " + entry.getKey());
+                continue;
+            }
+            workers.put(entry.getKey(), new FeedWorker(entry.getKey(), entry.getValue()));
+        }
+
+        if (properties.isWatchFeeds() && !workers.isEmpty()) {
+            startWatching();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        WatchService ws = watchService;
+        watchService = null;
+        if (ws != null) {
+            try {
+                ws.close();
+            } catch (IOException e) {
+                LOG.log(Level.FINE, "Error closing watch service", e);
+            }
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+        // Files still queued stay in the feed directory and are picked up after a restart
+        for (FeedWorker worker : workers.values()) {
+            worker.pool.shutdown();
+        }
+        for (FeedWorker worker : workers.values()) {
+            try {
+                if (!worker.pool.awaitTermination(10, TimeUnit.SECONDS)) {
+                    worker.pool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                worker.pool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     /**
-     * Polls all configured feed directories on a fixed interval.
+     * Lists all configured feed directories on a fixed interval. When watching, this only
+     * reconciles files the watch service missed.
      */
     @Scheduled(fixedDelayString = "${desk.integration.poll-interval-ms:10000}",
                initialDelayString = "${desk.integration.poll-initial-delay-ms:5000}")
     public void poll() {
-        for (Map.Entry<String, FeedSourceConfig> entry : properties.getFeeds().entrySet()) {
-            String feedName = entry.getKey();
-            FeedSourceConfig config = entry.getValue();
-            if (!config.isEnabled()) continue;
-
+        for (FeedWorker worker : workers.values()) {
             try {
-                pollFeed(feedName, config);
+                if (watchService != null && worker.watchKey == null) {
+                    register(worker);
+                }
+                worker.scan();
+                worker.dispatchStable();
             } catch (Exception e) {
-                LOG.log(Level.WARNING, "Error polling feed: " + feedName, e);
+                LOG.log(Level.WARNING, "Error polling feed: " + worker.name, e);
             }
         }
     }
 
-    private void pollFeed(String feedName, FeedSourceConfig config) {
-        File dir = new File(config.getDirectory());
-        if (!dir.isDirectory()) {
-            LOG.fine(() -> "Feed directory does not exist: " + dir);
+    // ========================
+    // Directory watching
+    // ========================
+
+    private void startWatching() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.log(Level.WARNING, "File watching unavailable, feed directories will be polled", e);
             return;
         }
+        for (FeedWorker worker : workers.values()) {
+            register(worker);
+        }
+        watcher = Thread.ofPlatform().name("feed-watcher").daemon(true).start(this::watchLoop);
+    }
 
-        File[] files = dir.listFiles(f -> f.isFile() && !f.isHidden()
-            && !f.getName().endsWith(".properties") && !f.getName().startsWith("."));
-        if (files == null || files.length == 0) return;
+    /**
+     * Start watching a feed directory. Directories that do not exist yet are retried on each poll.
+     */
+    private void register(FeedWorker worker) {
+        WatchService ws = watchService;
+        if (ws == null || !Files.isDirectory(worker.dir)) return;
+        try {
+            WatchKey key = worker.dir.register(ws,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchKeys.put(key, worker);
+            worker.watchKey = key;
+            LOG.info("Watching feed " + worker.name + " in " + worker.dir);
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOG.log(Level.WARNING, "Cannot watch " + worker.dir + ", feed " + worker.name
+                + " will be polled", e);
+        }
+    }
 
-        // Sort by modification time (oldest first)
-        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+    private void watchLoop() {
+        while (true) {
+            WatchService ws = watchService;
+            if (ws == null) return;
+            try {
+                WatchKey key = ws.poll(WATCH_TICK_MS, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    handleEvents(key);
+                }
+                for (FeedWorker worker : workers.values()) {
+                    worker.dispatchStable();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (Exception e) {
+                LOG.log(Level.WARNING, "Error handling feed directory events", e);
+            }
+        }
+    }
+
+    private void handleEvents(WatchKey key) {
+        FeedWorker worker = watchKeys.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (worker == null) continue;
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost: list the directory instead
+                worker.scan();
+            } else {
+                worker.observe(worker.dir.resolve((Path) event.context()));
+            }
+        }
+        if (!key.reset()) {
+            // Directory deleted or no longer accessible; re-registered by the next poll
+            watchKeys.remove(key);
+            if (worker != null) {
+                worker.watchKey = null;
+            }
+        }
+    }
 
-        int processed = 0;
-        for (File file : files) {
-            if (processed >= properties.getMaxFilesPerPoll()) break;
+    // ========================
+    // Per-feed processing
+    // ========================
 
-            // File stability check: skip if file size is still changing
-            if (!isFileStable(file)) {
-                LOG.fine(() -> "File not stable yet: " + file.getName());
-                continue;
+    /**
+     * Size and modification time of a file when first seen with them.
+     * <p>
+     * Stability is measured from that first sighting, not from the file's mtime:
+     * copies that preserve an old mtime must still sit unchanged for the delay.
+     */
+    private record Candidate(long size, long modified, long seenAtNanos) {
+
+        boolean isStable(long delayMs) {
+            return System.nanoTime() - seenAtNanos >= TimeUnit.MILLISECONDS.toNanos(delayMs);
+        }
+    }
+
+    /**
+     * The files and worker pool of one feed.
+     */
+    private final class FeedWorker {
+
+        final String name;
+        final FeedSourceConfig config;
+        final Path dir;
+        final ThreadPoolExecutor pool;
+
+        /** Files seen in the directory but not handed to the pool yet. */
+        final Map<Path, Candidate> candidates = new ConcurrentHashMap<>();
+
+        /** Files queued or being processed. */
+        final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+
+        volatile WatchKey watchKey;
+
+        final Timer latency;
+        final Counter succeeded;
+        final Counter failed;
+
+        FeedWorker(String name, FeedSourceConfig config) {
+            this.name = name;
+            this.config = config;
+            this.dir = Path.of(config.getDirectory());
+            int threads = Math.max(1, config.getThreadPoolSize());
+            this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                Thread.ofPlatform().name("feed-" + name + "-", 0).daemon(true).factory());
+
+            Gauge.builder("desk.integration.feed.backlog", this,
+                    w -> w.candidates.size() + w.inFlight.size())
+                .description("Files in the feed directory not yet processed")
+                .tag("feed", name)
+                .register(meterRegistry);
+            this.latency = Timer.builder("desk.integration.feed.latency")
+                .description("Time from a feed file being written to its content being created")
+                .tag("feed", name)
+                .register(meterRegistry);
+            this.succeeded = processingCounter("success");
+            this.failed = processingCounter("failure");
+        }
+
+        private Counter processingCounter(String outcome) {
+            return Counter.builder("desk.integration.feed.files")
+                .description("Feed files processed")
+                .tag("feed", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+        }
+
+        /**
+         * Record every file currently in the directory.
+         */
+        void scan() {
+            if (!Files.isDirectory(dir)) {
+                LOG.fine(() -> "Feed directory does not exist: " + dir);
+                return;
             }
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+                for (Path file : files) {
+                    observe(file);
+                }
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Cannot list feed directory " + dir, e);
+            }
+        }
 
+        /**
+         * Record a file as a candidate, restarting its stability period if it has changed.
+         */
+        void observe(Path file) {
+            String fileName = file.getFileName().toString();
+            if (fileName.startsWith(".") || fileName.endsWith(".properties")) return;
+            if (inFlight.contains(file)) return;
+
+            BasicFileAttributes attrs = attributes(file);
+            if (attrs == null || !attrs.isRegularFile()) {
+                candidates.remove(file);
+                return;
+            }
+            long size = attrs.size();
+            long modified = attrs.lastModifiedTime().toMillis();
+            candidates.compute(file, (f, previous) ->
+                previous != null && previous.size() == size && previous.modified() == modified
+                    ? previous : new Candidate(size, modified, System.nanoTime()));
+        }
+
+        /**
+         * Hand stable candidates to the pool, oldest first, as long as its queue has room.
+         */
+        synchronized void dispatchStable() {
+            if (candidates.isEmpty()) return;
+            long delay = properties.getFileStabilityDelayMs();
+
+            List<Map.Entry<Path, Candidate>> ready = new ArrayList<>();
+            for (Map.Entry<Path, Candidate> entry : candidates.entrySet()) {
+                if (entry.getValue().isStable(delay)) {
+                    ready.add(entry);
+                }
+            }
+            ready.sort(Comparator.comparingLong(e -> e.getValue().modified()));
+
+            int queued = 0;
+            for (Map.Entry<Path, Candidate> entry : ready) {
+                if (queued >= properties.getMaxFilesPerPoll()) break;
+                Path file = entry.getKey();
+                Candidate candidate = entry.getValue();
+
+                if (!inFlight.add(file)) {
+                    candidates.remove(file);
+                    continue;
+                }
+                // Check again right before handing over, in case the file changed unnoticed
+                BasicFileAttributes attrs = attributes(file);
+                if (attrs == null || attrs.size() != candidate.size()
+                        || attrs.lastModifiedTime().toMillis() != candidate.modified()) {
+                    inFlight.remove(file);
+                    observe(file);
+                    continue;
+                }
+                candidates.remove(file);
+                try {
+                    pool.execute(() -> process(file, candidate));
+                    queued++;
+                } catch (RejectedExecutionException e) {
+                    // Queue full (or shutting down): leave the rest for the next round
+                    inFlight.remove(file);
+                    candidates.put(file, candidate);
+                    break;
+                }
+            }
+            if (queued > 0) {
+                int count = queued;
+                LOG.fine(() -> "Feed " + name + ": queued " + count + " file(s)");
+            }
+        }
+
+        private void process(Path file, Candidate candidate) {
+            long start = System.nanoTime();
+            boolean ok = false;
             try {
-                processFile(feedName, config, file);
-                moveToBackup(file, feedName);
-                processed++;
+                processFile(name, config, file.toFile());
+                ok = true;
             } catch (Exception e) {
-                LOG.log(Level.WARNING, "Failed to process " + file.getName()
-                    + " from feed " + feedName, e);
-                moveToError(file, feedName);
+                LOG.log(Level.WARNING, "Failed to process " + file.getFileName()
+                    + " from feed " + name, e);
             } finally {
-                fileSizeTracker.remove(file.getAbsolutePath());
+                if (ok) {
+                    moveToBackup(file.toFile(), name);
+                    latency.record(Math.max(0, System.currentTimeMillis() - candidate.modified()),
+                        TimeUnit.MILLISECONDS);
+                    succeeded.increment();
+                } else {
+                    moveToError(file.toFile(), name);
+                    failed.increment();
+                }
+                Timer.builder("desk.integration.feed.processing")
+                    .description("Time to parse a feed file and create its content")
+                    .tag("feed", name)
+                    .tag("outcome", ok ? "success" : "failure")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                candidates.remove(file);
+                inFlight.remove(file);
             }
         }
+    }
 
-        if (processed > 0) {
-            LOG.info("Feed " + feedName + ": processed " + processed + " file(s)");
+    private static BasicFileAttributes attributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            LOG.log(Level.FINE, "Cannot read attributes of " + file, e);
+            return null;
         }
     }
 
@@ -158,23 +476,12 @@ public class FeedPoller {
             // Default: article
             WireArticleParser parser = (WireArticleParser) getParser(config.getParserClass());
             List<WireArticle> articles = parser.parseArticles(file, config.getEncoding());
-
-            for (WireArticle article : articles) {
-                contentCreator.createArticle(article, config.getSecurityParent());
+            if (!articles.isEmpty()) {
+                contentCreator.createArticles(articles, config.getSecurityParent());
             }
         }
     }
 
-    /**
-     * Check file stability: file must have the same size on two consecutive polls.
-     */
-    private boolean isFileStable(File file) {
-        String key = file.getAbsolutePath();
-        long currentSize = file.length();
-        Long previousSize = fileSizeTracker.put(key, currentSize);
-        return previousSize != null && previousSize == currentSize;
-    }
-
     private Object getParser(String className) throws Exception {
         if (className == null || className.isBlank()) {
             throw new IllegalArgumentException("No parser class configured");
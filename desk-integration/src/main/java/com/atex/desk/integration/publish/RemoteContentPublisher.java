@@ -1,12 +1,12 @@
 package com.atex.desk.integration.publish;
 
+import com.atex.onecms.app.dam.util.SharedHttpClients;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -15,7 +15,8 @@ import java.util.logging.Logger;
  * Ported from gong/desk ContentPublisher interface + ContentAPIPublisher.
  *
  * <p>Handles REST API calls to the remote CMS including content CRUD,
- * binary upload, and external ID resolution.
+ * binary upload, and external ID resolution. Requests go through the shared JDK client of
+ * {@link SharedHttpClients}.
  */
 public class RemoteContentPublisher {
 
@@ -23,31 +24,40 @@ public class RemoteContentPublisher {
 
     private final String baseUrl;
     private final String authToken;
-    private final HttpClient httpClient;
 
     public RemoteContentPublisher(String baseUrl, String authToken) {
         this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
         this.authToken = authToken;
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
     }
 
     /**
      * Publish binary file to remote CMS.
      */
     public String publishBinary(InputStream data, String filePath, String mimeType) throws IOException {
+        return publishBinary(data, -1, filePath, mimeType);
+    }
+
+    /**
+     * Publish binary file of known length (-1 if unknown) to remote CMS. The data is streamed
+     * to the request rather than read into memory; with a known length it is sent with a
+     * Content-Length, otherwise chunked.
+     */
+    public String publishBinary(InputStream data, long length, String filePath, String mimeType)
+            throws IOException {
         try {
-            byte[] bytes = data.readAllBytes();
+            HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.ofInputStream(() -> data);
+            if (length >= 0) {
+                body = HttpRequest.BodyPublishers.fromPublisher(body, length);
+            }
             HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl + "/file/upload"))
                 .header("X-Auth-Token", authToken)
                 .header("Content-Type", mimeType != null ? mimeType : "application/octet-stream")
                 .header("X-File-Path", filePath)
-                .POST(HttpRequest.BodyPublishers.ofByteArray(bytes))
+                .POST(body)
                 .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = SharedHttpClients.jdk().send(request, HttpResponse.BodyHandlers.ofString());
             if (response.statusCode() >= 400) {
                 throw new IOException("Binary upload failed: HTTP " + response.statusCode());
             }
@@ -92,7 +102,7 @@ public class RemoteContentPublisher {
                 .GET()
                 .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = SharedHttpClients.jdk().send(request, HttpResponse.BodyHandlers.ofString());
             if (response.statusCode() == 404) return null;
             if (response.statusCode() >= 400) {
                 throw new IOException("Resolve failed: HTTP " + response.statusCode());
@@ -126,7 +136,7 @@ public class RemoteContentPublisher {
                 .header("X-Auth-Token", authToken)
                 .GET()
                 .build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = SharedHttpClients.jdk().send(request, HttpResponse.BodyHandlers.ofString());
             if (response.statusCode() >= 400) {
                 throw new IOException("GET " + path + " failed: HTTP " + response.statusCode());
             }
@@ -144,7 +154,7 @@ public class RemoteContentPublisher {
                 .header("X-Auth-Token", authToken)
                 .DELETE()
                 .build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = SharedHttpClients.jdk().send(request, HttpResponse.BodyHandlers.ofString());
             if (response.statusCode() >= 400) {
                 throw new IOException("DELETE " + path + " failed: HTTP " + response.statusCode());
             }
@@ -164,7 +174,7 @@ public class RemoteContentPublisher {
                 .method(method, HttpRequest.BodyPublishers.ofString(jsonBody))
                 .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = SharedHttpClients.jdk().send(request, HttpResponse.BodyHandlers.ofString());
             if (response.statusCode() >= 400) {
                 LOG.warning(method + " " + path + " failed: HTTP " + response.statusCode()
                     + " body=" + response.body());
@@ -1,18 +1,35 @@
 package com.atex.desk.integration.schedule;
 
 import com.atex.desk.api.entity.ChangeListEntry;
+import com.atex.desk.api.entity.IndexerState;
 import com.atex.desk.api.repository.ChangeListRepository;
+import com.atex.desk.api.repository.IndexerStateRepository;
+import com.atex.desk.api.service.CommitIdAllocator;
 import com.atex.onecms.content.ContentManager;
 import com.atex.onecms.content.ContentResult;
 import com.atex.onecms.content.ContentVersionId;
 import com.atex.onecms.content.Subject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -26,6 +43,20 @@ import java.util.logging.Logger;
  *   <li>Cache invalidation (e.g., NGINX image cache warm-up)</li>
  *   <li>Content distribution triggers</li>
  * </ul>
+ *
+ * <p>The position in the change list is kept in the {@code indexer_state} row
+ * {@value #INDEXER_ID}, so a restart resumes where processing stopped instead of replaying
+ * the whole change list. A new row starts at the current head. Entries are read up to the
+ * change list's high-water mark ({@link CommitIdAllocator#committedUpTo()}), so the cursor never
+ * passes a commit ID whose transaction is still open on some node. They are fetched in pages of
+ * {@code batch-size}; every handler gets each page in parallel, split by content ID so the
+ * events of one content item reach a handler in commit order. The cursor advances once all
+ * handlers are done with a page, so delivery is at-least-once. A lease on the row keeps
+ * several instances from processing the same changes.
+ *
+ * <p>Exports {@code desk.integration.changes.lag} (head commit ID minus cursor),
+ * {@code desk.integration.changes.cursor}, {@code desk.integration.changes.processed} and
+ * {@code desk.integration.changes.handler.errors} (tagged by handler).
  */
 @Component
 @ConditionalOnProperty(name = "desk.integration.change-processing.enabled",
@@ -35,55 +66,157 @@ public class ChangeProcessor {
     private static final Logger LOG = Logger.getLogger(ChangeProcessor.class.getName());
     private static final Subject SYSTEM_SUBJECT = new Subject("98", null);
 
+    /** Row in {@code indexer_state} holding the cursor. */
+    static final String INDEXER_ID = "changeprocessor";
+
     private final ChangeListRepository changeListRepository;
+    private final IndexerStateRepository indexerStateRepository;
+    private final CommitIdAllocator commitIdAllocator;
     private final ContentManager contentManager;
+    private final MeterRegistry meterRegistry;
     private final List<ChangeHandler> handlers = new CopyOnWriteArrayList<>();
 
-    /** Track the last processed change ID. */
-    private int lastProcessedId = 0;
+    private final String instanceId;
+    private final int batchSize;
+    private final int maxBatchesPerTick;
+    private final int leaseSeconds;
+    private final ExecutorService dispatchPool;
+
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final AtomicLong head = new AtomicLong(-1);
+    private final Counter processed;
 
     public ChangeProcessor(ChangeListRepository changeListRepository,
-                            ContentManager contentManager) {
+                           IndexerStateRepository indexerStateRepository,
+                           CommitIdAllocator commitIdAllocator,
+                           ContentManager contentManager,
+                           MeterRegistry meterRegistry,
+                           List<ChangeHandler> changeHandlers,
+                           @Value("${desk.integration.change-processing.instance-id:#{T(java.net.InetAddress).getLocalHost().getHostName()}}") String instanceId,
+                           @Value("${desk.integration.change-processing.batch-size:500}") int batchSize,
+                           @Value("${desk.integration.change-processing.max-batches-per-tick:20}") int maxBatchesPerTick,
+                           @Value("${desk.integration.change-processing.lease-seconds:60}") int leaseSeconds,
+                           @Value("${desk.integration.change-processing.dispatch-threads:4}") int dispatchThreads) {
         this.changeListRepository = changeListRepository;
+        this.indexerStateRepository = indexerStateRepository;
+        this.commitIdAllocator = commitIdAllocator;
         this.contentManager = contentManager;
+        this.meterRegistry = meterRegistry;
+        this.instanceId = instanceId;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerTick = Math.max(1, maxBatchesPerTick);
+        this.leaseSeconds = leaseSeconds;
+        this.dispatchPool = Executors.newFixedThreadPool(Math.max(1, dispatchThreads),
+            Thread.ofPlatform().name("change-dispatch-", 0).daemon(true).factory());
+
+        Gauge.builder("desk.integration.changes.lag", this, p -> p.lag())
+            .description("Change list entries not yet dispatched (head commit ID minus cursor)")
+            .register(meterRegistry);
+        Gauge.builder("desk.integration.changes.cursor", cursor, AtomicLong::get)
+            .description("Last change list ID dispatched to all handlers")
+            .register(meterRegistry);
+        this.processed = Counter.builder("desk.integration.changes.processed")
+            .description("Change list entries dispatched")
+            .register(meterRegistry);
+
+        changeHandlers.forEach(this::registerHandler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchPool.shutdownNow();
     }
 
     /**
      * Register a handler to be notified of content changes.
      */
     public void registerHandler(ChangeHandler handler) {
+        if (handlers.contains(handler)) return;
         handlers.add(handler);
         LOG.info("Registered change handler: " + handler.getClass().getSimpleName());
     }
 
+    /**
+     * Head commit ID minus cursor, or NaN before the first poll.
+     */
+    double lag() {
+        long c = cursor.get();
+        long h = head.get();
+        return c < 0 || h < 0 ? Double.NaN : Math.max(0, h - c);
+    }
+
     @Scheduled(fixedDelayString = "${desk.integration.change-processing.interval-ms:5000}",
                initialDelayString = "${desk.integration.change-processing.initial-delay-ms:10000}")
     public void processChanges() {
         if (handlers.isEmpty()) return;
 
         try {
-            List<ChangeListEntry> entries =
-                changeListRepository.findByIdGreaterThanOrderByIdAsc(lastProcessedId);
-            if (entries.isEmpty()) return;
-
-            for (ChangeListEntry entry : entries) {
-                try {
-                    dispatchChange(entry);
-                } catch (Exception e) {
-                    LOG.log(Level.WARNING, "Error processing change " + entry.getId(), e);
-                }
-                lastProcessedId = entry.getId();
-            }
+            head.set(Math.min(commitIdAllocator.committedUpTo(), changeListRepository.findMaxId().orElse(0)));
 
-            LOG.fine(() -> "Processed " + entries.size() + " change(s), last ID: " + lastProcessedId);
+            IndexerState state = loadState();
+            cursor.set(state.getLastCursor());
+            if ("PAUSED".equals(state.getStatus())) return;
+            if (!acquireLease(state)) return;
 
+            try {
+                for (int batch = 0; batch < maxBatchesPerTick; batch++) {
+                    if (!processBatch(state)) break;
+                }
+            } finally {
+                releaseLease(state);
+            }
         } catch (Exception e) {
             LOG.log(Level.WARNING, "Error polling change list", e);
         }
     }
 
-    private void dispatchChange(ChangeListEntry entry) {
-        ChangeEvent event = new ChangeEvent(
+    /**
+     * Dispatch the next page of changes and advance the cursor past it.
+     *
+     * @return true if the page was full, so more changes may be waiting
+     */
+    private boolean processBatch(IndexerState state) throws InterruptedException {
+        long from = state.getLastCursor();
+        long upTo = head.get();
+        if (upTo <= from) return false;
+        List<ChangeListEntry> entries = changeListRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+            (int) from, (int) upTo, Limit.of(batchSize));
+        if (entries.isEmpty()) return false;
+
+        // Split by content ID, keeping commit order within each content item
+        Map<String, List<ChangeEvent>> byContent = new LinkedHashMap<>();
+        for (ChangeListEntry entry : entries) {
+            byContent.computeIfAbsent(entry.getContentid(), k -> new ArrayList<>()).add(toEvent(entry));
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (ChangeHandler handler : handlers) {
+            for (List<ChangeEvent> events : byContent.values()) {
+                tasks.add(() -> {
+                    for (ChangeEvent event : events) {
+                        dispatchChange(handler, event);
+                    }
+                    return null;
+                });
+            }
+        }
+        dispatchPool.invokeAll(tasks);
+
+        int last = entries.getLast().getId();
+        state.setLastCursor(last);
+        state.setProcessedItems(state.getProcessedItems() + entries.size());
+        state.setUpdatedAt(Instant.now());
+        state.setLockedAt(Instant.now()); // renew the lease with each page
+        indexerStateRepository.save(state);
+        cursor.set(last);
+        processed.increment(entries.size());
+
+        LOG.fine(() -> "Processed " + entries.size() + " change(s), last ID: " + last);
+        return entries.size() == batchSize;
+    }
+
+    private ChangeEvent toEvent(ChangeListEntry entry) {
+        return new ChangeEvent(
             entry.getContentid(),
             entry.getContenttype(),
             entry.getEventtype(),
@@ -91,17 +224,67 @@ public class ChangeProcessor {
             entry.getAttrInputTemplate(),
             entry.getAttrPartition()
         );
+    }
 
-        for (ChangeHandler handler : handlers) {
-            try {
-                if (handler.accepts(event)) {
-                    handler.handle(event);
-                }
-            } catch (Exception e) {
-                LOG.log(Level.WARNING, "Handler " + handler.getClass().getSimpleName()
-                    + " failed for " + entry.getContentid(), e);
+    private void dispatchChange(ChangeHandler handler, ChangeEvent event) {
+        try {
+            if (handler.accepts(event)) {
+                handler.handle(event);
+            }
+        } catch (Exception e) {
+            meterRegistry.counter("desk.integration.changes.handler.errors",
+                "handler", handler.getClass().getSimpleName()).increment();
+            LOG.log(Level.WARNING, "Handler " + handler.getClass().getSimpleName()
+                + " failed for " + event.contentId(), e);
+        }
+    }
+
+    // ========================
+    // Cursor and lease
+    // ========================
+
+    /**
+     * The cursor row, created at the current head on first use so that enabling change
+     * processing does not replay the existing change list.
+     */
+    private IndexerState loadState() {
+        return indexerStateRepository.findByIndexerId(INDEXER_ID).orElseGet(() -> {
+            Instant now = Instant.now();
+            IndexerState state = new IndexerState();
+            state.setIndexerId(INDEXER_ID);
+            state.setJobType("LIVE");
+            state.setStatus("RUNNING");
+            state.setLastCursor(head.get());
+            state.setCreatedAt(now);
+            state.setUpdatedAt(now);
+            LOG.info("Change processor starting at change list ID " + head.get());
+            return indexerStateRepository.save(state);
+        });
+    }
+
+    private boolean acquireLease(IndexerState state) {
+        Instant now = Instant.now();
+
+        if (state.getLockedBy() != null && state.getLockedAt() != null
+                && !instanceId.equals(state.getLockedBy())) {
+            long elapsed = now.getEpochSecond() - state.getLockedAt().getEpochSecond();
+            if (elapsed < leaseSeconds) {
+                // Lease is held by another instance and not expired
+                return false;
             }
         }
+
+        state.setLockedBy(instanceId);
+        state.setLockedAt(now);
+        indexerStateRepository.save(state);
+        return true;
+    }
+
+    private void releaseLease(IndexerState state) {
+        state.setLockedBy(null);
+        state.setLockedAt(null);
+        state.setUpdatedAt(Instant.now());
+        indexerStateRepository.save(state);
     }
 
     /**
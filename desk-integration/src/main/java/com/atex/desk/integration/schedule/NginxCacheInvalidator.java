@@ -1,14 +1,31 @@
 package com.atex.desk.integration.schedule;
 
+import com.atex.onecms.app.dam.util.SharedHttpClients;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -18,6 +35,27 @@ import java.util.logging.Logger;
  *
  * <p>Sends HTTP PURGE requests to NGINX cache when content is updated
  * or deleted, to ensure the CDN/cache serves fresh content.
+ *
+ * <p>Handling a change only queues its content ID, so a slow cache tier never holds up the
+ * other change handlers. Every {@code coalesce-ms} the queued IDs are purged: an ID changed
+ * several times within the window is purged once. Purges go out asynchronously over the shared
+ * keep-alive client ({@link SharedHttpClients#jdk()}), at most {@code max-in-flight} at a time,
+ * and failed ones (errors and 5xx responses) are retried with exponential backoff up to
+ * {@code max-attempts} times. A 404 means the URL was not cached and counts as success.
+ *
+ * <p>How a window of IDs becomes requests:
+ * <ul>
+ *   <li>by default, one PURGE per configured path and content ID;</li>
+ *   <li>with {@code batch-size} above 1, one PURGE per path for up to that many IDs, listed in
+ *       the {@code batch-header} request header, for purge endpoints that take several keys;</li>
+ *   <li>when a window holds at least {@code wildcard-threshold} IDs, one wildcard PURGE per
+ *       path ({@code <path>*}, as supported by ngx_cache_purge), instead of purging each ID.</li>
+ * </ul>
+ *
+ * <p>Exports {@code desk.integration.nginx.purge.queue} (IDs waiting plus purges waiting for a
+ * retry), {@code desk.integration.nginx.purge.in-flight},
+ * {@code desk.integration.nginx.purge.latency} (tagged by outcome) and
+ * {@code desk.integration.nginx.purge.coalesced}.
  */
 @Component
 @ConditionalOnProperty(name = "desk.integration.nginx-cache.enabled", havingValue = "true")
@@ -25,18 +63,80 @@ public class NginxCacheInvalidator implements ChangeProcessor.ChangeHandler {
 
     private static final Logger LOG = Logger.getLogger(NginxCacheInvalidator.class.getName());
 
-    private final HttpClient httpClient;
+    /**
+     * One PURGE request: a URL, and the content IDs for batched purges.
+     */
+    private record Purge(String url, List<String> keys) {}
+
+    private final String purgeBaseUrl;
+    private final List<String> purgePaths;
+    private final long coalesceMs;
+    private final Duration timeout;
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final int batchSize;
+    private final String batchHeader;
+    private final int wildcardThreshold;
 
-    @Value("${desk.integration.nginx-cache.purge-url:http://localhost:80}")
-    private String purgeBaseUrl;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger retrying = new AtomicInteger();
+    private final Semaphore inFlight;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    private final Counter coalesced;
 
-    @Value("${desk.integration.nginx-cache.purge-paths:/content/,/api/}")
-    private String purgePaths;
+    public NginxCacheInvalidator(MeterRegistry meterRegistry,
+                                 @Value("${desk.integration.nginx-cache.purge-url:http://localhost:80}") String purgeBaseUrl,
+                                 @Value("${desk.integration.nginx-cache.purge-paths:/content/,/api/}") String purgePaths,
+                                 @Value("${desk.integration.nginx-cache.coalesce-ms:500}") long coalesceMs,
+                                 @Value("${desk.integration.nginx-cache.timeout-ms:5000}") long timeoutMs,
+                                 @Value("${desk.integration.nginx-cache.max-in-flight:16}") int maxInFlight,
+                                 @Value("${desk.integration.nginx-cache.max-attempts:3}") int maxAttempts,
+                                 @Value("${desk.integration.nginx-cache.retry-backoff-ms:1000}") long retryBackoffMs,
+                                 @Value("${desk.integration.nginx-cache.batch-size:1}") int batchSize,
+                                 @Value("${desk.integration.nginx-cache.batch-header:X-Purge-Keys}") String batchHeader,
+                                 @Value("${desk.integration.nginx-cache.wildcard-threshold:0}") int wildcardThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.purgeBaseUrl = purgeBaseUrl;
+        this.purgePaths = new ArrayList<>();
+        for (String path : purgePaths.split(",")) {
+            if (!path.isBlank()) this.purgePaths.add(path.trim());
+        }
+        this.coalesceMs = Math.max(1, coalesceMs);
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchHeader = batchHeader;
+        this.wildcardThreshold = wildcardThreshold;
+        this.inFlight = new Semaphore(this.maxInFlight);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("nginx-purge").daemon(true).factory());
+
+        Gauge.builder("desk.integration.nginx.purge.queue", this, i -> i.queued.size() + i.retrying.get())
+            .description("Content IDs waiting to be purged plus purges waiting for a retry")
+            .register(meterRegistry);
+        Gauge.builder("desk.integration.nginx.purge.in-flight", this,
+                i -> i.maxInFlight - i.inFlight.availablePermits())
+            .description("PURGE requests awaiting a response")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("desk.integration.nginx.purge.coalesced")
+            .description("Changes folded into a purge already queued for the same content ID")
+            .register(meterRegistry);
+    }
 
-    public NginxCacheInvalidator() {
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(5))
-            .build();
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, coalesceMs, coalesceMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Send what is queued; responses and retries still pending are abandoned
+        flush();
+        scheduler.shutdownNow();
     }
 
     @Override
@@ -46,22 +146,109 @@ public class NginxCacheInvalidator implements ChangeProcessor.ChangeHandler {
 
     @Override
     public void handle(ChangeProcessor.ChangeEvent event) {
-        for (String path : purgePaths.split(",")) {
-            String purgeUrl = purgeBaseUrl + path.trim() + event.contentId();
-            try {
-                HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(purgeUrl))
-                    .method("PURGE", HttpRequest.BodyPublishers.noBody())
-                    .timeout(Duration.ofSeconds(5))
-                    .build();
-
-                HttpResponse<String> response = httpClient.send(request,
-                    HttpResponse.BodyHandlers.ofString());
-                LOG.fine(() -> "NGINX purge " + purgeUrl + " -> " + response.statusCode());
-
-            } catch (Exception e) {
-                LOG.log(Level.FINE, "NGINX purge failed for " + purgeUrl, e);
+        if (!queued.add(event.contentId())) {
+            coalesced.increment();
+        }
+    }
+
+    /**
+     * Purge the content IDs queued since the last flush.
+     */
+    private void flush() {
+        if (queued.isEmpty()) return;
+        List<String> ids = new ArrayList<>();
+        for (Iterator<String> it = queued.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        try {
+            for (Purge purge : plan(ids)) {
+                send(purge, 1);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Error sending NGINX purges", e);
+        }
+    }
+
+    private List<Purge> plan(List<String> ids) {
+        List<Purge> purges = new ArrayList<>();
+        if (wildcardThreshold > 0 && ids.size() >= wildcardThreshold) {
+            LOG.fine(() -> "Purging " + ids.size() + " content IDs with wildcard purges");
+            for (String path : purgePaths) {
+                purges.add(new Purge(purgeBaseUrl + path + "*", List.of()));
+            }
+        } else if (batchSize > 1) {
+            for (String path : purgePaths) {
+                for (int i = 0; i < ids.size(); i += batchSize) {
+                    purges.add(new Purge(purgeBaseUrl + path,
+                        List.copyOf(ids.subList(i, Math.min(i + batchSize, ids.size())))));
+                }
+            }
+        } else {
+            for (String path : purgePaths) {
+                for (String id : ids) {
+                    purges.add(new Purge(purgeBaseUrl + path + id, List.of()));
+                }
+            }
+        }
+        return purges;
+    }
+
+    /**
+     * Send one purge once an in-flight slot is free; blocks the purge thread until then.
+     */
+    private void send(Purge purge, int attempt) throws InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+            .uri(URI.create(purge.url()))
+            .method("PURGE", HttpRequest.BodyPublishers.noBody())
+            .timeout(timeout);
+        if (!purge.keys().isEmpty()) {
+            builder.header(batchHeader, String.join(",", purge.keys()));
+        }
+        HttpRequest request = builder.build();
+
+        inFlight.acquire();
+        long start = System.nanoTime();
+        SharedHttpClients.jdk().sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                inFlight.release();
+                int status = response != null ? response.statusCode() : -1;
+                boolean ok = error == null && status < 500;
+                Timer.builder("desk.integration.nginx.purge.latency")
+                    .description("Time to send a PURGE request and receive the response")
+                    .tag("outcome", ok ? "success" : "failure")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (ok) {
+                    LOG.fine(() -> "NGINX purge " + purge.url() + " -> " + status);
+                } else {
+                    retry(purge, attempt, error != null ? error.toString() : "HTTP " + status);
+                }
+            });
+    }
+
+    private void retry(Purge purge, int attempt, String reason) {
+        if (attempt >= maxAttempts) {
+            LOG.warning("NGINX purge " + purge.url() + " failed after " + attempt + " attempt(s): " + reason);
+            return;
+        }
+        long delay = retryBackoffMs << Math.min(attempt - 1, 16);
+        LOG.log(Level.FINE, "NGINX purge {0} failed ({1}), retrying in {2} ms",
+            new Object[]{purge.url(), reason, delay});
+        retrying.incrementAndGet();
+        try {
+            scheduler.schedule(() -> {
+                retrying.decrementAndGet();
+                try {
+                    send(purge, attempt + 1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            retrying.decrementAndGet(); // shutting down
         }
     }
 }
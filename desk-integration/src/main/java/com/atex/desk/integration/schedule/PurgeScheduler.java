@@ -1,11 +1,14 @@
 package com.atex.desk.integration.schedule;
 
+import com.atex.desk.api.onecms.LocalContentManager;
 import com.atex.desk.integration.config.IntegrationProperties;
 import com.atex.onecms.content.ContentId;
 import com.atex.onecms.content.ContentManager;
 import com.atex.onecms.content.ContentVersionId;
 import com.atex.onecms.content.ContentWriteBuilder;
+import com.atex.onecms.content.IdUtil;
 import com.atex.onecms.content.InsertionInfoAspectBean;
+import com.atex.onecms.content.Status;
 import com.atex.onecms.content.Subject;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -25,7 +28,8 @@ import java.util.logging.Logger;
  * <p>Operations:
  * <ul>
  *   <li><b>Trash</b>: Moves content matching configured Solr queries to the trash partition
- *       by updating its security parent to the trash folder.</li>
+ *       by updating its security parent to the trash folder. Items are written in batches of
+ *       {@code solr-batch-size}, each stored in one transaction.</li>
  *   <li><b>Solr cleanup</b>: Removes orphaned documents from Solr that no longer exist in the DB.</li>
  * </ul>
  *
@@ -40,13 +44,16 @@ public class PurgeScheduler {
     private static final Subject SYSTEM_SUBJECT = new Subject("98", null);
 
     private final ContentManager contentManager;
+    private final LocalContentManager localContentManager;
     private final com.atex.onecms.app.dam.solr.SolrService solrService;
     private final IntegrationProperties properties;
 
     public PurgeScheduler(ContentManager contentManager,
+                           LocalContentManager localContentManager,
                            com.atex.onecms.app.dam.solr.SolrService solrService,
                            IntegrationProperties properties) {
         this.contentManager = contentManager;
+        this.localContentManager = localContentManager;
         this.solrService = solrService;
         this.properties = properties;
     }
@@ -76,14 +83,10 @@ public class PurgeScheduler {
             }
 
             int trashed = 0;
-            for (String contentIdStr : contentIds) {
-                try {
-                    moveToTrash(contentIdStr, trashParentId);
-                    trashed++;
-                } catch (Exception e) {
-                    LOG.log(Level.FINE, "Failed to trash: " + contentIdStr, e);
-                    failedIds.add(contentIdStr);
-                }
+            int batchSize = Math.max(1, config.getSolrBatchSize());
+            for (int i = 0; i < contentIds.size(); i += batchSize) {
+                List<String> batch = contentIds.subList(i, Math.min(i + batchSize, contentIds.size()));
+                trashed += moveToTrash(batch, trashParentId, failedIds);
             }
 
             LOG.info("Purge complete: trashed " + trashed + ", failed " + failedIds.size());
@@ -123,14 +126,52 @@ public class PurgeScheduler {
         }
     }
 
-    private void moveToTrash(String contentIdStr, ContentId trashParentId) throws Exception {
-        ContentVersionId vid = contentManager.resolve(contentIdStr, SYSTEM_SUBJECT);
-        if (vid == null) return;
+    /**
+     * Move a batch of content to the trash, adding the ids that could not be trashed to
+     * {@code failedIds}.
+     *
+     * @return the number of items trashed
+     */
+    private int moveToTrash(List<String> contentIdStrs, ContentId trashParentId, List<String> failedIds) {
+        List<String> batchIds = new ArrayList<>(contentIdStrs.size());
+        List<LocalContentManager.BatchWrite> writes = new ArrayList<>(contentIdStrs.size());
+        for (String contentIdStr : contentIdStrs) {
+            ContentId contentId;
+            try {
+                contentId = IdUtil.fromString(contentIdStr);
+            } catch (Exception e) {
+                LOG.log(Level.FINE, "Failed to trash: " + contentIdStr, e);
+                failedIds.add(contentIdStr);
+                continue;
+            }
+            ContentWriteBuilder<Object> builder = new ContentWriteBuilder<>();
+            builder.aspect("p.InsertionInfo", new InsertionInfoAspectBean(trashParentId));
+            batchIds.add(contentIdStr);
+            writes.add(LocalContentManager.BatchWrite.update(contentId, builder.buildUpdate()));
+        }
+        if (writes.isEmpty()) return 0;
 
-        ContentWriteBuilder<Object> builder = new ContentWriteBuilder<>();
-        builder.aspect("p.InsertionInfo", new InsertionInfoAspectBean(trashParentId));
+        List<LocalContentManager.BatchResult> results;
+        try {
+            results = localContentManager.writeBatch(writes, SYSTEM_SUBJECT);
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Failed to trash batch of " + writes.size(), e);
+            failedIds.addAll(batchIds);
+            return 0;
+        }
 
-        contentManager.update(vid.getContentId(), builder.buildUpdate(), SYSTEM_SUBJECT);
+        int trashed = 0;
+        for (int i = 0; i < results.size(); i++) {
+            LocalContentManager.BatchResult result = results.get(i);
+            if (result.status() == Status.OK) {
+                trashed++;
+            } else {
+                LOG.fine("Failed to trash " + batchIds.get(i) + ": " + result.status()
+                    + (result.message() != null ? " " + result.message() : ""));
+                failedIds.add(batchIds.get(i));
+            }
+        }
+        return trashed;
     }
 
     private ContentId resolveTrashParent(String externalId) {
@@ -0,0 +1,134 @@
+package com.atex.desk.integration.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: O(1) scheduling of deadlines at a fixed tick resolution.
+ *
+ * <p>Level 0 has one slot per tick; each higher level has slots {@value #SLOTS} times as wide
+ * as the level below. A deadline goes into the lowest level whose slot range reaches it, and
+ * entries of a higher-level slot are moved down when the wheel reaches that slot, so each
+ * entry is touched at most once per level. With 100 ms ticks the four levels cover over a
+ * decade; anything further out sits in the top level until it comes into range. Stretches in
+ * which the lower levels are empty are skipped rather than stepped through tick by tick.
+ *
+ * <p>Entries cannot be cancelled: callers check on expiry whether an entry is still current.
+ * All methods are synchronized.
+ */
+final class TimerWheel<T> {
+
+    private static final int BITS = 8;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private record Entry<T>(T item, long dueTick) {}
+
+    private final long tickMs;
+    private final List<Entry<T>>[][] wheels;
+    private final List<T> ready = new ArrayList<>();
+    /** Entries held by each level, to skip ticks on which nothing can happen. */
+    private final int[] levelSizes = new int[LEVELS];
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long tickMs, long startMs) {
+        this.tickMs = Math.max(1, tickMs);
+        this.wheels = new List[LEVELS][SLOTS];
+        this.currentTick = startMs / this.tickMs;
+    }
+
+    /**
+     * Schedule {@code item} to expire at {@code dueAtMs}. Deadlines that have already passed
+     * expire on the next {@link #advance}.
+     */
+    synchronized void add(T item, long dueAtMs) {
+        // Round up, so an entry never expires before its deadline
+        long dueTick = (dueAtMs + tickMs - 1) / tickMs;
+        insert(new Entry<>(item, dueTick));
+        size++;
+    }
+
+    /**
+     * Move the wheel forward to {@code nowMs}.
+     *
+     * @return the items whose deadline has been reached
+     */
+    synchronized List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>(ready);
+        ready.clear();
+
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            // With the lowest levels empty, nothing happens before the next slot of the first
+            // occupied level comes round, so go straight to the tick before it
+            int empty = 0;
+            while (empty < LEVELS && levelSizes[empty] == 0) empty++;
+            if (empty == LEVELS) {
+                currentTick = targetTick;
+                break;
+            }
+            if (empty > 0) {
+                long nextSlot = ((currentTick >>> (BITS * empty)) + 1) << (BITS * empty);
+                currentTick = Math.max(currentTick, Math.min(targetTick, nextSlot - 1));
+                if (currentTick == targetTick) break;
+            }
+
+            currentTick++;
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) break;
+                cascade(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+            }
+            List<Entry<T>> slot = wheels[0][(int) (currentTick & MASK)];
+            if (slot != null && !slot.isEmpty()) {
+                for (Entry<T> entry : slot) {
+                    expired.add(entry.item());
+                }
+                levelSizes[0] -= slot.size();
+                slot.clear();
+            }
+            // Entries moved down onto the current tick land in ready
+            expired.addAll(ready);
+            ready.clear();
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private void cascade(int level, int index) {
+        List<Entry<T>> slot = wheels[level][index];
+        if (slot == null || slot.isEmpty()) return;
+        wheels[level][index] = null;
+        levelSizes[level] -= slot.size();
+        for (Entry<T> entry : slot) {
+            insert(entry);
+        }
+    }
+
+    private void insert(Entry<T> entry) {
+        if (entry.dueTick() <= currentTick) {
+            ready.add(entry.item());
+            return;
+        }
+        // The lowest level whose slots, counted from the current one, reach the deadline
+        int level = 0;
+        while (level < LEVELS - 1
+                && (entry.dueTick() >>> (BITS * level)) - (currentTick >>> (BITS * level)) >= SLOTS) {
+            level++;
+        }
+        int index = (int) ((entry.dueTick() >>> (BITS * level)) & MASK);
+        List<Entry<T>> slot = wheels[level][index];
+        if (slot == null) {
+            slot = new ArrayList<>();
+            wheels[level][index] = slot;
+        }
+        slot.add(entry);
+        levelSizes[level]++;
+    }
+}
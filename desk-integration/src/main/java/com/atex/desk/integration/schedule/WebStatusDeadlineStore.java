@@ -0,0 +1,122 @@
+package com.atex.desk.integration.schedule;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pending web status deadlines, kept in the {@code web_status_deadlines} table so that
+ * {@link WebStatusScheduler} can reload them after a restart.
+ *
+ * <p>One row per content item and transition. Rows are written when the change feed shows a
+ * deadline, and deleted once the transition has run or the deadline no longer applies.
+ */
+@Component
+@ConditionalOnProperty(name = "desk.integration.web-status.enabled", havingValue = "true")
+public class WebStatusDeadlineStore {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO web_status_deadlines (content_id, transition, due_at, attempts, updated_at) "
+        + "VALUES (:contentId, :transition, :dueAt, 0, :updatedAt) "
+        + "ON DUPLICATE KEY UPDATE attempts = IF(due_at = VALUES(due_at), attempts, 0), "
+        + "due_at = VALUES(due_at), updated_at = VALUES(updated_at)";
+
+    /**
+     * A pending transition of one content item.
+     */
+    public record Deadline(String contentId, String transition, long dueAt, int attempts) {}
+
+    private final EntityManager entityManager;
+
+    public WebStatusDeadlineStore(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    public void upsert(String contentId, String transition, long dueAt) {
+        entityManager.createNativeQuery(UPSERT_SQL)
+            .setParameter("contentId", contentId)
+            .setParameter("transition", transition)
+            .setParameter("dueAt", dueAt)
+            .setParameter("updatedAt", System.currentTimeMillis())
+            .executeUpdate();
+    }
+
+    @Transactional
+    public void delete(String contentId, String transition) {
+        entityManager.createNativeQuery(
+                "DELETE FROM web_status_deadlines WHERE content_id = :contentId AND transition = :transition")
+            .setParameter("contentId", contentId)
+            .setParameter("transition", transition)
+            .executeUpdate();
+    }
+
+    /**
+     * Delete every deadline of a content item.
+     */
+    @Transactional
+    public void deleteAll(String contentId) {
+        entityManager.createNativeQuery("DELETE FROM web_status_deadlines WHERE content_id = :contentId")
+            .setParameter("contentId", contentId)
+            .executeUpdate();
+    }
+
+    /**
+     * Delete a deadline once its transition has run, unless it has been moved meanwhile.
+     */
+    @Transactional
+    public void complete(Deadline deadline) {
+        entityManager.createNativeQuery(
+                "DELETE FROM web_status_deadlines WHERE content_id = :contentId "
+                + "AND transition = :transition AND due_at = :dueAt")
+            .setParameter("contentId", deadline.contentId())
+            .setParameter("transition", deadline.transition())
+            .setParameter("dueAt", deadline.dueAt())
+            .executeUpdate();
+    }
+
+    /**
+     * Move a failed deadline to {@code retryAt} and count the attempt, unless the deadline has
+     * been moved meanwhile.
+     *
+     * @return true if the row was updated
+     */
+    @Transactional
+    public boolean retry(Deadline deadline, long retryAt) {
+        return entityManager.createNativeQuery(
+                "UPDATE web_status_deadlines SET due_at = :retryAt, attempts = attempts + 1, "
+                + "updated_at = :updatedAt WHERE content_id = :contentId "
+                + "AND transition = :transition AND due_at = :dueAt")
+            .setParameter("retryAt", retryAt)
+            .setParameter("updatedAt", System.currentTimeMillis())
+            .setParameter("contentId", deadline.contentId())
+            .setParameter("transition", deadline.transition())
+            .setParameter("dueAt", deadline.dueAt())
+            .executeUpdate() > 0;
+    }
+
+    /**
+     * @return the deadlines due before {@code until}, earliest first
+     */
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<Deadline> findDueBefore(long until, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT content_id, transition, due_at, attempts FROM web_status_deadlines "
+                + "WHERE due_at < :until ORDER BY due_at")
+            .setParameter("until", until)
+            .setMaxResults(limit)
+            .getResultList();
+
+        List<Deadline> deadlines = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            deadlines.add(new Deadline((String) row[0], (String) row[1],
+                ((Number) row[2]).longValue(), ((Number) row[3]).intValue()));
+        }
+        return deadlines;
+    }
+}
@@ -1,13 +1,29 @@
 package com.atex.desk.integration.schedule;
 
+import com.atex.desk.api.onecms.LocalContentManager;
+import com.atex.onecms.app.dam.standard.aspects.DamAudioAspectBean;
+import com.atex.onecms.app.dam.standard.aspects.DamCollectionAspectBean;
+import com.atex.onecms.app.dam.standard.aspects.DamVideoAspectBean;
+import com.atex.onecms.app.dam.standard.aspects.LiveBlogArticleBean;
+import com.atex.onecms.app.dam.standard.aspects.OneArticleBean;
 import com.atex.onecms.app.dam.workflow.WFContentStatusAspectBean;
 import com.atex.onecms.app.dam.workflow.WFStatusBean;
-import com.atex.onecms.content.ContentId;
+import com.atex.onecms.app.dam.workflow.WebContentStatusAspectBean;
+import com.atex.onecms.content.Content;
 import com.atex.onecms.content.ContentManager;
 import com.atex.onecms.content.ContentResult;
 import com.atex.onecms.content.ContentVersionId;
 import com.atex.onecms.content.ContentWriteBuilder;
+import com.atex.onecms.content.Status;
 import com.atex.onecms.content.Subject;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -17,34 +33,79 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Scheduled task for automated web content status transitions.
+ * Automated web content status transitions.
  * Replaces the legacy Quartz2 routes: webStatusOnlineProcessor, webStatusUnPublishProcessor.
  *
- * <p>Two operations run on a 5-minute schedule:
+ * <p>Two transitions:
  * <ul>
  *   <li><b>Embargo release</b>: Content with expired embargo dates gets status changed to "online"</li>
  *   <li><b>Auto-unpublish</b>: Content with expired timeoff dates gets status changed to "offline"</li>
  * </ul>
  *
- * <p>Both query Solr for matching content, then update the WFContentStatus and
- * WebContentStatus aspects via ContentManager.
+ * <p>Deadlines come from the change feed: as a {@link ChangeProcessor.ChangeHandler} this
+ * reads the time state of each changed content item whose type has one (articles, live blogs,
+ * video, audio and collections) and keeps its pending transitions in the
+ * {@code web_status_deadlines} table. Deadlines due within {@code horizon-ms} are also held in
+ * a {@link TimerWheel}, which fires each one at its due time (to {@code tick-ms}) onto a pool of
+ * {@code worker-threads}; a burst of deadlines is split into batches of {@code batch-size} and
+ * written with {@link LocalContentManager#writeBatch}. On start-up and every
+ * {@code reload-interval-ms} the next window of deadlines is loaded from the table, so pending
+ * transitions survive a restart.
+ *
+ * <p>A transition re-checks the content before it is written: the embargo release needs the
+ * {@code attr.embargo} status attribute and time-off needs {@code attr.online}, as in the Solr
+ * queries of the legacy routes. Those queries still run on the old schedule to catch content
+ * that never went through the change feed. Failed transitions are retried after
+ * {@code retry-delay-ms}, up to {@code max-attempts} times.
+ *
+ * <p>Exports {@code desk.integration.web-status.pending} (deadlines in the timer wheel),
+ * {@code desk.integration.web-status.transitions} (tagged by transition and outcome) and
+ * {@code desk.integration.web-status.delay} (time from deadline to transition).
  */
 @Component
 @ConditionalOnProperty(name = "desk.integration.web-status.enabled", havingValue = "true")
-public class WebStatusScheduler {
+public class WebStatusScheduler implements ChangeProcessor.ChangeHandler {
 
     private static final Logger LOG = Logger.getLogger(WebStatusScheduler.class.getName());
     private static final Subject SYSTEM_SUBJECT = new Subject("98", null);
     private static final DateTimeFormatter SOLR_DATE =
         DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
 
+    static final String EMBARGO = "embargo";
+    static final String TIMEOFF = "timeoff";
+
+    /** Content types whose data carries a {@code timeState}. */
+    private static final Set<String> TIME_STATE_TYPES = Set.of(
+        OneArticleBean.ASPECT_NAME,
+        LiveBlogArticleBean.ASPECT_NAME,
+        DamVideoAspectBean.ASPECT_NAME,
+        DamAudioAspectBean.ASPECT_NAME,
+        DamCollectionAspectBean.ASPECT_NAME);
+
+    private static final String EMBARGO_STATUS_ATTRIBUTE = "attr.embargo";
+    private static final String ONLINE_STATUS_ATTRIBUTE = "attr.online";
+
     private final ContentManager contentManager;
+    private final LocalContentManager localContentManager;
     private final com.atex.onecms.app.dam.solr.SolrService solrService;
+    private final WebStatusDeadlineStore store;
+    private final MeterRegistry meterRegistry;
+    private final Gson gson = new Gson();
 
     @Value("${desk.integration.web-status.embargo-status:published}")
     private String embargoTargetStatus;
@@ -58,12 +119,314 @@ public class WebStatusScheduler {
     @Value("${desk.integration.web-status.timeoff-attribute:attr.offline}")
     private String timeoffAttribute;
 
+    private final long tickMs;
+    private final long horizonMs;
+    private final long retryDelayMs;
+    private final int maxAttempts;
+    private final int batchSize;
+
+    private final TimerWheel<WebStatusDeadlineStore.Deadline> wheel;
+    /** Due time of each deadline in the wheel, by {@link #key}; entries that differ are stale. */
+    private final Map<String, Long> scheduled = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private volatile Thread timer;
+
     public WebStatusScheduler(ContentManager contentManager,
-                               com.atex.onecms.app.dam.solr.SolrService solrService) {
+                               LocalContentManager localContentManager,
+                               com.atex.onecms.app.dam.solr.SolrService solrService,
+                               WebStatusDeadlineStore store,
+                               MeterRegistry meterRegistry,
+                               @Value("${desk.integration.web-status.tick-ms:100}") long tickMs,
+                               @Value("${desk.integration.web-status.horizon-ms:3600000}") long horizonMs,
+                               @Value("${desk.integration.web-status.retry-delay-ms:60000}") long retryDelayMs,
+                               @Value("${desk.integration.web-status.max-attempts:5}") int maxAttempts,
+                               @Value("${desk.integration.web-status.batch-size:50}") int batchSize,
+                               @Value("${desk.integration.web-status.worker-threads:4}") int workerThreads) {
         this.contentManager = contentManager;
+        this.localContentManager = localContentManager;
         this.solrService = solrService;
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.tickMs = Math.max(1, tickMs);
+        this.horizonMs = Math.max(this.tickMs, horizonMs);
+        this.retryDelayMs = retryDelayMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.batchSize = Math.max(1, batchSize);
+        this.wheel = new TimerWheel<>(this.tickMs, System.currentTimeMillis());
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerThreads),
+            Thread.ofPlatform().name("web-status-", 0).daemon(true).factory());
+
+        Gauge.builder("desk.integration.web-status.pending", wheel, TimerWheel::size)
+            .description("Web status deadlines waiting in the timer wheel")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        timer = Thread.ofPlatform().name("web-status-timer").daemon(true).start(this::timerLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Thread t = timer;
+        timer = null;
+        if (t != null) {
+            t.interrupt();
+        }
+        // Deadlines not yet done stay in the table and are reloaded after a restart
+        workers.shutdownNow();
+    }
+
+    // ========================
+    // Change feed
+    // ========================
+
+    /**
+     * Only content types with a time state can have deadlines. A delete of unknown type is
+     * accepted too, in case it removes content that had some.
+     */
+    @Override
+    public boolean accepts(ChangeProcessor.ChangeEvent event) {
+        String type = event.contentType();
+        if (type == null || type.isEmpty()) return event.isDelete();
+        return TIME_STATE_TYPES.contains(type);
+    }
+
+    @Override
+    public void handle(ChangeProcessor.ChangeEvent event) {
+        if (event.isDelete()) {
+            scheduled.remove(key(event.contentId(), EMBARGO));
+            scheduled.remove(key(event.contentId(), TIMEOFF));
+            store.deleteAll(event.contentId());
+            return;
+        }
+        try {
+            ContentVersionId vid = contentManager.resolve(event.contentId(), SYSTEM_SUBJECT);
+            if (vid == null) return;
+            ContentResult<Object> cr = contentManager.get(vid, null, Object.class,
+                Collections.emptyMap(), SYSTEM_SUBJECT);
+            if (!cr.getStatus().isSuccess() || cr.getContent() == null) return;
+
+            Content<Object> content = cr.getContent();
+            long[] times = timeState(content);
+            Set<String> attributes = statusAttributes(content);
+            track(event.contentId(), EMBARGO, times[0], isDue(EMBARGO, attributes));
+            track(event.contentId(), TIMEOFF, times[1], isDue(TIMEOFF, attributes));
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Cannot read web status deadlines of " + event.contentId(), e);
+        }
+    }
+
+    private void track(String contentId, String transition, long dueAt, boolean applies) {
+        if (dueAt <= 0 || !applies) {
+            cancel(contentId, transition);
+            return;
+        }
+        store.upsert(contentId, transition, dueAt);
+        schedule(new WebStatusDeadlineStore.Deadline(contentId, transition, dueAt, 0));
+    }
+
+    private void cancel(String contentId, String transition) {
+        if (scheduled.remove(key(contentId, transition)) != null) {
+            LOG.fine(() -> "Cancelled " + transition + " of " + contentId);
+        }
+        store.delete(contentId, transition);
+    }
+
+    // ========================
+    // Timer wheel
+    // ========================
+
+    /**
+     * Put a deadline in the timer wheel if it falls within the horizon; later ones are picked up
+     * by {@link #reload}.
+     */
+    private void schedule(WebStatusDeadlineStore.Deadline deadline) {
+        String key = key(deadline.contentId(), deadline.transition());
+        if (deadline.dueAt() > System.currentTimeMillis() + horizonMs) {
+            scheduled.remove(key);
+            return;
+        }
+        Long previous = scheduled.put(key, deadline.dueAt());
+        if (previous == null || previous != deadline.dueAt()) {
+            wheel.add(deadline, deadline.dueAt());
+        }
+    }
+
+    /**
+     * Load the deadlines due within the horizon, including those left over from before a
+     * restart.
+     */
+    @Scheduled(fixedDelayString = "${desk.integration.web-status.reload-interval-ms:300000}")
+    public void reload() {
+        try {
+            long until = System.currentTimeMillis() + horizonMs;
+            List<WebStatusDeadlineStore.Deadline> deadlines = store.findDueBefore(until, 100_000);
+            for (WebStatusDeadlineStore.Deadline deadline : deadlines) {
+                schedule(deadline);
+            }
+            LOG.fine(() -> "Loaded " + deadlines.size() + " web status deadline(s)");
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Cannot load web status deadlines", e);
+        }
+    }
+
+    private void timerLoop() {
+        while (timer != null) {
+            try {
+                fire(wheel.advance(System.currentTimeMillis()));
+                Thread.sleep(tickMs);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                LOG.log(Level.WARNING, "Error firing web status deadlines", e);
+            }
+        }
+    }
+
+    private void fire(List<WebStatusDeadlineStore.Deadline> expired) {
+        List<WebStatusDeadlineStore.Deadline> current = new ArrayList<>(expired.size());
+        for (WebStatusDeadlineStore.Deadline deadline : expired) {
+            Long dueAt = scheduled.get(key(deadline.contentId(), deadline.transition()));
+            if (dueAt != null && dueAt == deadline.dueAt()) {
+                current.add(deadline);
+            }
+        }
+        for (int i = 0; i < current.size(); i += batchSize) {
+            List<WebStatusDeadlineStore.Deadline> batch =
+                List.copyOf(current.subList(i, Math.min(i + batchSize, current.size())));
+            try {
+                workers.execute(() -> process(batch));
+            } catch (RejectedExecutionException e) {
+                return; // shutting down
+            }
+        }
+    }
+
+    // ========================
+    // Transitions
+    // ========================
+
+    private void process(List<WebStatusDeadlineStore.Deadline> batch) {
+        List<WebStatusDeadlineStore.Deadline> pending = new ArrayList<>(batch.size());
+        List<LocalContentManager.BatchWrite> writes = new ArrayList<>(batch.size());
+        for (WebStatusDeadlineStore.Deadline deadline : batch) {
+            try {
+                LocalContentManager.BatchWrite write = prepare(deadline);
+                if (write == null) {
+                    done(deadline, "skipped");
+                } else {
+                    pending.add(deadline);
+                    writes.add(write);
+                }
+            } catch (Exception e) {
+                LOG.log(Level.WARNING, deadline.transition() + ": failed to read " + deadline.contentId(), e);
+                failed(deadline);
+            }
+        }
+        if (writes.isEmpty()) return;
+
+        List<LocalContentManager.BatchResult> results;
+        try {
+            results = localContentManager.writeBatch(writes, SYSTEM_SUBJECT);
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Failed to write " + writes.size() + " web status transition(s)", e);
+            pending.forEach(this::failed);
+            return;
+        }
+        for (int i = 0; i < results.size(); i++) {
+            WebStatusDeadlineStore.Deadline deadline = pending.get(i);
+            LocalContentManager.BatchResult result = results.get(i);
+            if (result.status().isSuccess()) {
+                done(deadline, "success");
+            } else if (result.status() == Status.NOT_FOUND) {
+                done(deadline, "skipped");
+            } else {
+                LOG.warning(deadline.transition() + ": failed to update " + deadline.contentId()
+                    + ": " + result.status() + (result.message() != null ? " " + result.message() : ""));
+                failed(deadline);
+            }
+        }
+        LOG.info("Web status: wrote " + writes.size() + " transition(s)");
+    }
+
+    /**
+     * Check that the content is still due for the transition.
+     *
+     * @return the status update, or null if the transition no longer applies
+     */
+    private LocalContentManager.BatchWrite prepare(WebStatusDeadlineStore.Deadline deadline) throws Exception {
+        ContentVersionId vid = contentManager.resolve(deadline.contentId(), SYSTEM_SUBJECT);
+        if (vid == null) return null;
+
+        ContentResult<Object> cr = contentManager.get(vid, null, Object.class,
+            Collections.emptyMap(), SYSTEM_SUBJECT);
+        if (!cr.getStatus().isSuccess() || cr.getContent() == null) return null;
+        if (!isDue(deadline.transition(), statusAttributes(cr.getContent()))) return null;
+
+        // Moved to a later time since the deadline was scheduled: the change feed reschedules it
+        boolean embargo = EMBARGO.equals(deadline.transition());
+        long[] times = timeState(cr.getContent());
+        if ((embargo ? times[0] : times[1]) > System.currentTimeMillis() + tickMs) return null;
+
+        WFStatusBean statusBean = new WFStatusBean();
+        statusBean.setName(embargo ? embargoTargetStatus : timeoffTargetStatus);
+        statusBean.clearAttributes();
+        statusBean.addAttribute(embargo ? embargoAttribute : timeoffAttribute);
+        WFContentStatusAspectBean wfAspect = new WFContentStatusAspectBean(statusBean, null);
+
+        ContentWriteBuilder<Object> builder = new ContentWriteBuilder<>();
+        builder.mainAspectData(cr.getContent().getContentData());
+        builder.type(cr.getContent().getContentDataType());
+        builder.aspect(WFContentStatusAspectBean.ASPECT_NAME, wfAspect);
+        return LocalContentManager.BatchWrite.update(vid.getContentId(), builder.buildUpdate());
     }
 
+    private void done(WebStatusDeadlineStore.Deadline deadline, String outcome) {
+        scheduled.remove(key(deadline.contentId(), deadline.transition()), deadline.dueAt());
+        try {
+            store.complete(deadline);
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Cannot remove web status deadline of " + deadline.contentId(), e);
+        }
+        record(deadline, outcome);
+    }
+
+    private void failed(WebStatusDeadlineStore.Deadline deadline) {
+        if (deadline.attempts() + 1 >= maxAttempts) {
+            LOG.warning(deadline.transition() + ": giving up on " + deadline.contentId()
+                + " after " + maxAttempts + " attempt(s)");
+            done(deadline, "failure");
+            return;
+        }
+        WebStatusDeadlineStore.Deadline retry = new WebStatusDeadlineStore.Deadline(deadline.contentId(),
+            deadline.transition(), System.currentTimeMillis() + retryDelayMs, deadline.attempts() + 1);
+        try {
+            if (store.retry(deadline, retry.dueAt())) {
+                schedule(retry);
+            }
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Cannot reschedule web status deadline of " + deadline.contentId(), e);
+        }
+        record(deadline, "retry");
+    }
+
+    private void record(WebStatusDeadlineStore.Deadline deadline, String outcome) {
+        meterRegistry.counter("desk.integration.web-status.transitions",
+            "transition", deadline.transition(), "outcome", outcome).increment();
+        if ("success".equals(outcome)) {
+            Timer.builder("desk.integration.web-status.delay")
+                .description("Time from a web status deadline to its transition")
+                .tag("transition", deadline.transition())
+                .register(meterRegistry)
+                .record(Math.max(0, System.currentTimeMillis() - deadline.dueAt()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ========================
+    // Legacy Solr sweep
+    // ========================
+
     /**
      * Release embargoed content whose embargo date has passed.
      */
@@ -72,7 +435,7 @@ public class WebStatusScheduler {
         String now = SOLR_DATE.format(Instant.now());
         String query = "web_content_status_attribute_ss:\"attr.embargo\""
             + " AND web_content_status_embargo_dt:[* TO " + now + "]";
-        processStatusChange(query, embargoTargetStatus, embargoAttribute, "embargo release");
+        sweep(query, EMBARGO);
     }
 
     /**
@@ -83,11 +446,13 @@ public class WebStatusScheduler {
         String now = SOLR_DATE.format(Instant.now());
         String query = "web_content_status_attribute_ss:\"attr.online\""
             + " AND web_content_status_timeoff_dt:[* TO " + now + "]";
-        processStatusChange(query, timeoffTargetStatus, timeoffAttribute, "timeoff");
+        sweep(query, TIMEOFF);
     }
 
-    private void processStatusChange(String queryStr, String targetStatus,
-                                      String targetAttribute, String operationName) {
+    /**
+     * Schedule the content matching a Solr query for an immediate transition.
+     */
+    private void sweep(String queryStr, String transition) {
         try {
             SolrQuery query = new SolrQuery(queryStr);
             query.setRows(500);
@@ -97,49 +462,82 @@ public class WebStatusScheduler {
             var docs = response.getResults();
             if (docs == null || docs.isEmpty()) return;
 
-            LOG.info(operationName + ": found " + docs.size() + " content item(s) to update");
-
-            int updated = 0;
+            long now = System.currentTimeMillis();
+            int added = 0;
             for (var doc : docs) {
                 String contentIdStr = (String) doc.getFieldValue("contentid");
-                if (contentIdStr == null) continue;
-
-                try {
-                    updateContentStatus(contentIdStr, targetStatus, targetAttribute);
-                    updated++;
-                } catch (Exception e) {
-                    LOG.log(Level.WARNING, operationName + ": failed to update " + contentIdStr, e);
-                }
+                if (contentIdStr == null || scheduled.containsKey(key(contentIdStr, transition))) continue;
+                store.upsert(contentIdStr, transition, now);
+                schedule(new WebStatusDeadlineStore.Deadline(contentIdStr, transition, now, 0));
+                added++;
+            }
+            if (added > 0) {
+                LOG.info(transition + ": scheduled " + added + " overdue content item(s) found in Solr");
             }
-
-            LOG.info(operationName + ": updated " + updated + " of " + docs.size() + " item(s)");
-
         } catch (Exception e) {
-            LOG.log(Level.WARNING, "Error in " + operationName + " scheduler", e);
+            LOG.log(Level.WARNING, "Error in " + transition + " sweep", e);
         }
     }
 
-    private void updateContentStatus(String contentIdStr, String targetStatus,
-                                      String targetAttribute) throws Exception {
-        ContentVersionId vid = contentManager.resolve(contentIdStr, SYSTEM_SUBJECT);
-        if (vid == null) return;
+    // ========================
+    // Content inspection
+    // ========================
 
-        ContentResult<Object> cr = contentManager.get(vid, null, Object.class,
-            Collections.emptyMap(), SYSTEM_SUBJECT);
-        if (!cr.getStatus().isSuccess()) return;
+    private static String key(String contentId, String transition) {
+        return transition + ':' + contentId;
+    }
 
-        // Update WFContentStatus
-        WFStatusBean statusBean = new WFStatusBean();
-        statusBean.setName(targetStatus);
-        statusBean.clearAttributes();
-        statusBean.addAttribute(targetAttribute);
-        WFContentStatusAspectBean wfAspect = new WFContentStatusAspectBean(statusBean, null);
+    private static boolean isDue(String transition, Set<String> attributes) {
+        return EMBARGO.equals(transition)
+            ? attributes.contains(EMBARGO_STATUS_ATTRIBUTE) && !attributes.contains(ONLINE_STATUS_ATTRIBUTE)
+            : attributes.contains(ONLINE_STATUS_ATTRIBUTE);
+    }
 
-        ContentWriteBuilder<Object> builder = new ContentWriteBuilder<>();
-        builder.mainAspectData(cr.getContent().getContentData());
-        builder.type(cr.getContent().getContentDataType());
-        builder.aspect(WFContentStatusAspectBean.ASPECT_NAME, wfAspect);
+    /**
+     * @return the on-time and off-time of the content's time state (epoch ms, 0 if unset)
+     */
+    private long[] timeState(Content<Object> content) {
+        long[] times = new long[2];
+        JsonObject data = toJsonObject(content.getContentData());
+        JsonObject timeState = data != null ? object(data, "timeState") : null;
+        if (timeState != null) {
+            times[0] = number(timeState, "ontime");
+            times[1] = number(timeState, "offtime");
+        }
+        return times;
+    }
+
+    /**
+     * The status attributes of the web and workflow status aspects.
+     */
+    private Set<String> statusAttributes(Content<Object> content) {
+        Set<String> attributes = new HashSet<>();
+        for (String aspect : List.of(WebContentStatusAspectBean.ASPECT_NAME, WFContentStatusAspectBean.ASPECT_NAME)) {
+            JsonObject data = toJsonObject(content.getAspectData(aspect));
+            JsonObject status = data != null ? object(data, "status") : null;
+            JsonElement attrs = status != null ? status.get("attributes") : null;
+            if (attrs != null && attrs.isJsonArray()) {
+                attrs.getAsJsonArray().forEach(a -> {
+                    if (a.isJsonPrimitive()) attributes.add(a.getAsString());
+                });
+            }
+        }
+        return attributes;
+    }
+
+    private JsonObject toJsonObject(Object data) {
+        if (data == null) return null;
+        JsonElement el = gson.toJsonTree(data);
+        return el.isJsonObject() ? el.getAsJsonObject() : null;
+    }
+
+    private static JsonObject object(JsonObject parent, String name) {
+        JsonElement el = parent.get(name);
+        return el != null && el.isJsonObject() ? el.getAsJsonObject() : null;
+    }
 
-        contentManager.update(vid.getContentId(), builder.buildUpdate(), SYSTEM_SUBJECT);
+    private static long number(JsonObject parent, String name) {
+        JsonElement el = parent.get(name);
+        return el != null && el.isJsonPrimitive() && el.getAsJsonPrimitive().isNumber() ? el.getAsLong() : 0;
     }
 }
@@ -0,0 +1,127 @@
+package com.atex.desk.integration.publish;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Binary uploads of {@link RemoteContentPublisher} against a local HTTP server.
+ */
+class RemoteContentPublisherTest {
+
+    private static final int MB = 1024 * 1024;
+
+    private HttpServer server;
+    private RemoteContentPublisher publisher;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicReference<String> contentLength = new AtomicReference<>();
+    private final AtomicReference<String> transferEncoding = new AtomicReference<>();
+    private final AtomicReference<String> filePath = new AtomicReference<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/file/upload", exchange -> {
+            contentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+            transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+            filePath.set(exchange.getRequestHeaders().getFirst("X-File-Path"));
+            byte[] buffer = new byte[64 * 1024];
+            try (InputStream in = exchange.getRequestBody()) {
+                int n;
+                while ((n = in.read(buffer)) > 0) {
+                    received.addAndGet(n);
+                }
+            }
+            byte[] response = ("{\"uri\":\"content://" + received.get() + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(201, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+        publisher = new RemoteContentPublisher(
+            "http://localhost:" + server.getAddress().getPort() + "/", "token");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void knownLength_isSentWithContentLength() throws Exception {
+        String result = publisher.publishBinary(new GeneratedStream(3 * MB), 3 * MB, "a/b.jpg", "image/jpeg");
+
+        assertEquals("{\"uri\":\"content://" + (3 * MB) + "\"}", result);
+        assertEquals(String.valueOf(3 * MB), contentLength.get());
+        assertNull(transferEncoding.get());
+        assertEquals("a/b.jpg", filePath.get());
+    }
+
+    @Test
+    void unknownLength_isSentChunked() throws Exception {
+        publisher.publishBinary(new GeneratedStream(MB), "c.pdf", "application/pdf");
+
+        assertEquals(MB, received.get());
+        assertNull(contentLength.get());
+        assertEquals("chunked", transferEncoding.get());
+    }
+
+    @Test
+    void largeBinary_isStreamedNotBuffered() throws Exception {
+        long size = 64L * MB;
+        GeneratedStream data = new GeneratedStream(size);
+
+        publisher.publishBinary(data, size, "video.mp4", "video/mp4");
+
+        assertEquals(size, received.get());
+        // Had the publisher read everything first, nothing would have arrived before the end
+        assertTrue(data.receivedAtEnd > 0, "server received nothing before the source was exhausted");
+    }
+
+    /**
+     * Produces {@code size} bytes on demand and notes how much the server had received when
+     * the last byte was read.
+     */
+    private final class GeneratedStream extends InputStream {
+
+        private final long size;
+        private long position;
+        long receivedAtEnd = -1;
+
+        GeneratedStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= size) {
+                if (receivedAtEnd < 0) receivedAtEnd = received.get();
+                return -1;
+            }
+            int n = (int) Math.min(len, size - position);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) (position + i);
+            }
+            position += n;
+            return n;
+        }
+    }
+}
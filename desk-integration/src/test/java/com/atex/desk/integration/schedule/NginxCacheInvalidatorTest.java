@@ -0,0 +1,83 @@
+package com.atex.desk.integration.schedule;
+
+import com.atex.desk.integration.publish.RemoteContentPublisher;
+import com.atex.onecms.app.dam.util.SharedHttpClients;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link NginxCacheInvalidator} sends its purges over the shared JDK client, on the same
+ * kept-alive connections as the other outbound integrations.
+ */
+class NginxCacheInvalidatorTest {
+
+    private HttpServer server;
+    private NginxCacheInvalidator invalidator;
+    private String baseUrl;
+
+    private final BlockingQueue<String> requests = new LinkedBlockingQueue<>();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Plain HTTP/1.1, as the test server does not speak h2c
+        SharedHttpClients.Settings settings = new SharedHttpClients.Settings();
+        settings.setHttp2(false);
+        SharedHttpClients.configure(settings);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try (InputStream in = exchange.getRequestBody()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        invalidator = new NginxCacheInvalidator(new SimpleMeterRegistry(), baseUrl, "/content/",
+            10, 5000, 4, 1, 10, 1, "X-Purge-Keys", 0);
+        invalidator.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        invalidator.shutdown();
+        server.stop(0);
+        SharedHttpClients.shutdown();
+    }
+
+    @Test
+    void purges_reuseTheSharedClientsConnection() throws Exception {
+        new RemoteContentPublisher(baseUrl, "token").getContent("onecms:a");
+        assertEquals("GET /content/contentid/onecms:a", requests.poll(5, TimeUnit.SECONDS));
+
+        invalidator.handle(new ChangeProcessor.ChangeEvent(
+            "onecms:a", "atex.onecms.article", ChangeProcessor.ChangeEvent.UPDATE, null, null, null));
+        assertEquals("PURGE /content/onecms:a", requests.poll(5, TimeUnit.SECONDS));
+
+        assertEquals(1, clientPorts.size(), "the purge should reuse the publisher's connection");
+    }
+}
@@ -0,0 +1,110 @@
+package com.atex.desk.integration.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    private static final long TICK = 100;
+
+    @Test
+    void entry_expiresWithinOneTickOfItsDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 0);
+        wheel.add("a", 250);
+
+        assertEquals(List.of(), wheel.advance(200));
+        assertEquals(List.of(), wheel.advance(299));
+        assertEquals(List.of("a"), wheel.advance(300));
+        assertEquals(List.of(), wheel.advance(400));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void entriesOnHigherLevels_cascadeDownAndExpireOnTime() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, 0);
+        long level1 = 256 * 3 + 17;
+        long level2 = (1L << 16) * 5 + 256 * 9 + 3;
+        long level3 = (1L << 24) * 7 + (1L << 16) * 2 + 256 * 4 + 1;
+        wheel.add("level3", level3);
+        wheel.add("level1", level1);
+        wheel.add("level2", level2);
+
+        assertExpiresAt(wheel, "level1", level1);
+        assertExpiresAt(wheel, "level2", level2);
+        assertExpiresAt(wheel, "level3", level3);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDueEntry_expiresOnNextAdvance() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 10_000);
+        wheel.add("late", 5_000);
+        wheel.add("now", 10_000);
+
+        assertEquals(List.of("late", "now"), wheel.advance(10_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void entryBeyondTheWheelsRange_waitsUntilItsDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, 0);
+        // More than 2^32 ticks out: the top level wraps round before it comes into range
+        long far = (1L << 32) * 3 + (1L << 24) + 12_345;
+        wheel.add("far", far);
+        wheel.add("near", 1_000);
+
+        assertEquals(List.of("near"), wheel.advance(1L << 33));
+        assertEquals(1, wheel.size());
+        assertExpiresAt(wheel, "far", far);
+    }
+
+    @Test
+    void randomSchedule_neverExpiresEarlyOrLate() {
+        Random random = new Random(7);
+        long start = 1_700_000_000_000L;
+        TimerWheel<Integer> wheel = new TimerWheel<>(TICK, start);
+        Map<Integer, Long> pending = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long due = start + switch (i % 4) {
+                case 0 -> random.nextInt(300) * TICK / 3;
+                case 1 -> random.nextInt(70_000) * TICK;
+                case 2 -> random.nextLong(1L << 26) * TICK;
+                default -> random.nextLong(1L << 34) * TICK;
+            };
+            wheel.add(i, due);
+            pending.put(i, due);
+        }
+
+        long now = start;
+        while (!pending.isEmpty()) {
+            now += switch (random.nextInt(3)) {
+                case 0 -> random.nextInt(3 * (int) TICK);
+                case 1 -> random.nextLong(1L << 20) * TICK;
+                default -> random.nextLong(1L << 30) * TICK;
+            };
+            for (Integer item : wheel.advance(now)) {
+                Long due = pending.remove(item);
+                assertNotNull(due, "expired twice: " + item);
+                assertTrue(due <= now, "expired before its deadline: " + item);
+            }
+            long reached = now / TICK * TICK;
+            for (Map.Entry<Integer, Long> entry : pending.entrySet()) {
+                assertTrue(entry.getValue() > reached, "not expired past its deadline: " + entry.getKey());
+            }
+            assertEquals(pending.size(), wheel.size());
+        }
+    }
+
+    private static void assertExpiresAt(TimerWheel<String> wheel, String item, long dueAtMs) {
+        List<String> early = new ArrayList<>(wheel.advance(dueAtMs - 1));
+        assertFalse(early.contains(item), item + " expired before " + dueAtMs);
+        assertEquals(List.of(item), wheel.advance(dueAtMs));
+    }
+}
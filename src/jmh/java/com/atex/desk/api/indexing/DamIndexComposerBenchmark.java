@@ -0,0 +1,113 @@
+package com.atex.desk.api.indexing;
+
+import com.atex.onecms.app.dam.solr.SolrService;
+import com.atex.onecms.app.dam.standard.aspects.OneArticleBean;
+import com.atex.onecms.app.dam.standard.aspects.OneImageBean;
+import com.atex.onecms.app.dam.workflow.WebContentStatusAspectBean;
+import com.atex.onecms.content.ContentResult;
+import com.atex.onecms.content.ContentResultBuilder;
+import com.atex.onecms.content.ContentVersionId;
+import com.atex.onecms.content.InsertionInfoAspectBean;
+import com.atex.onecms.content.aspects.Aspect;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.apache.solr.common.SolrInputDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two DamIndexComposer output paths on article and image fixtures:
+ * compose() followed by SolrService.jsonToSolrDoc() versus composeSolrDocument().
+ *
+ * <p>Run with {@code ./gradlew jmh}. The {@code form} parameter selects whether the main
+ * aspect is a typed bean (as produced by the content store) or a plain map (as produced
+ * by the reindex path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DamIndexComposerBenchmark {
+
+    @Param({"article", "image"})
+    public String fixture;
+
+    @Param({"bean", "map"})
+    public String form;
+
+    private final Gson gson = new Gson();
+    private DamIndexComposer composer;
+    private ContentResult<Object> result;
+    private ContentVersionId versionId;
+
+    @Setup
+    public void setUp() throws IOException {
+        composer = new DamIndexComposer();
+        versionId = new ContentVersionId("onecms", "bench-" + fixture, "v1");
+
+        String type = "article".equals(fixture) ? OneArticleBean.ASPECT_NAME : OneImageBean.ASPECT_NAME;
+        Object mainAspect;
+        try (Reader reader = fixtureReader(fixture + ".json")) {
+            if ("map".equals(form)) {
+                mainAspect = gson.fromJson(reader, new TypeToken<Map<String, Object>>() {}.getType());
+            } else {
+                mainAspect = gson.fromJson(reader, "article".equals(fixture) ? OneArticleBean.class : OneImageBean.class);
+            }
+        }
+
+        result = new ContentResultBuilder<Object>()
+            .id(versionId)
+            .type(type)
+            .mainAspectData(mainAspect)
+            .aspects(
+                new Aspect<Object>(WebContentStatusAspectBean.ASPECT_NAME, Map.of(
+                    "status", Map.of(
+                        "statusID", "published",
+                        "name", "Published",
+                        "attributes", List.of("online", "frontpage")))),
+                new Aspect<Object>(InsertionInfoAspectBean.ASPECT_NAME, Map.of(
+                    "securityParentId", Map.of("delegationId", "policy", "key", "2.184"),
+                    "insertParentId", "policy:2.200",
+                    "associatedSites", List.of("policy:2.300", "policy:2.301"))))
+            .meta(new ContentResult.Meta(1718697600000L, 1718611200000L))
+            .build();
+    }
+
+    @Benchmark
+    public SolrInputDocument jsonPath() {
+        return SolrService.jsonToSolrDoc(composer.compose(result, versionId));
+    }
+
+    @Benchmark
+    public SolrInputDocument directPath() {
+        return composer.composeSolrDocument(result, versionId);
+    }
+
+    private static Reader fixtureReader(String name) throws IOException {
+        InputStream in = DamIndexComposerBenchmark.class.getResourceAsStream("/fixtures/" + name);
+        if (in == null) {
+            throw new IOException("Missing benchmark fixture: " + name);
+        }
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+}
@@ -75,12 +75,13 @@ public class CognitoAuthService
     private final ConcurrentHashMap<String, CachedEntry<Map<String, String>>> userAttributeCache = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, CachedEntry<List<String>>> groupCache = new ConcurrentHashMap<>();
 
-    public CognitoAuthService(CognitoProperties properties, AppUserRepository appUserRepository)
+    public CognitoAuthService(CognitoProperties properties, AppUserRepository appUserRepository,
+                              VerifiedTokenCache tokenCache)
     {
         this.properties = properties;
         this.appUserRepository = appUserRepository;
         this.cognitoClient = buildClient();
-        this.tokenVerifier = new CognitoTokenVerifier(properties);
+        this.tokenVerifier = new CognitoTokenVerifier(properties, tokenCache);
     }
 
     private CognitoIdentityProviderClient buildClient()
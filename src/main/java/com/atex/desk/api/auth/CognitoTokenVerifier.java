@@ -45,10 +45,12 @@ public class CognitoTokenVerifier implements Locator<Key>
     private final String jwksUrl;
     private final String issuerUrl;
     private final CognitoProperties properties;
+    private final VerifiedTokenCache tokenCache;
 
-    public CognitoTokenVerifier(CognitoProperties properties)
+    public CognitoTokenVerifier(CognitoProperties properties, VerifiedTokenCache tokenCache)
     {
         this.properties = properties;
+        this.tokenCache = tokenCache;
         this.jwksUrl = properties.getJwksUrl();
         this.issuerUrl = properties.getIssuerUrl();
     }
@@ -56,12 +58,21 @@ public class CognitoTokenVerifier implements Locator<Key>
     /**
      * Verify a Cognito JWT token: validate signature, issuer, and extract user claims.
      *
+     * Successfully verified tokens are served from {@link VerifiedTokenCache} until they expire.
+     *
      * @param token the raw JWT string
      * @return CognitoUser with username, email, and groups extracted from claims
      * @throws InvalidTokenException if the token is invalid
      */
     public CognitoAuthService.CognitoUser verify(String token) throws InvalidTokenException
     {
+        CognitoAuthService.CognitoUser cached = tokenCache.get(token, CognitoAuthService.CognitoUser.class);
+        if (cached != null)
+        {
+            // Callers fill in further fields, so never hand out the cached instance
+            return copy(cached);
+        }
+
         try
         {
             var claims = Jwts.parser()
@@ -98,6 +109,8 @@ public class CognitoTokenVerifier implements Locator<Key>
                 user.setGroups(new ArrayList<>(groups));
             }
 
+            // JJWT's default expiry check allows no clock skew
+            tokenCache.put(token, copy(user), claims.getExpiration(), 0);
             return user;
         }
         catch (Exception e)
@@ -107,6 +120,16 @@ public class CognitoTokenVerifier implements Locator<Key>
         }
     }
 
+    private static CognitoAuthService.CognitoUser copy(CognitoAuthService.CognitoUser source)
+    {
+        CognitoAuthService.CognitoUser user = new CognitoAuthService.CognitoUser();
+        user.setIdToken(source.getIdToken());
+        user.setUsername(source.getUsername());
+        user.setEmail(source.getEmail());
+        user.setGroups(source.getGroups() != null ? new ArrayList<>(source.getGroups()) : new ArrayList<>());
+        return user;
+    }
+
     // ======== Locator<Key> implementation ========
 
     @Override
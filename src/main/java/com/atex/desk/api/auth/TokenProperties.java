@@ -12,6 +12,8 @@ public class TokenProperties
     private long maxLifetime = 86400;
     private long clockSkew = 30;
     private String instanceId = "desk-api-dev";
+    private long tokenCacheSize = 10000;
+    private long tokenCacheTtl = 300;
 
     public boolean isEnabled()
     {
@@ -82,4 +84,24 @@ public class TokenProperties
     {
         this.instanceId = instanceId;
     }
+
+    public long getTokenCacheSize()
+    {
+        return tokenCacheSize;
+    }
+
+    public void setTokenCacheSize(long tokenCacheSize)
+    {
+        this.tokenCacheSize = tokenCacheSize;
+    }
+
+    public long getTokenCacheTtl()
+    {
+        return tokenCacheTtl;
+    }
+
+    public void setTokenCacheTtl(long tokenCacheTtl)
+    {
+        this.tokenCacheTtl = tokenCacheTtl;
+    }
 }
@@ -41,11 +41,13 @@ public class TokenService
     private static final String IMPERSONATING = "imp";
 
     private final TokenProperties properties;
+    private final VerifiedTokenCache tokenCache;
     private final KeyPair keyPair;
 
-    public TokenService(TokenProperties properties)
+    public TokenService(TokenProperties properties, VerifiedTokenCache tokenCache)
     {
         this.properties = properties;
+        this.tokenCache = tokenCache;
 
         if (properties.getPrivateKey() != null && !properties.getPrivateKey().isBlank()
             && properties.getPublicKey() != null && !properties.getPublicKey().isBlank())
@@ -71,11 +73,25 @@ public class TokenService
     }
 
     /**
-     * Decode and validate a JWT token.
+     * Decode and validate a JWT token. Successfully verified tokens are served from
+     * {@link VerifiedTokenCache} until they expire.
      *
      * @throws InvalidTokenException if the token is invalid, expired, or has wrong audience.
      */
     public DecodedToken decodeToken(String token) throws InvalidTokenException
+    {
+        DecodedToken cached = tokenCache.get(token, DecodedToken.class);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        DecodedToken decoded = verifyToken(token);
+        tokenCache.put(token, decoded, decoded.expiration(), properties.getClockSkew());
+        return decoded;
+    }
+
+    private DecodedToken verifyToken(String token) throws InvalidTokenException
     {
         try
         {
@@ -0,0 +1,92 @@
+package com.atex.desk.api.auth;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already-verified tokens, so a token presented on every request is only
+ * signature-checked once per TTL instead of once per filter per request.
+ * <p>
+ * Entries are keyed by the SHA-256 of the raw token (the token itself is never kept as a key)
+ * and hold whatever the verifier produced: a {@link DecodedToken} for desk tokens, a
+ * {@link CognitoAuthService.CognitoUser} for Cognito tokens. An entry is dropped once the
+ * token's own expiry (plus the allowed clock skew) has passed, so the cache never extends a
+ * token's lifetime. Only successful verifications are cached.
+ */
+@Component
+public class VerifiedTokenCache
+{
+    private record Entry(Object value, long expiresAtMillis) {}
+
+    private final Cache<String, Entry> cache;
+
+    public VerifiedTokenCache(TokenProperties properties)
+    {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(Math.max(0, properties.getTokenCacheSize()))
+            .expireAfterWrite(Math.max(1, properties.getTokenCacheTtl()), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @return the cached verification result for this token, or null if absent, expired,
+     *         or cached by a different verifier
+     */
+    public <T> T get(String token, Class<T> type)
+    {
+        String key = key(token);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) return null;
+        if (entry.expiresAtMillis() <= System.currentTimeMillis())
+        {
+            cache.invalidate(key);
+            return null;
+        }
+        return type.isInstance(entry.value()) ? type.cast(entry.value()) : null;
+    }
+
+    /**
+     * Cache a successful verification.
+     *
+     * @param expiration the token's expiry, or null if it has none (then only the TTL applies)
+     * @param clockSkewSeconds the skew the verifier allows past expiry
+     */
+    public void put(String token, Object value, Date expiration, long clockSkewSeconds)
+    {
+        long expiresAt = expiration != null
+            ? expiration.getTime() + TimeUnit.SECONDS.toMillis(clockSkewSeconds)
+            : Long.MAX_VALUE;
+        if (expiresAt <= System.currentTimeMillis()) return;
+        cache.put(key(token), new Entry(value, expiresAt));
+    }
+
+    /**
+     * The underlying cache, for metrics binding.
+     */
+    public Cache<String, ?> getCache()
+    {
+        return cache;
+    }
+
+    private static String key(String token)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -45,6 +45,7 @@ public class FileServiceProperties {
         private boolean handlesTmp = true;
         private int maxConcurrentUploads = 10;
         private long multipartThreshold = 5 * 1024 * 1024; // 5MB
+        private long partSize = 8 * 1024 * 1024; // 8MB, S3 minimum is 5MB
 
         public boolean isEnabled() { return enabled; }
         public void setEnabled(boolean enabled) { this.enabled = enabled; }
@@ -90,5 +91,8 @@ public class FileServiceProperties {
 
         public long getMultipartThreshold() { return multipartThreshold; }
         public void setMultipartThreshold(long multipartThreshold) { this.multipartThreshold = multipartThreshold; }
+
+        public long getPartSize() { return partSize; }
+        public void setPartSize(long partSize) { this.partSize = partSize; }
     }
 }
@@ -0,0 +1,65 @@
+package com.atex.desk.api.config;
+
+import com.atex.onecms.app.dam.util.SharedHttpClients;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.http.pool.PoolStats;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Configures the shared outbound HTTP clients ({@link SharedHttpClients}) from
+ * {@code desk.http.client.*} and exports the connection pool as metrics.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private final Environment environment;
+
+    public HttpClientConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Installs clients built from {@code desk.http.client.*} in place of the defaults.
+     */
+    @PostConstruct
+    void configure() {
+        SharedHttpClients.Settings settings = Binder.get(environment)
+            .bind("desk.http.client", SharedHttpClients.Settings.class)
+            .orElseGet(SharedHttpClients.Settings::new);
+        SharedHttpClients.configure(settings);
+    }
+
+    /**
+     * Binds desk.http.client.pool.* gauges (leased, available, pending, max).
+     */
+    @Bean
+    public MeterBinder httpClientPoolMetrics() {
+        return registry -> {
+            gauge(registry, "leased", "Connections in use", PoolStats::getLeased);
+            gauge(registry, "available", "Idle connections kept alive for reuse", PoolStats::getAvailable);
+            gauge(registry, "pending", "Requests waiting for a connection", PoolStats::getPending);
+            gauge(registry, "max", "Maximum total connections", PoolStats::getMax);
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        SharedHttpClients.shutdown();
+    }
+
+    private static void gauge(MeterRegistry registry, String name, String description,
+                              ToIntFunction<PoolStats> value) {
+        Gauge.builder("desk.http.client.pool." + name, () -> value.applyAsInt(SharedHttpClients.poolStats()))
+            .description(description)
+            .register(registry);
+    }
+}
@@ -1,6 +1,7 @@
 package com.atex.desk.api.config;
 
 import com.atex.desk.api.entity.IndexerState;
+import com.atex.desk.api.indexing.SolrIndexQueue;
 import com.atex.desk.api.repository.IndexerStateRepository;
 import org.springframework.boot.health.contributor.Health;
 import org.springframework.boot.health.contributor.HealthIndicator;
@@ -8,6 +9,8 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -16,6 +19,8 @@ import java.util.logging.Logger;
  * Actuator health indicator for the background indexing system.
  * Reports UP if the live indexer has updated recently, DOWN if stale,
  * UNKNOWN if indexing is not configured, or OUT_OF_SERVICE if paused.
+ * Also reports the Solr write queue (depth, oldest pending write, failures); a full
+ * queue or a failing last flush turns the indicator DOWN.
  */
 @Component
 public class IndexingHealthIndicator implements HealthIndicator
@@ -31,10 +36,13 @@ public class IndexingHealthIndicator implements HealthIndicator
     private static final Duration STALE_THRESHOLD = Duration.ofMinutes(5);
 
     private final IndexerStateRepository indexerStateRepository;
+    private final SolrIndexQueue indexQueue;
 
-    public IndexingHealthIndicator(IndexerStateRepository indexerStateRepository)
+    public IndexingHealthIndicator(IndexerStateRepository indexerStateRepository,
+                                   SolrIndexQueue indexQueue)
     {
         this.indexerStateRepository = indexerStateRepository;
+        this.indexQueue = indexQueue;
     }
 
     @Override
@@ -66,7 +74,10 @@ public class IndexingHealthIndicator implements HealthIndicator
             Instant now = Instant.now();
             long staleSeconds = updatedAt != null ? Duration.between(updatedAt, now).getSeconds() : -1;
 
-            var builder = (staleSeconds >= 0 && staleSeconds < STALE_THRESHOLD.getSeconds())
+            SolrIndexQueue.Status queue = indexQueue.status();
+            boolean queueHealthy = queue.depth() < queue.capacity() && queue.lastError() == null;
+
+            var builder = (staleSeconds >= 0 && staleSeconds < STALE_THRESHOLD.getSeconds() && queueHealthy)
                 ? Health.up()
                 : Health.down();
 
@@ -83,6 +94,10 @@ public class IndexingHealthIndicator implements HealthIndicator
             {
                 builder.withDetail("errorCount", state.getErrorCount());
             }
+            if (indexQueue.isEnabled())
+            {
+                builder.withDetail("queue", queueDetails(queue));
+            }
 
             return builder.build();
         }
@@ -96,6 +111,24 @@ public class IndexingHealthIndicator implements HealthIndicator
         }
     }
 
+    private static Map<String, Object> queueDetails(SolrIndexQueue.Status queue)
+    {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("depth", queue.depth());
+        details.put("capacity", queue.capacity());
+        details.put("oldestPendingMs", queue.oldestPendingMs());
+        details.put("flushed", queue.flushedDocs());
+        details.put("coalesced", queue.coalesced());
+        details.put("rejected", queue.rejected());
+        details.put("failedBatches", queue.failedBatches());
+        details.put("lastFlushAt", formatInstant(queue.lastFlushAt()));
+        if (queue.lastError() != null)
+        {
+            details.put("lastError", queue.lastError());
+        }
+        return details;
+    }
+
     private static String formatInstant(Instant instant)
     {
         return instant != null ? instant.toString() : "never";
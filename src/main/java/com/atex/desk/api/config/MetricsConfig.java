@@ -1,12 +1,17 @@
 package com.atex.desk.api.config;
 
+import com.atex.desk.api.auth.VerifiedTokenCache;
+import com.atex.desk.api.search.SearchResultCache;
+import com.atex.desk.api.service.ImageResolutionCache;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.springframework.boot.micrometer.metrics.autoconfigure.MeterRegistryCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * Adds common tags to all Micrometer metrics.
+ * Adds common tags to all Micrometer metrics and binds cache metrics.
  */
 @Configuration
 public class MetricsConfig
@@ -16,4 +21,37 @@ public class MetricsConfig
     {
         return registry -> registry.config().commonTags("application", "desk-api");
     }
+
+    /**
+     * Verified-token cache: cache.gets{cache=verifiedTokens,result=hit|miss}, cache.size,
+     * cache.evictions. The hit rate is hits / (hits + misses).
+     */
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache tokenCache)
+    {
+        return registry -> GuavaCacheMetrics.monitor(registry, tokenCache.getCache(), "verifiedTokens");
+    }
+
+    /**
+     * Solr result cache: cache.gets{cache=searchResults,result=hit|miss}, cache.size,
+     * cache.evictions.
+     */
+    @Bean
+    public MeterBinder searchResultCacheMetrics(SearchResultCache resultCache)
+    {
+        return registry -> GuavaCacheMetrics.monitor(registry, resultCache.getCache(), SearchResultCache.CACHE_NAME);
+    }
+
+    /**
+     * Image redirect caches: cache.gets{cache=imageInfo|imageSignedQueries,result=hit|miss},
+     * cache.size, cache.evictions.
+     */
+    @Bean
+    public MeterBinder imageResolutionCacheMetrics(ImageResolutionCache imageCache)
+    {
+        return registry -> {
+            GuavaCacheMetrics.monitor(registry, imageCache.getInfoCache(), ImageResolutionCache.CACHE_IMAGE_INFO);
+            GuavaCacheMetrics.monitor(registry, imageCache.getSignedQueryCache(), ImageResolutionCache.CACHE_SIGNED_QUERIES);
+        };
+    }
 }
@@ -1,5 +1,6 @@
 package com.atex.desk.api.config;
 
+import com.atex.desk.api.file.LocalFileDelivery;
 import com.atex.desk.api.service.RequestMetricsService;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -51,7 +52,7 @@ public class RequestMetricsFilter implements Filter {
             long durationMs = (System.nanoTime() - start) / 1_000_000;
             String user = (String) req.getAttribute("desk.auth.user");
             String contentType = wrapper.getContentType();
-            long bytesWritten = wrapper.getBytesWritten();
+            long bytesWritten = wrapper.getBytesWritten() + sendfileBytes(req);
 
             metricsService.record(
                     req.getMethod(),
@@ -66,6 +67,18 @@ public class RequestMetricsFilter implements Filter {
         }
     }
 
+    /**
+     * Bytes the container will send with sendfile, which bypass the response stream.
+     */
+    private static long sendfileBytes(HttpServletRequest req) {
+        if (req.getAttribute(LocalFileDelivery.SENDFILE_FILENAME) != null
+                && req.getAttribute(LocalFileDelivery.SENDFILE_START) instanceof Long start
+                && req.getAttribute(LocalFileDelivery.SENDFILE_END) instanceof Long end) {
+            return end - start;
+        }
+        return 0;
+    }
+
     private boolean isExcluded(String uri) {
         return uri.startsWith("/actuator")
                 || uri.startsWith("/admin/requests")
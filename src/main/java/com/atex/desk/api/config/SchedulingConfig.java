@@ -0,0 +1,14 @@
+package com.atex.desk.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods (token cleanup, indexing poll, activity lease sweeps)
+ * regardless of which of those beans are active.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig
+{
+}
@@ -1,5 +1,8 @@
 package com.atex.desk.api.controller;
 
+import com.atex.desk.api.search.SearchResultCache;
+import com.atex.desk.api.service.ContentCacheService;
+import com.atex.desk.api.service.ImageResolutionCache;
 import com.atex.desk.api.service.ObjectCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
@@ -18,17 +22,28 @@ import java.util.Map;
 public class CacheController
 {
     private final ObjectCacheService cacheService;
+    private final ContentCacheService contentCacheService;
+    private final SearchResultCache searchResultCache;
+    private final ImageResolutionCache imageResolutionCache;
 
-    public CacheController(ObjectCacheService cacheService)
+    public CacheController(ObjectCacheService cacheService, ContentCacheService contentCacheService,
+                           SearchResultCache searchResultCache, ImageResolutionCache imageResolutionCache)
     {
         this.cacheService = cacheService;
+        this.contentCacheService = contentCacheService;
+        this.searchResultCache = searchResultCache;
+        this.imageResolutionCache = imageResolutionCache;
     }
 
     @GetMapping
     @Operation(summary = "Get cache statistics")
     public ResponseEntity<?> getCacheStats()
     {
-        return ResponseEntity.ok(cacheService.getStats());
+        Map<String, Object> stats = new LinkedHashMap<>(cacheService.getStats());
+        stats.putAll(contentCacheService.getStats());
+        stats.putAll(searchResultCache.getStats());
+        stats.putAll(imageResolutionCache.getStats());
+        return ResponseEntity.ok(stats);
     }
 
     @DeleteMapping
@@ -36,6 +51,9 @@ public class CacheController
     public ResponseEntity<?> clearAll()
     {
         cacheService.clearAll();
+        contentCacheService.clearAll();
+        searchResultCache.clear();
+        imageResolutionCache.clearAll();
         return ResponseEntity.ok(Map.of("status", "cleared", "caches", "all"));
     }
 
@@ -44,6 +62,9 @@ public class CacheController
     public ResponseEntity<?> clearCache(@PathVariable String cacheName)
     {
         cacheService.clear(cacheName);
+        contentCacheService.clear(cacheName);
+        if (SearchResultCache.CACHE_NAME.equals(cacheName)) searchResultCache.clear();
+        imageResolutionCache.clear(cacheName);
         return ResponseEntity.ok(Map.of("status", "cleared", "cache", cacheName));
     }
 }
@@ -1,32 +1,85 @@
 package com.atex.desk.api.controller;
 
+import com.atex.desk.api.dto.ChangeEventDto;
 import com.atex.desk.api.dto.ChangeFeedDto;
 import com.atex.desk.api.dto.ErrorResponseDto;
 import com.atex.desk.api.service.ChangeListService;
+import com.atex.desk.api.service.ChangeNotificationBus;
+import com.atex.desk.api.service.ChangeNotificationBus.ChangeFilter;
+import com.atex.desk.api.service.ChangeNotificationBus.ChangeNotice;
 import com.atex.desk.api.service.InvalidCommitIdException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 @RestController
 @RequestMapping("/changes")
 @Tag(name = "Changes")
 public class ChangesController
 {
+    private static final Logger LOG = Logger.getLogger(ChangesController.class.getName());
+
     private final ChangeListService changeListService;
+    private final ChangeNotificationBus notificationBus;
+    private final int maxWaitSeconds;
+    private final long streamTimeoutSeconds;
 
-    public ChangesController(ChangeListService changeListService) {
+    public ChangesController(ChangeListService changeListService,
+                             ChangeNotificationBus notificationBus,
+                             @Value("${desk.changes.max-wait-seconds:60}") int maxWaitSeconds,
+                             @Value("${desk.changes.stream.timeout-seconds:1800}") long streamTimeoutSeconds) {
         this.changeListService = changeListService;
+        this.notificationBus = notificationBus;
+        this.maxWaitSeconds = maxWaitSeconds;
+        this.streamTimeoutSeconds = streamTimeoutSeconds;
+    }
+
+    /**
+     * Parsed feed parameters shared by the polling, long-polling and streaming endpoints.
+     */
+    private record FeedQuery(Long commitId, Long changedSince, List<String> contentTypes,
+                             List<String> objectTypes, List<String> partitions,
+                             List<String> eventTypes, int rows)
+    {
+        static FeedQuery of(Long commitId, Long changedSince, List<String> content, List<String> object,
+                            List<String> partition, List<String> event, int rows) {
+            // Handle * wildcard → disable filter
+            List<String> objectTypes = isWildcard(object) ? null : object;
+            List<String> eventTypes = isWildcard(event) ? null : event;
+
+            if (rows < 1) rows = 1;
+            if (rows > 10000) rows = 10000;
+
+            return new FeedQuery(commitId, changedSince, content, objectTypes, partition, eventTypes, rows);
+        }
+
+        FeedQuery from(long cursor) {
+            return new FeedQuery(cursor, null, contentTypes, objectTypes, partitions, eventTypes, rows);
+        }
+
+        ChangeFilter filter() {
+            return new ChangeFilter(contentTypes, objectTypes, partitions, eventTypes);
+        }
     }
 
     @GetMapping
@@ -60,16 +113,152 @@ public class ChangesController
             @Parameter(description = "Max results")
             @RequestParam(required = false, defaultValue = "100") int rows) {
 
+        return query(FeedQuery.of(commitId, changedSince, content, object, partition, event, rows));
+    }
+
+    @GetMapping(params = "wait")
+    @Operation(summary = "Long-poll the content change feed",
+        description = "Like the plain change feed, but when no events match, holds the request for up to "
+            + "'wait' seconds until a matching change is committed, then returns it.")
+    @ApiResponse(responseCode = "200", description = "Change feed returned (possibly empty after the wait)")
+    @ApiResponse(responseCode = "400", description = "Invalid parameter")
+    @ApiResponse(responseCode = "404", description = "commitId exceeds current maximum")
+    public DeferredResult<ResponseEntity<?>> waitForChanges(
+            @Parameter(description = "Return changes with commitId > value (cursor)")
+            @RequestParam(required = false) Long commitId,
+
+            @Parameter(description = "Return changes since time (epoch ms, ignored if commitId set)")
+            @RequestParam(required = false) Long changedSince,
+
+            @Parameter(description = "Content type filter (aspect names)")
+            @RequestParam(required = false) List<String> content,
+
+            @Parameter(description = "Object type filter (* = disable)")
+            @RequestParam(required = false, defaultValue = "article,image,page,graphic,collection")
+            List<String> object,
+
+            @Parameter(description = "Partition filter")
+            @RequestParam(required = false) List<String> partition,
+
+            @Parameter(description = "Event type filter (* = disable)")
+            @RequestParam(required = false, defaultValue = "CREATE,UPDATE,DELETE")
+            List<String> event,
+
+            @Parameter(description = "Max results")
+            @RequestParam(required = false, defaultValue = "100") int rows,
+
+            @Parameter(description = "Seconds to wait for a matching change when none are pending")
+            @RequestParam int wait) {
+
+        FeedQuery feedQuery = FeedQuery.of(commitId, changedSince, content, object, partition, event, rows);
+        int waitSeconds = Math.min(wait, maxWaitSeconds);
+
+        // Take the bus position before querying so nothing committed in between is missed
+        long position = notificationBus.position();
+        ResponseEntity<?> response = query(feedQuery);
+
+        if (waitSeconds <= 0 || !(response.getBody() instanceof ChangeFeedDto feed) || feed.getSize() > 0) {
+            DeferredResult<ResponseEntity<?>> result = new DeferredResult<>();
+            result.setResult(response);
+            return result;
+        }
+
+        CompletableFuture<ChangeNotice> notice = notificationBus.await(position, feedQuery.filter());
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(TimeUnit.SECONDS.toMillis(waitSeconds));
+        if (notice == null) {
+            // Too many parked requests: answer now and let the client poll
+            result.setResult(response);
+            return result;
+        }
+        notice.thenRun(() -> result.setResult(query(feedQuery)));
+        result.onTimeout(() -> result.setResult(query(feedQuery)));
+        result.onCompletion(() -> notice.cancel(false));
+        return result;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream the content change feed",
+        description = "Server-Sent Events stream of change events, starting after commitId (or Last-Event-ID) "
+            + "and continuing as matching changes are committed. Each event's id is its commitId.")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    @ApiResponse(responseCode = "400", description = "Invalid parameter")
+    @ApiResponse(responseCode = "404", description = "commitId exceeds current maximum")
+    @ApiResponse(responseCode = "503", description = "Too many open streams")
+    public ResponseEntity<SseEmitter> streamChanges(
+            @Parameter(description = "Return changes with commitId > value (cursor)")
+            @RequestParam(required = false) Long commitId,
+
+            @Parameter(description = "Return changes since time (epoch ms, ignored if commitId set)")
+            @RequestParam(required = false) Long changedSince,
+
+            @Parameter(description = "Content type filter (aspect names)")
+            @RequestParam(required = false) List<String> content,
+
+            @Parameter(description = "Object type filter (* = disable)")
+            @RequestParam(required = false, defaultValue = "article,image,page,graphic,collection")
+            List<String> object,
+
+            @Parameter(description = "Partition filter")
+            @RequestParam(required = false) List<String> partition,
+
+            @Parameter(description = "Event type filter (* = disable)")
+            @RequestParam(required = false, defaultValue = "CREATE,UPDATE,DELETE")
+            List<String> event,
+
+            @Parameter(description = "Max events per query while catching up")
+            @RequestParam(required = false, defaultValue = "100") int rows,
+
+            @Parameter(description = "Resume cursor sent by reconnecting EventSource clients (overrides commitId)")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        FeedQuery feedQuery = FeedQuery.of(lastEventId != null ? lastEventId : commitId, changedSince,
+            content, object, partition, event, rows);
+
+        ChangeStream stream = new ChangeStream(new SseEmitter(TimeUnit.SECONDS.toMillis(streamTimeoutSeconds)),
+            feedQuery);
+        long position = notificationBus.position();
+        ChangeNotificationBus.Subscription subscription =
+            notificationBus.subscribe(position, feedQuery.filter(), n -> stream.pump());
+        if (subscription == null) {
+            return errorStream(HttpStatus.SERVICE_UNAVAILABLE, "Too many open change streams");
+        }
+        stream.subscription = subscription;
+
         try {
-            // Handle * wildcard → disable filter
-            List<String> objectTypes = isWildcard(object) ? null : object;
-            List<String> eventTypes = isWildcard(event) ? null : event;
+            // Catch up synchronously so an invalid cursor is reported as a plain error response
+            stream.pump();
+        } catch (InvalidCommitIdException e) {
+            subscription.cancel();
+            return errorStream(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            subscription.cancel();
+            return errorStream(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.ok().body(stream.emitter);
+    }
 
-            if (rows < 1) rows = 1;
-            if (rows > 10000) rows = 10000;
+    /**
+     * An error status with the usual error body sent as a single "error" event, so EventSource
+     * clients stop reconnecting and other clients still see the message.
+     */
+    private static ResponseEntity<SseEmitter> errorStream(HttpStatus status, String message) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            emitter.send(SseEmitter.event()
+                .name("error")
+                .data(new ErrorResponseDto(status, message), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.status(status).body(emitter);
+    }
 
+    private ResponseEntity<?> query(FeedQuery q) {
+        try {
             ChangeFeedDto feed = changeListService.queryChanges(
-                commitId, changedSince, content, objectTypes, partition, eventTypes, rows);
+                q.commitId(), q.changedSince(), q.contentTypes(), q.objectTypes(), q.partitions(),
+                q.eventTypes(), q.rows());
 
             return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
@@ -87,4 +276,70 @@ public class ChangesController
     private static boolean isWildcard(List<String> values) {
         return values != null && values.size() == 1 && "*".equals(values.getFirst());
     }
+
+    /**
+     * One open SSE connection. Notifications only trigger a re-query from the stream's cursor;
+     * concurrent triggers coalesce into at most one extra query.
+     */
+    private final class ChangeStream
+    {
+        private final SseEmitter emitter;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile boolean dirty;
+        private volatile boolean closed;
+        private volatile ChangeNotificationBus.Subscription subscription;
+        private FeedQuery query;
+
+        ChangeStream(SseEmitter emitter, FeedQuery query) {
+            this.emitter = emitter;
+            this.query = query;
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(() -> {
+                close();
+                emitter.complete();
+            });
+            emitter.onError(e -> close());
+        }
+
+        void pump() {
+            dirty = true;
+            while (dirty && !closed && running.compareAndSet(false, true)) {
+                try {
+                    dirty = false;
+                    drain();
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away
+                    LOG.log(Level.FINE, "Closing change stream", e);
+                    close();
+                } finally {
+                    running.set(false);
+                }
+            }
+        }
+
+        private void drain() throws IOException {
+            while (!closed) {
+                ChangeFeedDto feed = changeListService.queryChanges(
+                    query.commitId(), query.changedSince(), query.contentTypes(), query.objectTypes(),
+                    query.partitions(), query.eventTypes(), query.rows());
+                List<ChangeEventDto> events = feed.getEvents();
+                for (ChangeEventDto event : events) {
+                    emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getCommitId()))
+                        .name("change")
+                        .data(event, MediaType.APPLICATION_JSON));
+                }
+                if (!events.isEmpty()) {
+                    query = query.from(events.getLast().getCommitId());
+                }
+                if (events.size() < query.rows()) return;
+            }
+        }
+
+        private void close() {
+            closed = true;
+            ChangeNotificationBus.Subscription s = subscription;
+            if (s != null) s.cancel();
+        }
+    }
 }
@@ -1,18 +1,23 @@
 package com.atex.desk.api.controller;
 
 import com.atex.desk.api.dto.AspectDto;
+import com.atex.desk.api.dto.ContentBatchDto;
+import com.atex.desk.api.dto.ContentBatchResultDto;
 import com.atex.desk.api.dto.ContentHistoryDto;
 import com.atex.desk.api.dto.ContentResultDto;
 import com.atex.desk.api.dto.ContentWriteDto;
 import com.atex.desk.api.dto.ErrorResponseDto;
 import com.atex.desk.api.onecms.LocalContentManager;
+import com.atex.desk.api.service.ContentCachePolicy;
 import com.atex.desk.api.service.ContentService;
 import com.atex.desk.api.site.SiteStructureService;
 import com.atex.onecms.app.siteengine.SiteStructureBean;
+import com.atex.onecms.content.ContentId;
 import com.atex.onecms.content.ContentManager;
 import com.atex.onecms.content.ContentResult;
 import com.atex.onecms.content.ContentVersionId;
 import com.atex.onecms.content.IdUtil;
+import com.atex.onecms.content.Status;
 import com.atex.onecms.content.Subject;
 import com.atex.desk.api.service.ConflictUpdateException;
 import com.atex.onecms.content.callback.CallbackException;
@@ -23,6 +28,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -41,7 +47,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.lang.Nullable;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -61,32 +69,44 @@ public class ContentController
     private final LocalContentManager localContentManager;
     private final SiteStructureService siteStructureService;
     private final ContentResolveController resolveController;
+    private final ContentCachePolicy cachePolicy;
+    private final int maxBatchItems;
 
     public ContentController(ContentService contentService,
                               @Nullable ContentManager contentManager,
                               @Nullable LocalContentManager localContentManager,
                               SiteStructureService siteStructureService,
-                              ContentResolveController resolveController)
+                              ContentResolveController resolveController,
+                              ContentCachePolicy cachePolicy,
+                              @Value("${desk.content.batch.max-items:1000}") int maxBatchItems)
     {
         this.contentService = contentService;
         this.contentManager = contentManager;
         this.localContentManager = localContentManager;
         this.siteStructureService = siteStructureService;
         this.resolveController = resolveController;
+        this.cachePolicy = cachePolicy;
+        this.maxBatchItems = maxBatchItems;
     }
 
     /**
      * GET /content/contentid/{id}
      * If unversioned → 303 redirect to versioned URL with JSON body.
-     * If versioned → 200 with content.
+     * If versioned → 200 with content; 304 if If-None-Match has the versioned ID.
+     * HEAD on a versioned ID only checks that the version exists.
      */
     @GetMapping("/contentid/{id}")
     @Operation(summary = "Read a content",
-               description = "Versioned ID returns 200 with content and ETag. Unversioned ID returns 303 redirect to versioned URL.")
+               description = "Versioned ID returns 200 with content and ETag, or 304 if If-None-Match matches. "
+                   + "Unversioned ID returns 303 redirect to versioned URL.")
     @ApiResponse(responseCode = "200", description = "Content found (versioned ID)",
-                 headers = @Header(name = "ETag", description = "The versioned content ID"),
+                 headers = {
+                     @Header(name = "ETag", description = "The versioned content ID"),
+                     @Header(name = "Cache-Control", description = "Short max-age: the aspects never change, the meta aliases can")
+                 },
                  content = @Content(schema = @Schema(implementation = ContentResultDto.class)))
     @ApiResponse(responseCode = "303", description = "Redirect to versioned URL (unversioned ID)")
+    @ApiResponse(responseCode = "304", description = "Not modified (versioned ID matching If-None-Match)")
     @ApiResponse(responseCode = "404", description = "Content not found",
                  content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     public ResponseEntity<?> getContent(
@@ -95,7 +115,9 @@ public class ContentController
         @Parameter(description = "Variant name for content composition (e.g. atex.onecms.structure)")
         @RequestParam(value = "variant", required = false) String variant,
         @Parameter(description = "Comma-separated site IDs to exclude from structure variant")
-        @RequestParam(value = "excludedSites", required = false) String excludedSites)
+        @RequestParam(value = "excludedSites", required = false) String excludedSites,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        HttpServletRequest request)
     {
         // Handle encoded external ID: "externalid/X" arrives via %2F decoding in {id}
         if (id.startsWith("externalid/")) {
@@ -111,10 +133,27 @@ public class ContentController
         if (contentService.isVersionedId(id))
         {
             String[] parts = contentService.parseContentId(id);
+            String versionedId = contentService.formatVersionedId(parts[0], parts[1], parts[2]);
+
+            // Versions never change: answer conditional and HEAD requests without loading aspects
+            boolean notModified = ContentCachePolicy.matches(ifNoneMatch, versionedId);
+            if (notModified || "HEAD".equals(request.getMethod()))
+            {
+                if (!contentService.hasVersion(parts[0], parts[1], parts[2]))
+                {
+                    return notFound("Content not found");
+                }
+                return ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                    .eTag(versionedId)
+                    .cacheControl(cachePolicy.versioned())
+                    .build();
+            }
+
             Optional<ContentResultDto> result = contentService.getContent(parts[0], parts[1], parts[2]);
             return result
                 .<ResponseEntity<?>>map(r -> ResponseEntity.ok()
                     .eTag(r.getVersion())
+                    .cacheControl(cachePolicy.versioned())
                     .body(r))
                 .orElseGet(() -> notFound("Content not found"));
         }
@@ -331,6 +370,98 @@ public class ContentController
         }
     }
 
+    /**
+     * POST /content/batch
+     * Create and update many contents in one request. Pre-store hooks run per item and the
+     * items are stored in one transaction; each item gets its own status, so the response is
+     * 200 even when some of them failed.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Create and update contents in a batch",
+               description = "Items with an 'id' update that content and must carry the current version "
+                   + "in content.version, the others create new contents. "
+                   + "Returns one result per item, in request order.")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see the status code of each item",
+                 content = @Content(schema = @Schema(implementation = ContentBatchResultDto.class)))
+    @ApiResponse(responseCode = "400", description = "The batch is empty or too large",
+                 content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    public ResponseEntity<?> writeBatch(@RequestBody ContentBatchDto batch,
+                                        HttpServletRequest request)
+    {
+        List<ContentBatchDto.Item> items = batch.getItems();
+        if (items == null || items.isEmpty())
+        {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponseDto(HttpStatus.BAD_REQUEST, "The batch has no items"));
+        }
+        if (items.size() > maxBatchItems)
+        {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponseDto(HttpStatus.BAD_REQUEST,
+                    "The batch has " + items.size() + " items, the maximum is " + maxBatchItems));
+        }
+        if (localContentManager == null)
+        {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
+                .body(new ErrorResponseDto(HttpStatus.NOT_IMPLEMENTED, "Batch writes are not available"));
+        }
+
+        ContentBatchResultDto.Item[] results = new ContentBatchResultDto.Item[items.size()];
+        List<LocalContentManager.BatchWrite> writes = new ArrayList<>(items.size());
+        List<Integer> positions = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++)
+        {
+            ContentBatchDto.Item item = items.get(i);
+            if (item == null || item.getContent() == null)
+            {
+                results[i] = new ContentBatchResultDto.Item(Status.BAD_REQUEST.getDetailCode(),
+                    "Missing content", null);
+                continue;
+            }
+            ContentId contentId = null;
+            String previousVersion = null;
+            if (item.getId() != null && !item.getId().isBlank())
+            {
+                if (contentService.isVersionedId(item.getId()))
+                {
+                    results[i] = new ContentBatchResultDto.Item(Status.BAD_REQUEST.getDetailCode(),
+                        "Update requires an unversioned content ID", null);
+                    continue;
+                }
+                try
+                {
+                    contentId = resolveUpdateId(item.getId());
+                }
+                catch (IllegalArgumentException e)
+                {
+                    results[i] = new ContentBatchResultDto.Item(Status.BAD_REQUEST.getDetailCode(),
+                        e.getMessage(), null);
+                    continue;
+                }
+                // Same optimistic locking as PUT: an update must name the version it replaces
+                previousVersion = stripETagQuotes(item.getContent().getVersion());
+                if (previousVersion == null || previousVersion.isBlank())
+                {
+                    results[i] = new ContentBatchResultDto.Item(Status.BAD_REQUEST.getDetailCode(),
+                        "Update requires the current version in content.version", null);
+                    continue;
+                }
+            }
+            writes.add(localContentManager.batchWriteFromDto(contentId, item.getContent(), previousVersion));
+            positions.add(i);
+        }
+
+        Subject subject = new Subject(resolveUserId(request), null);
+        List<LocalContentManager.BatchResult> stored = localContentManager.writeBatch(writes, subject);
+        for (int i = 0; i < stored.size(); i++)
+        {
+            LocalContentManager.BatchResult result = stored.get(i);
+            results[positions.get(i)] = new ContentBatchResultDto.Item(
+                result.status().getDetailCode(), result.message(), result.result());
+        }
+        return ResponseEntity.ok(new ContentBatchResultDto(List.of(results)));
+    }
+
     /**
      * PUT /content/contentid/{id}
      * Update existing content. Requires unversioned ID and If-Match header.
@@ -519,6 +650,24 @@ public class ContentController
         return user != null ? user.toString() : DEFAULT_USER;
     }
 
+    /**
+     * Parse an unversioned content ID to update, falling back to alias resolution for unknown
+     * delegation IDs.
+     */
+    private ContentId resolveUpdateId(String id)
+    {
+        String[] parts = contentService.parseContentId(id);
+        if (contentService.resolveIdType(parts[0]) == null)
+        {
+            Optional<String> canonical = contentService.resolveWithFallback(id);
+            if (canonical.isPresent())
+            {
+                parts = contentService.parseContentId(canonical.get());
+            }
+        }
+        return new ContentId(parts[0], parts[1]);
+    }
+
     private ResponseEntity<ErrorResponseDto> notFound(String message)
     {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
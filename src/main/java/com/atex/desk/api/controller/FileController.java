@@ -1,6 +1,7 @@
 package com.atex.desk.api.controller;
 
 import com.atex.desk.api.file.FileUploadValidator;
+import com.atex.desk.api.file.LocalFileDelivery;
 import com.atex.onecms.app.dam.ws.ContentApiException;
 import com.atex.onecms.content.Subject;
 import com.atex.onecms.content.files.FileInfo;
@@ -9,6 +10,7 @@ import com.atex.onecms.content.files.FileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.CacheControl;
@@ -25,9 +27,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.file.Files;
 import java.util.concurrent.TimeUnit;
 
 @RestController
@@ -148,40 +150,26 @@ public class FileController {
     @Operation(summary = "Download file", description = "Download binary content from the file service")
     public ResponseEntity<StreamingResponseBody> getFile(@PathVariable("space") String space,
                                                           @PathVariable("host") String host,
-                                                          @PathVariable("path") String path) {
+                                                          @PathVariable("path") String path,
+                                                          HttpServletRequest request,
+                                                          HttpServletResponse response) throws IOException {
         // Path traversal guard on reads
         if (!FileUploadValidator.isSafePathSegment(path) || !FileUploadValidator.isSafePathSegment(host)) {
             throw new ContentApiException("Invalid path", HttpStatus.BAD_REQUEST);
         }
 
-        // Fast path: resolve directly to filesystem for LocalFileService (single pass)
+        // Fast path: send LocalFileService files straight from disk (sendfile, ranges, ETag/304)
         java.nio.file.Path filePath = null;
         if (fileService instanceof com.atex.desk.api.onecms.LocalFileService localFs) {
             filePath = localFs.resolveToPath(space, host, path);
         }
 
-        if (filePath != null && Files.exists(filePath)) {
+        if (filePath != null) {
             HttpHeaders headers = new HttpHeaders();
             addCacheHeaders(headers);
-            try {
-                headers.setContentLength(Files.size(filePath));
-                long modified = Files.getLastModifiedTime(filePath).toMillis();
-                if (modified > 0) headers.setLastModified(modified);
-                String mimeType = Files.probeContentType(filePath);
-                if (mimeType != null) {
-                    headers.setContentType(MediaType.parseMediaType(mimeType));
-                }
-            } catch (java.io.IOException e) {
-                throw ContentApiException.internal("Error reading file metadata", e);
+            if (LocalFileDelivery.deliver(filePath, null, headers, request, response)) {
+                return null;
             }
-
-            final java.nio.file.Path fp = filePath;
-            StreamingResponseBody stream = output -> {
-                try (InputStream is = Files.newInputStream(fp)) {
-                    is.transferTo(output);
-                }
-            };
-            return ResponseEntity.ok().headers(headers).body(stream);
         }
 
         // Fallback: standard two-call approach via FileService interface (S3, etc.)
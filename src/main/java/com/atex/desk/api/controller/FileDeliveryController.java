@@ -2,6 +2,7 @@ package com.atex.desk.api.controller;
 
 import com.atex.desk.api.dto.AspectDto;
 import com.atex.desk.api.dto.ContentResultDto;
+import com.atex.desk.api.file.LocalFileDelivery;
 import com.atex.desk.api.service.ContentService;
 import com.atex.onecms.content.Subject;
 import com.atex.onecms.content.files.FileInfo;
@@ -9,6 +10,7 @@ import com.atex.onecms.content.files.FileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.CacheControl;
@@ -22,7 +24,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +36,7 @@ import java.util.regex.Pattern;
 /**
  * File delivery endpoint.
  * Serves files associated with content objects, supporting HTTP Range requests.
+ * Files in the local file store are sent by {@link LocalFileDelivery}.
  *
  * Ported from Polopoly's filedelivery-service WAR.
  */
@@ -58,8 +63,9 @@ public class FileDeliveryController {
     public ResponseEntity<StreamingResponseBody> deliverByContentId(
             @PathVariable("id") String contentId,
             @PathVariable("path") String path,
-            HttpServletRequest request) {
-        return deliverFile(contentId, path, request);
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        return deliverFile(contentId, path, request, response);
     }
 
     @GetMapping("/{id:.+:.+}/{path:.*}")
@@ -67,8 +73,9 @@ public class FileDeliveryController {
     public ResponseEntity<StreamingResponseBody> deliverByContentIdShort(
             @PathVariable("id") String contentId,
             @PathVariable("path") String path,
-            HttpServletRequest request) {
-        return deliverFile(contentId, path, request);
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        return deliverFile(contentId, path, request, response);
     }
 
     @GetMapping("/externalid/{externalId}/{path:.*}")
@@ -76,12 +83,13 @@ public class FileDeliveryController {
     public ResponseEntity<StreamingResponseBody> deliverByExternalId(
             @PathVariable("externalId") String externalId,
             @PathVariable("path") String path,
-            HttpServletRequest request) {
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         Optional<String> contentId = contentService.resolveExternalId(externalId);
         if (contentId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        return deliverFile(contentId.get(), path, request);
+        return deliverFile(contentId.get(), path, request, response);
     }
 
     @GetMapping("")
@@ -91,12 +99,24 @@ public class FileDeliveryController {
     }
 
     private ResponseEntity<StreamingResponseBody> deliverFile(String contentId, String requestedPath,
-                                                               HttpServletRequest request) {
+                                                               HttpServletRequest request,
+                                                               HttpServletResponse response) throws IOException {
         String fileUri = resolveFileUri(contentId, requestedPath);
         if (fileUri == null) {
             return ResponseEntity.notFound().build();
         }
 
+        // Local files are sent straight from disk (sendfile, multi-range, ETag/304)
+        Path localPath = LocalFileDelivery.resolve(fileService, fileUri);
+        if (localPath != null) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setCacheControl(CacheControl.maxAge(DEFAULT_CACHE_SECONDS, TimeUnit.SECONDS));
+            if (LocalFileDelivery.deliver(localPath, null, headers, request, response)) {
+                return null;
+            }
+            return ResponseEntity.notFound().build();
+        }
+
         FileInfo fileInfo = fileService.getFileInfo(fileUri, Subject.NOBODY_CALLER);
         if (fileInfo == null) {
             return ResponseEntity.notFound().build();
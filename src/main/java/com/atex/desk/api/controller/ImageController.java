@@ -5,6 +5,8 @@ import com.atex.desk.api.dto.AspectDto;
 import com.atex.desk.api.dto.ContentResultDto;
 import com.atex.desk.api.service.ContentService;
 import com.atex.desk.api.dto.ErrorResponseDto;
+import com.atex.desk.api.service.ImageResolutionCache;
+import com.atex.desk.api.service.ImageResolutionCache.ImageInfo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
@@ -51,11 +53,14 @@ public class ImageController {
 
     private final ContentService contentService;
     private final ImageServiceProperties imageProps;
+    private final ImageResolutionCache imageCache;
 
     public ImageController(ContentService contentService,
-                           ImageServiceProperties imageProps) {
+                           ImageServiceProperties imageProps,
+                           ImageResolutionCache imageCache) {
         this.contentService = contentService;
         this.imageProps = imageProps;
+        this.imageCache = imageCache;
         LOG.info("ImageController enabled, sidecar URL: {}", imageProps.getUrl());
     }
 
@@ -147,8 +152,8 @@ public class ImageController {
         String filename = path.contains("/") ? path.substring(path.lastIndexOf('/') + 1) : path;
         String sidecarPath = fileUri + "/" + filename;
 
-        Map<String, String> params = new TreeMap<>(queryParams);
-        String signedQuery = buildSignedQuery(sidecarPath, params);
+        TreeMap<String, String> params = new TreeMap<>(queryParams);
+        String signedQuery = signedQuery(sidecarPath, params);
         String redirectUrl = imageProps.getUrl() + "/image/" + sidecarPath + "?" + signedQuery;
 
         return ResponseEntity.status(HttpStatus.FOUND)
@@ -160,11 +165,11 @@ public class ImageController {
     }
 
     private ResponseEntity<?> redirectToOriginal(String id) {
-        ContentImageInfo info = resolveImageInfo(id);
-        if (info == null || info.fileUri == null) {
+        ImageInfo info = resolveImageInfo(id);
+        if (info == null || info.fileUri() == null) {
             return notFound("Content not found: " + id);
         }
-        String redirectUrl = "/file/" + info.fileUri;
+        String redirectUrl = "/file/" + info.fileUri();
 
         return ResponseEntity.status(HttpStatus.FOUND)
                 .header(HttpHeaders.LOCATION, redirectUrl)
@@ -176,31 +181,31 @@ public class ImageController {
 
     private ResponseEntity<?> resolveAndRedirect(String id, String filename,
                                                      Map<String, String> queryParams) {
-        ContentImageInfo info = resolveImageInfo(id);
+        ImageInfo info = resolveImageInfo(id);
         if (info == null) {
             return notFound("Content not found: " + id);
         }
-        if (info.fileUri == null) {
+        if (info.fileUri() == null) {
             return notFound("No image file for content: " + id);
         }
 
         // Build signed redirect URL to the Rust sidecar
         // Path format: /image/{file_uri}/{filename}
         // Convert URI scheme (content://host/path) to path (content/host/path)
-        String fileUri = info.fileUri;
+        String fileUri = info.fileUri();
         if (fileUri.contains("://")) {
             fileUri = fileUri.replace("://", "/");
         }
         String sidecarPath = fileUri + "/" + filename;
 
         // Add image edit info and original dimensions from content aspects
-        Map<String, String> params = new TreeMap<>(queryParams);
+        TreeMap<String, String> params = new TreeMap<>(queryParams);
         applyEditInfo(params, info);
-        if (info.origWidth != null) params.putIfAbsent("ow", String.valueOf(info.origWidth));
-        if (info.origHeight != null) params.putIfAbsent("oh", String.valueOf(info.origHeight));
+        if (info.origWidth() != null) params.putIfAbsent("ow", String.valueOf(info.origWidth()));
+        if (info.origHeight() != null) params.putIfAbsent("oh", String.valueOf(info.origHeight()));
 
         // Sign the URL
-        String signedQuery = buildSignedQuery(sidecarPath, params);
+        String signedQuery = signedQuery(sidecarPath, params);
         String redirectUrl = imageProps.getUrl() + "/image/" + sidecarPath + "?" + signedQuery;
 
         return ResponseEntity.status(HttpStatus.FOUND)
@@ -213,8 +218,10 @@ public class ImageController {
 
     /**
      * Resolve a content ID string to image info (file URI + edit metadata).
+     * Unversioned IDs are resolved to their latest version first; the info of a version
+     * is cached, since versions never change.
      */
-    private ContentImageInfo resolveImageInfo(String idString) {
+    private ImageInfo resolveImageInfo(String idString) {
         String[] parts;
         try {
             parts = contentService.parseContentId(idString);
@@ -225,19 +232,17 @@ public class ImageController {
             return null;
         }
 
-        String delegationId = parts[0];
-        String key = parts[1];
-
-        Optional<ContentResultDto> result;
-        if (contentService.isVersionedId(idString)) {
-            result = contentService.getContent(delegationId, key, parts[2]);
-        } else {
-            Optional<String> versionedId = contentService.resolve(delegationId, key);
+        if (!contentService.isVersionedId(idString)) {
+            Optional<String> versionedId = contentService.resolve(parts[0], parts[1]);
             if (versionedId.isEmpty()) return null;
-            String[] vParts = contentService.parseContentId(versionedId.get());
-            result = contentService.getContent(vParts[0], vParts[1], vParts[2]);
+            idString = versionedId.get();
+            parts = contentService.parseContentId(idString);
         }
 
+        ImageInfo cached = imageCache.getInfo(idString);
+        if (cached != null) return cached;
+
+        Optional<ContentResultDto> result = contentService.getContent(parts[0], parts[1], parts[2]);
         if (result.isEmpty()) return null;
 
         ContentResultDto content = result.get();
@@ -291,18 +296,21 @@ public class ImageController {
             editInfo = aspects.get("atex.ImageEditInfo").getData();
         }
 
-        return new ContentImageInfo(fileUri, editInfo, origWidth, origHeight);
+        ImageInfo info = new ImageInfo(fileUri, editInfo, origWidth, origHeight);
+        imageCache.putInfo(idString, info);
+        return info;
     }
 
     /**
      * Apply ImageEditInfo (rotation, flip, focal point) to query params.
      * These are stored on the content and should be baked into the image URL.
      */
-    private void applyEditInfo(Map<String, String> params, ContentImageInfo info) {
-        if (info.editInfo == null) return;
+    private void applyEditInfo(Map<String, String> params, ImageInfo info) {
+        Map<String, Object> editInfo = info.editInfo();
+        if (editInfo == null) return;
 
         // Rotation
-        Object rotation = info.editInfo.get("rotation");
+        Object rotation = editInfo.get("rotation");
         if (rotation != null) {
             int rot = ((Number) rotation).intValue();
             if (rot != 0) {
@@ -311,17 +319,17 @@ public class ImageController {
         }
 
         // Flip
-        Object flipV = info.editInfo.get("flipVertical");
+        Object flipV = editInfo.get("flipVertical");
         if (Boolean.TRUE.equals(flipV)) {
             params.putIfAbsent("flipv", "1");
         }
-        Object flipH = info.editInfo.get("flipHorizontal");
+        Object flipH = editInfo.get("flipHorizontal");
         if (Boolean.TRUE.equals(flipH)) {
             params.putIfAbsent("fliph", "1");
         }
 
         // Focal point
-        Object focalPoint = info.editInfo.get("focalPoint");
+        Object focalPoint = editInfo.get("focalPoint");
         if (focalPoint instanceof Map<?, ?> fpMap) {
             Object x = fpMap.get("x");
             Object y = fpMap.get("y");
@@ -336,7 +344,7 @@ public class ImageController {
         // Named format crops — if a format (f=) is requested, look up its crop
         String format = params.get("f");
         if (format != null && !format.isEmpty()) {
-            Object crops = info.editInfo.get("crops");
+            Object crops = editInfo.get("crops");
             if (crops instanceof Map<?, ?> cropsMap) {
                 Object cropInfo = cropsMap.get(format);
                 if (cropInfo instanceof Map<?, ?> cropMap) {
@@ -355,6 +363,14 @@ public class ImageController {
         }
     }
 
+    /**
+     * The signed query string for a sidecar path, from the cache when the same rendition
+     * was signed before.
+     */
+    private String signedQuery(String path, TreeMap<String, String> params) {
+        return imageCache.signedQuery(path, params, () -> buildSignedQuery(path, params));
+    }
+
     /**
      * Build HMAC-signed query string.
      * Format matches Polopoly: signature param key = "$p$w$h$..." (sorted),
@@ -418,14 +434,8 @@ public class ImageController {
         return sb.toString();
     }
 
-    /**
-     * Holds resolved image content info.
-     */
     private ResponseEntity<ErrorResponseDto> notFound(String message) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponseDto(HttpStatus.NOT_FOUND, message));
     }
-
-    private record ContentImageInfo(String fileUri, Map<String, Object> editInfo,
-                                       Integer origWidth, Integer origHeight) {}
 }
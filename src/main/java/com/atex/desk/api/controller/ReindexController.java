@@ -3,6 +3,7 @@ package com.atex.desk.api.controller;
 import com.atex.desk.api.dto.ReindexJobDto;
 import com.atex.desk.api.dto.ReindexRequestDto;
 import com.atex.desk.api.entity.IndexerState;
+import com.atex.desk.api.indexing.SolrIndexProcessor;
 import com.atex.desk.api.repository.IndexerStateRepository;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -14,6 +15,7 @@ import jakarta.persistence.EntityManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -37,11 +39,14 @@ public class ReindexController
     private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_INSTANT;
     private final IndexerStateRepository indexerStateRepository;
     private final EntityManager entityManager;
+    private final SolrIndexProcessor indexProcessor;
 
     public ReindexController(IndexerStateRepository indexerStateRepository,
-                             EntityManager entityManager) {
+                             EntityManager entityManager,
+                             @Nullable SolrIndexProcessor indexProcessor) {
         this.indexerStateRepository = indexerStateRepository;
         this.entityManager = entityManager;
+        this.indexProcessor = indexProcessor;
     }
 
     @PostMapping
@@ -291,6 +296,24 @@ public class ReindexController
             dto.setEta(eta);
         }
 
+        // Throughput
+        if (state.getStartedAt() != null && !"LIVE".equals(state.getJobType())) {
+            ReindexJobDto.Throughput throughput = new ReindexJobDto.Throughput();
+            Instant end = "RUNNING".equals(state.getStatus()) || state.getUpdatedAt() == null
+                ? Instant.now() : state.getUpdatedAt();
+            long elapsedMs = end.toEpochMilli() - state.getStartedAt().toEpochMilli();
+            if (elapsedMs > 0) {
+                throughput.setAverageDocsPerSecond(Math.round(state.getProcessedItems() * 10000.0 / elapsedMs) / 10.0);
+            }
+            if (indexProcessor != null && "RUNNING".equals(state.getStatus())) {
+                Double current = indexProcessor.getCurrentThroughput(state.getIndexerId());
+                if (current != null) {
+                    throughput.setCurrentDocsPerSecond(Math.round(current * 10) / 10.0);
+                }
+            }
+            dto.setThroughput(throughput);
+        }
+
         // Errors
         ReindexJobDto.Errors errors = new ReindexJobDto.Errors();
         errors.setCount(state.getErrorCount());
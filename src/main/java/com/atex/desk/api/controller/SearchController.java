@@ -1,7 +1,11 @@
 package com.atex.desk.api.controller;
 
+import com.atex.desk.api.onecms.LocalContentManager;
 import com.atex.desk.api.search.LocalSearchClient;
-import com.atex.onecms.content.ContentManager;
+import com.atex.onecms.content.ContentId;
+import com.atex.onecms.content.ContentResult;
+import com.atex.onecms.content.ContentVersionId;
+import com.atex.onecms.content.IdUtil;
 import com.atex.onecms.content.Subject;
 import com.atex.onecms.search.SearchOptions;
 import com.atex.onecms.search.SearchResponse;
@@ -35,7 +39,9 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -52,10 +58,10 @@ public class SearchController {
     private static final Logger LOG = Logger.getLogger(SearchController.class.getName());
 
     private final LocalSearchClient searchClient;
-    private final ContentManager contentManager;
+    private final LocalContentManager contentManager;
 
     public SearchController(LocalSearchClient searchClient,
-                            @Nullable ContentManager contentManager) {
+                            @Nullable LocalContentManager contentManager) {
         this.searchClient = searchClient;
         this.contentManager = contentManager;
     }
@@ -168,40 +174,56 @@ public class SearchController {
         if (docList.isEmpty()) return;
 
         // Collect docs that need inlining
-        record DocTask(SolrDocument doc, String contentId) {}
+        record DocTask(SolrDocument doc, ContentId contentId) {}
         List<DocTask> tasks = new ArrayList<>();
         for (SolrDocument doc : docList) {
             Object idObj = doc.getFieldValue("id");
-            if (idObj != null) {
-                tasks.add(new DocTask(doc, idObj.toString()));
+            if (idObj == null) continue;
+            try {
+                ContentId cid = IdUtil.fromString(idObj.toString());
+                if (cid != null) {
+                    tasks.add(new DocTask(doc, cid));
+                }
+            } catch (IllegalArgumentException e) {
+                LOG.log(Level.FINE, "Cannot inline content for " + idObj, e);
             }
         }
         if (tasks.isEmpty()) return;
 
-        // Resolve all content in parallel using virtual threads
+        // Resolve and load the whole page with a fixed number of queries
         com.google.gson.Gson gson = new com.google.gson.Gson();
-        try (var executor = java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor()) {
-            var futures = tasks.stream().map(task -> executor.submit(() -> {
-                try {
-                    var cid = com.atex.onecms.content.IdUtil.fromString(task.contentId());
-                    if (cid == null) return;
-                    var vid = contentManager.resolve(cid, Subject.NOBODY_CALLER);
-                    if (vid == null) return;
-                    var result = contentManager.get(vid, variant, Object.class, null, Subject.NOBODY_CALLER);
-                    if (result != null && result.getContent() != null) {
-                        String json = gson.toJson(result.getContent().getContentData());
-                        task.doc().setField("_data", json);
-                    }
-                } catch (Exception e) {
-                    LOG.log(Level.FINE, "Failed to inline content for " + task.contentId(), e);
-                }
-            })).toList();
+        Map<ContentId, ContentVersionId> resolved;
+        Map<ContentVersionId, ContentResult<Object>> results;
+        try {
+            resolved = contentManager.resolveMany(
+                tasks.stream().map(DocTask::contentId).toList(), Subject.NOBODY_CALLER);
+            results = contentManager.getMany(
+                new ArrayList<>(new LinkedHashSet<>(resolved.values())), variant, Object.class, null,
+                Subject.NOBODY_CALLER);
+        } catch (Exception e) {
+            // One bad item fails the whole batch: load the page item by item instead
+            LOG.log(Level.FINE, "Failed to inline " + tasks.size() + " search hits in one batch", e);
+            resolved = null;
+            results = null;
+        }
 
-            // Wait for all to complete
-            for (var future : futures) {
-                try { future.get(); } catch (Exception e) {
-                    LOG.log(Level.FINE, "Content inline task failed", e);
+        for (DocTask task : tasks) {
+            try {
+                ContentResult<Object> result;
+                if (results != null) {
+                    ContentVersionId vid = resolved.get(task.contentId());
+                    result = vid != null ? results.get(vid) : null;
+                } else {
+                    ContentVersionId vid = contentManager.resolve(task.contentId(), Subject.NOBODY_CALLER);
+                    result = vid != null
+                        ? contentManager.get(vid, variant, Object.class, null, Subject.NOBODY_CALLER) : null;
                 }
+                if (result != null && result.getContent() != null) {
+                    String json = gson.toJson(result.getContent().getContentData());
+                    task.doc().setField("_data", json);
+                }
+            } catch (Exception e) {
+                LOG.log(Level.FINE, "Failed to inline content for " + task.contentId(), e);
             }
         }
     }
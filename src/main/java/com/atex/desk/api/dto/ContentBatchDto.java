@@ -0,0 +1,37 @@
+package com.atex.desk.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Request body of {@code POST /content/batch}.
+ */
+@Schema(description = "A batch of content creates and updates")
+public class ContentBatchDto
+{
+    @Schema(description = "The writes, stored in order")
+    private List<Item> items;
+
+    public List<Item> getItems() { return items; }
+    public void setItems(List<Item> items) { this.items = items; }
+
+    /**
+     * One write of the batch.
+     */
+    @Schema(description = "A create, or an update when 'id' is set")
+    public static class Item
+    {
+        @Schema(description = "The non versioned contentId to update; omit to create a new content")
+        private String id;
+
+        @Schema(description = "The content to store. For updates, 'version' (if set) must be the current version")
+        private ContentWriteDto content;
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+
+        public ContentWriteDto getContent() { return content; }
+        public void setContent(ContentWriteDto content) { this.content = content; }
+    }
+}
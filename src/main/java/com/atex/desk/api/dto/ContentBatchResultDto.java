@@ -0,0 +1,56 @@
+package com.atex.desk.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response body of {@code POST /content/batch}: one result per item, in request order.
+ */
+@Schema(description = "The outcome of each write of a batch")
+public class ContentBatchResultDto
+{
+    @Schema(description = "One result per item, in request order")
+    private List<Item> results;
+
+    public ContentBatchResultDto() {}
+
+    public ContentBatchResultDto(List<Item> results)
+    {
+        this.results = results;
+    }
+
+    public List<Item> getResults() { return results; }
+    public void setResults(List<Item> results) { this.results = results; }
+
+    @Schema(description = "The outcome of one write")
+    public static class Item
+    {
+        @Schema(description = "The internal status code (HTTP status × 100)", example = "20100")
+        private int statusCode;
+
+        @Schema(description = "Why the write failed")
+        private String message;
+
+        @Schema(description = "The stored content, if the write succeeded")
+        private ContentResultDto content;
+
+        public Item() {}
+
+        public Item(int statusCode, String message, ContentResultDto content)
+        {
+            this.statusCode = statusCode;
+            this.message = message;
+            this.content = content;
+        }
+
+        public int getStatusCode() { return statusCode; }
+        public void setStatusCode(int statusCode) { this.statusCode = statusCode; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+
+        public ContentResultDto getContent() { return content; }
+        public void setContent(ContentResultDto content) { this.content = content; }
+    }
+}
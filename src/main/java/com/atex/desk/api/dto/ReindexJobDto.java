@@ -20,6 +20,9 @@ public class ReindexJobDto
     @Schema(description = "ETA information (null if not yet started)")
     private Eta eta;
 
+    @Schema(description = "Throughput information (null if not yet started)")
+    private Throughput throughput;
+
     @Schema(description = "Error information")
     private Errors errors;
 
@@ -85,6 +88,22 @@ public class ReindexJobDto
         public void setEstimatedCompletionTime(String estimatedCompletionTime) { this.estimatedCompletionTime = estimatedCompletionTime; }
     }
 
+    @Schema(description = "Indexing throughput")
+    public static class Throughput
+    {
+        @Schema(description = "Average documents per second since processing started")
+        private Double averageDocsPerSecond;
+
+        @Schema(description = "Documents per second over the last few batches (null if not running on this instance)")
+        private Double currentDocsPerSecond;
+
+        public Double getAverageDocsPerSecond() { return averageDocsPerSecond; }
+        public void setAverageDocsPerSecond(Double averageDocsPerSecond) { this.averageDocsPerSecond = averageDocsPerSecond; }
+
+        public Double getCurrentDocsPerSecond() { return currentDocsPerSecond; }
+        public void setCurrentDocsPerSecond(Double currentDocsPerSecond) { this.currentDocsPerSecond = currentDocsPerSecond; }
+    }
+
     @Schema(description = "Error details")
     public static class Errors
     {
@@ -116,6 +135,9 @@ public class ReindexJobDto
     public Eta getEta() { return eta; }
     public void setEta(Eta eta) { this.eta = eta; }
 
+    public Throughput getThroughput() { return throughput; }
+    public void setThroughput(Throughput throughput) { this.throughput = throughput; }
+
     public Errors getErrors() { return errors; }
     public void setErrors(Errors errors) { this.errors = errors; }
 
@@ -0,0 +1,27 @@
+package com.atex.desk.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Cluster-wide allocation counter; {@code nextVal} is the highest value handed out so far.
+ */
+@Entity
+@Table(name = "changelist_sequence")
+public class ChangeListSequence
+{
+    @Id
+    @Column(length = 64, nullable = false)
+    private String name;
+
+    @Column(name = "next_val", nullable = false)
+    private long nextVal;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public long getNextVal() { return nextVal; }
+    public void setNextVal(long nextVal) { this.nextVal = nextVal; }
+}
@@ -1,5 +1,6 @@
 package com.atex.desk.api.file;
 
+import com.atex.desk.api.onecms.LocalFileService;
 import com.atex.onecms.content.Subject;
 import com.atex.onecms.content.files.FileInfo;
 import com.atex.onecms.content.files.FileService;
@@ -7,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -79,6 +81,13 @@ public class DelegatingFileService implements FileService {
         return resolveBySpace(space).listFiles(space, host, subject);
     }
 
+    /**
+     * The local filesystem path of a URI routed to a {@link LocalFileService}, or null.
+     */
+    public Path resolveLocalPath(String uri) {
+        return resolveByUri(uri) instanceof LocalFileService local ? local.resolveUriToPath(uri) : null;
+    }
+
     private FileService resolveByUri(String uri) {
         if (s3Service != null && s3Service.handles(uri)) {
             return s3Service;
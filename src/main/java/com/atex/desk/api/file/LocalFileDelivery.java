@@ -0,0 +1,304 @@
+package com.atex.desk.api.file;
+
+import com.atex.desk.api.onecms.LocalFileService;
+import com.atex.onecms.content.files.FileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Serves files of the local file store straight from disk.
+ *
+ * Whole files and single ranges are handed to the servlet container's sendfile support when
+ * it offers it (Tomcat NIO without TLS), so the kernel copies the bytes from the page cache to
+ * the socket. Otherwise, and for multi-range responses, bytes are copied with
+ * {@link FileChannel#transferTo} instead of a read/write loop over a buffer of our own.
+ *
+ * Responses carry a strong ETag built from the file's size and modification time plus
+ * Last-Modified. If-None-Match and If-Modified-Since answer 304, If-Range is honoured, and Range
+ * may ask for several ranges (served as multipart/byteranges); unsatisfiable ranges get 416.
+ * Overlapping and adjacent ranges are merged, and a Range header asking for more bytes in total
+ * than the file holds is ignored (200 with the whole file), so a request cannot make the server
+ * send a file many times over.
+ */
+public final class LocalFileDelivery {
+
+    /** Request attributes of Tomcat's sendfile support. */
+    public static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    public static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    public static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    public static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CRLF = "\r\n";
+
+    private LocalFileDelivery() {}
+
+    /**
+     * Resolve a file URI to a path on local disk, if the file service keeps that URI locally.
+     *
+     * @return the path, or null if the URI is not served from the local file store
+     */
+    public static Path resolve(FileService fileService, String uri) {
+        if (fileService instanceof LocalFileService local) {
+            return local.resolveUriToPath(uri);
+        }
+        if (fileService instanceof DelegatingFileService delegating) {
+            return delegating.resolveLocalPath(uri);
+        }
+        return null;
+    }
+
+    /**
+     * Write {@code file} as the response to a GET or HEAD request.
+     *
+     * @param mimeType the content type, or null to probe it from the file
+     * @param headers  additional headers to send (e.g. Cache-Control) on every response
+     * @return false if the file does not exist, in which case nothing was written
+     */
+    public static boolean deliver(Path file, String mimeType, HttpHeaders headers,
+                                  HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (!attrs.isRegularFile()) {
+            return false;
+        }
+
+        long length = attrs.size();
+        long modified = attrs.lastModifiedTime().toMillis();
+        String etag = etag(length, modified);
+
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, modified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(request, etag, modified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+
+        if (mimeType == null) {
+            mimeType = Files.probeContentType(file);
+        }
+        if (mimeType == null) {
+            mimeType = "application/octet-stream";
+        }
+
+        List<long[]> ranges = List.of();
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, etag, modified)) {
+            List<HttpRange> requested;
+            try {
+                requested = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                requested = List.of(); // malformed Range headers are ignored
+            }
+            ranges = satisfiable(requested, length);
+            if (!requested.isEmpty() && ranges.isEmpty()) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return true;
+            }
+            ranges = totalLength(ranges) > length ? List.of() : coalesce(ranges);
+        }
+        boolean head = "HEAD".equals(request.getMethod());
+
+        if (ranges.size() > 1) {
+            String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+            List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+            long contentLength = 0;
+            for (long[] range : ranges) {
+                byte[] partHeader = (CRLF + "--" + boundary + CRLF
+                        + HttpHeaders.CONTENT_TYPE + ": " + mimeType + CRLF
+                        + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range, length) + CRLF + CRLF)
+                        .getBytes(StandardCharsets.US_ASCII);
+                partHeaders.add(partHeader);
+                contentLength += partHeader.length + (range[1] - range[0] + 1);
+            }
+            byte[] trailer = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+            contentLength += trailer.length;
+
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType("multipart/byteranges; boundary=" + boundary);
+            response.setContentLengthLong(contentLength);
+            if (head) return true;
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                for (int i = 0; i < ranges.size(); i++) {
+                    long[] range = ranges.get(i);
+                    writeFully(out, partHeaders.get(i));
+                    transfer(channel, range[0], range[1] - range[0] + 1, out);
+                }
+                writeFully(out, trailer);
+            }
+            return true;
+        }
+
+        long start = 0;
+        long count = length;
+        if (ranges.size() == 1) {
+            long[] range = ranges.getFirst();
+            start = range[0];
+            count = range[1] - range[0] + 1;
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(range, length));
+        } else {
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+        response.setContentType(mimeType);
+        response.setContentLengthLong(count);
+        if (head || count == 0) return true;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The container sends the file once the request returns; nothing may be written here
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return true;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+        return true;
+    }
+
+    /**
+     * Strong validator for a file: it changes whenever the file's size or modification time does.
+     */
+    static String etag(long length, long modified) {
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(modified) + "\"";
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, long modified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match takes precedence over If-Modified-Since and uses the weak comparison
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || stripWeak(tag).equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && modified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long modified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range requires the strong comparison
+            return ifRange.equals(etag);
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && modified / 1000 == date / 1000;
+    }
+
+    private static List<long[]> satisfiable(List<HttpRange> requested, long length) {
+        List<long[]> ranges = new ArrayList<>(requested.size());
+        for (HttpRange range : requested) {
+            try {
+                long start = range.getRangeStart(length);
+                long end = range.getRangeEnd(length);
+                if (start <= end) {
+                    ranges.add(new long[]{start, end});
+                }
+            } catch (IllegalArgumentException e) {
+                // start beyond the end of the file: skip this range
+            }
+        }
+        return ranges;
+    }
+
+    private static long totalLength(List<long[]> ranges) {
+        long total = 0;
+        for (long[] range : ranges) {
+            total += range[1] - range[0] + 1;
+        }
+        return total;
+    }
+
+    /**
+     * Merge overlapping and adjacent ranges, in ascending order.
+     */
+    private static List<long[]> coalesce(List<long[]> ranges) {
+        if (ranges.size() < 2) {
+            return ranges;
+        }
+        List<long[]> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(range -> range[0]));
+        List<long[]> merged = new ArrayList<>(sorted.size());
+        long[] current = sorted.getFirst().clone();
+        for (long[] range : sorted.subList(1, sorted.size())) {
+            if (range[0] <= current[1] + 1) {
+                current[1] = Math.max(current[1], range[1]);
+            } else {
+                merged.add(current);
+                current = range.clone();
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+
+    private static String contentRange(long[] range, long length) {
+        return "bytes " + range[0] + "-" + range[1] + "/" + length;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static void transfer(FileChannel channel, long position, long count,
+                                 WritableByteChannel out) throws IOException {
+        while (count > 0) {
+            long sent = channel.transferTo(position, count, out);
+            if (sent <= 0) {
+                throw new IOException("File truncated while being sent");
+            }
+            position += sent;
+            count -= sent;
+        }
+    }
+
+    private static void writeFully(WritableByteChannel out, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
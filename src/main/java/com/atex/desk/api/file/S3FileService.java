@@ -11,25 +11,39 @@ import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.model.*;
 
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * Amazon S3-backed FileService implementation.
  * Ported from Polopoly's FileServiceS3.
  *
+ * Uploads up to {@code multipart-threshold} bytes are sent as a single PUT; larger ones are
+ * streamed as a multipart upload of {@code part-size} parts with at most
+ * {@code max-concurrent-uploads} parts in flight, so an upload never has to fit in memory.
+ *
  * URI scheme mapping:
  * - "content://{host}/{path}" → bucket=bucketContent, key={host}/{path}
  * - "tmp://{host}/{path}"     → bucket=bucketTmp, key={host}/{path}
@@ -42,6 +56,10 @@ public class S3FileService implements FileService {
     private static final DateTimeFormatter DATE_PREFIX_FORMAT =
             DateTimeFormatter.ofPattern("yyyy/MM/dd/HH");
 
+    /** S3 requires parts (but the last) of at least 5 MiB; parts are buffered, so at most one array. */
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long MAX_PART_SIZE = Integer.MAX_VALUE - 8;
+
     private final S3Client s3Client;
     private final FileServiceProperties.S3Properties config;
 
@@ -149,31 +167,164 @@ public class S3FileService implements FileService {
             return null;
         }
 
+        Map<String, String> metadata = Map.of("original-path", path != null ? path : filename);
         try {
-            byte[] bytes = readAllBytes(data);
-            byte[] checksum = computeMd5(bytes);
+            // The checksum is computed as the data streams past, whichever way it is uploaded
+            MessageDigest md5 = MessageDigest.getInstance("MD5");
+            DigestInputStream in = new DigestInputStream(data, md5);
+
+            int threshold = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(0, config.getMultipartThreshold()));
+            byte[] head = in.readNBytes(threshold + 1);
+            long size;
+            if (head.length <= threshold) {
+                putObject(s3Path, metadata, mimeType, head);
+                size = head.length;
+            } else {
+                size = multipartUpload(s3Path, metadata, mimeType,
+                        new SequenceInputStream(new ByteArrayInputStream(head), in));
+            }
+            byte[] checksum = md5.digest();
 
-            PutObjectRequest.Builder putBuilder = PutObjectRequest.builder()
-                    .bucket(s3Path.bucket)
-                    .key(s3Path.key);
+            long now = System.currentTimeMillis();
+            return new FileInfo(uri, path, mimeType, checksum, size, now, now, now);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LOG.error("Failed to upload file to S3: {}", uri, e);
+            return null;
+        }
+    }
+
+    private void putObject(S3ObjectPath s3Path, Map<String, String> metadata, String mimeType, byte[] bytes) {
+        PutObjectRequest.Builder putBuilder = PutObjectRequest.builder()
+                .bucket(s3Path.bucket)
+                .key(s3Path.key)
+                .metadata(metadata);
+        if (mimeType != null) {
+            putBuilder.contentType(mimeType);
+        }
+        s3Client.putObject(putBuilder.build(), body(bytes));
+    }
 
-            if (mimeType != null) {
-                putBuilder.contentType(mimeType);
+    /**
+     * Upload a stream as an S3 multipart upload. Parts are read one at a time on the calling
+     * thread and uploaded by up to {@code maxConcurrentUploads} parallel requests; reading blocks
+     * while that many are in flight, so at most that many parts are held in memory. On any
+     * failure the remaining parts are cancelled and the upload is aborted, so no incomplete
+     * upload is left behind in the bucket.
+     *
+     * @return the number of bytes uploaded
+     */
+    private long multipartUpload(S3ObjectPath s3Path, Map<String, String> metadata, String mimeType,
+                                 InputStream in) throws Exception {
+        CreateMultipartUploadRequest.Builder createBuilder = CreateMultipartUploadRequest.builder()
+                .bucket(s3Path.bucket)
+                .key(s3Path.key)
+                .metadata(metadata);
+        if (mimeType != null) {
+            createBuilder.contentType(mimeType);
+        }
+        String uploadId = s3Client.createMultipartUpload(createBuilder.build()).uploadId();
+
+        int partSize = (int) Math.min(MAX_PART_SIZE, Math.max(MIN_PART_SIZE, config.getPartSize()));
+        Semaphore inFlight = new Semaphore(Math.max(1, config.getMaxConcurrentUploads()));
+        List<Future<CompletedPart>> parts = new ArrayList<>();
+        long total = 0;
+        Exception failure = null;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                int partNumber = 1;
+                while (true) {
+                    inFlight.acquire();
+                    if (parts.stream().anyMatch(f -> f.state() == Future.State.FAILED)) {
+                        inFlight.release();
+                        break;
+                    }
+                    byte[] part = in.readNBytes(partSize);
+                    if (part.length == 0) {
+                        inFlight.release();
+                        break;
+                    }
+                    total += part.length;
+                    int number = partNumber++;
+                    parts.add(executor.submit(() -> {
+                        try {
+                            return uploadPart(s3Path, uploadId, number, part);
+                        } finally {
+                            inFlight.release();
+                        }
+                    }));
+                    if (part.length < partSize) {
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                failure = e;
+                parts.forEach(f -> f.cancel(true));
             }
+        }
 
-            // Store original path as metadata
-            putBuilder.metadata(java.util.Map.of(
-                    "original-path", path != null ? path : filename
-            ));
+        List<CompletedPart> completed = new ArrayList<>(parts.size());
+        if (failure == null) {
+            for (Future<CompletedPart> part : parts) {
+                try {
+                    completed.add(part.get());
+                } catch (ExecutionException e) {
+                    failure = e.getCause() instanceof Exception cause ? cause : e;
+                    break;
+                } catch (CancellationException e) {
+                    failure = e;
+                    break;
+                }
+            }
+        }
 
-            s3Client.putObject(putBuilder.build(), RequestBody.fromBytes(bytes));
+        if (failure == null) {
+            try {
+                s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(s3Path.bucket)
+                        .key(s3Path.key)
+                        .uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                        .build());
+                return total;
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
 
-            long now = System.currentTimeMillis();
-            return new FileInfo(uri, path, mimeType, checksum, bytes.length, now, now, now);
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(s3Path.bucket)
+                    .key(s3Path.key)
+                    .uploadId(uploadId)
+                    .build());
         } catch (Exception e) {
-            LOG.error("Failed to upload file to S3: {}", uri, e);
-            return null;
+            failure.addSuppressed(e);
         }
+        throw failure;
+    }
+
+    private CompletedPart uploadPart(S3ObjectPath s3Path, String uploadId, int partNumber, byte[] bytes) {
+        UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                .bucket(s3Path.bucket)
+                .key(s3Path.key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) bytes.length)
+                .build(), body(bytes));
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build();
+    }
+
+    /** Wrap a buffer the SDK can re-read on retry, without the copy {@code fromBytes} makes. */
+    private static RequestBody body(byte[] bytes) {
+        return RequestBody.fromContentProvider(ContentStreamProvider.fromByteArrayUnsafe(bytes),
+                bytes.length, "application/octet-stream");
     }
 
     @Override
@@ -361,24 +512,5 @@ public class S3FileService implements FileService {
         return LocalDateTime.now().format(DATE_PREFIX_FORMAT);
     }
 
-    private byte[] readAllBytes(InputStream is) throws Exception {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        byte[] buffer = new byte[8192];
-        int bytesRead;
-        while ((bytesRead = is.read(buffer)) != -1) {
-            baos.write(buffer, 0, bytesRead);
-        }
-        return baos.toByteArray();
-    }
-
-    private byte[] computeMd5(byte[] data) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            return md.digest(data);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     private record S3ObjectPath(String bucket, String key) {}
 }
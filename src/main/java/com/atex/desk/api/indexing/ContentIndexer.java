@@ -5,11 +5,12 @@ import com.atex.onecms.content.ContentResult;
 import com.atex.onecms.content.ContentVersionId;
 import com.atex.onecms.content.IdUtil;
 import com.atex.onecms.app.dam.solr.SolrService;
-import com.google.gson.JsonObject;
+import org.apache.solr.common.SolrInputDocument;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,6 +20,9 @@ import java.util.logging.Logger;
  *
  * <p>Receives the already-fetched ContentResult from LocalContentManager
  * to avoid a circular dependency (LocalContentManager → ContentIndexer → ContentManager).
+ *
+ * <p>Writes are handed to {@link SolrIndexQueue} and return immediately; Solr latency
+ * and commits stay off the caller's path.
  */
 @Component
 public class ContentIndexer {
@@ -26,18 +30,24 @@ public class ContentIndexer {
     private static final Logger LOG = Logger.getLogger(ContentIndexer.class.getName());
 
     private final SolrService solrService;
+    private final SolrIndexQueue indexQueue;
     private final DamIndexComposer composer;
     private final boolean enabled;
     private final String collection;
+    private final boolean directCompose;
 
     public ContentIndexer(@Nullable SolrService solrService,
+                          SolrIndexQueue indexQueue,
                           DamIndexComposer composer,
                           @Value("${desk.indexing.enabled:true}") boolean enabled,
-                          @Value("${desk.solr-core:onecms}") String collection) {
+                          @Value("${desk.solr-core:onecms}") String collection,
+                          @Value("${desk.indexing.direct-compose:true}") boolean directCompose) {
         this.solrService = solrService;
+        this.indexQueue = indexQueue;
         this.composer = composer;
         this.enabled = enabled;
         this.collection = collection;
+        this.directCompose = directCompose;
     }
 
     /**
@@ -54,9 +64,14 @@ public class ContentIndexer {
                 return;
             }
 
-            JsonObject solrDoc = composer.compose(contentResult, versionId);
-            solrService.index(collection, solrDoc);
-            LOG.fine(() -> "Indexed content: " + IdUtil.toVersionedIdString(versionId));
+            SolrInputDocument solrDoc = directCompose
+                ? composer.composeSolrDocument(contentResult, versionId)
+                : SolrService.jsonToSolrDoc(composer.compose(contentResult, versionId));
+            indexQueue.add(collection, List.of(solrDoc))
+                .whenComplete((ok, e) -> {
+                    if (e != null) LOG.log(Level.WARNING, "Failed to index content: " + versionId, e);
+                    else LOG.fine(() -> "Indexed content: " + IdUtil.toVersionedIdString(versionId));
+                });
         } catch (Exception e) {
             LOG.log(Level.WARNING, "Failed to index content: " + versionId, e);
         }
@@ -70,8 +85,11 @@ public class ContentIndexer {
 
         try {
             String id = IdUtil.toIdString(contentId);
-            solrService.delete(collection, id);
-            LOG.fine(() -> "Deleted from index: " + id);
+            indexQueue.delete(collection, List.of(id))
+                .whenComplete((ok, e) -> {
+                    if (e != null) LOG.log(Level.WARNING, "Failed to delete from index: " + contentId, e);
+                    else LOG.fine(() -> "Deleted from index: " + id);
+                });
         } catch (Exception e) {
             LOG.log(Level.WARNING, "Failed to delete from index: " + contentId, e);
         }
@@ -19,13 +19,16 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import org.apache.solr.common.SolrInputDocument;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +39,9 @@ import java.util.logging.Logger;
  * Composes Solr JSON documents from content results.
  * Combines logic from the original IndexComposer + DamIndexComposer + SystemFieldComposer.
  * <p>
+ * Two output modes: {@link #compose} builds a Gson JsonObject (the original path), and
+ * {@link #composeSolrDocument} writes typed values straight into a SolrInputDocument.
+ * <p>
  * Uses explicit field-name-to-Solr-field mappings rather than runtime type guessing.
  * Fields not in the mapping are skipped (not indexed) to avoid mistyped field names.
  * <p>
@@ -498,6 +504,346 @@ public class DamIndexComposer {
         }
     }
 
+    // ========================
+    // Direct composition
+    // ========================
+
+    /**
+     * Compose a SolrInputDocument straight from a content result.
+     * <p>
+     * Produces the same fields as {@link #compose} followed by a JSON-to-Solr conversion,
+     * but reads Map content data directly, converts beans with a single {@code toJsonTree}
+     * instead of a serialize/parse round trip, and writes typed values (long, double,
+     * boolean, String) without re-inspecting a JSON tree.
+     */
+    public SolrInputDocument composeSolrDocument(ContentResult<Object> contentResult, ContentVersionId versionId) {
+        SolrInputDocument doc = new SolrInputDocument();
+
+        try {
+            Content<Object> content = contentResult.getContent();
+            if (content == null) return doc;
+
+            // --- System fields ---
+            doc.setField("id", IdUtil.toIdString(versionId.getContentId()));
+            doc.setField("version", IdUtil.toVersionedIdString(versionId));
+
+            String contentType = content.getContentDataType();
+            if (contentType != null) {
+                doc.setField("inputTemplate", contentType);
+                int lastDot = contentType.lastIndexOf('.');
+                doc.setField("type", lastDot >= 0 ? contentType.substring(lastDot + 1) : contentType);
+            }
+
+            // Timestamps
+            doc.setField("modificationTime_dt", formatSolrDate(System.currentTimeMillis()));
+            if (contentResult.getMeta() != null) {
+                long modTime = contentResult.getMeta().getModificationTime();
+                if (modTime > 0) {
+                    doc.setField("modificationTime_dt", formatSolrDate(modTime));
+                }
+                long createTime = contentResult.getMeta().getOriginalCreationTime();
+                if (createTime > 0) {
+                    doc.setField("creationTime_dt", formatSolrDate(createTime));
+                }
+            }
+
+            // --- Main aspect data (contentData) ---
+            Object mainData = content.getContentData();
+            if (mainData != null) {
+                addContentDataFields(doc, mainData);
+
+                if (mainData instanceof OneContentBean bean) {
+                    Date creationDate = bean.getCreationdate();
+                    if (creationDate != null) {
+                        doc.setField("originalCreationTime_dt", formatSolrDate(creationDate.getTime()));
+                    }
+
+                    addTextField(doc, "name_t", bean.getName());
+                    addTextField(doc, "name_atex_desk_ss", bean.getName());
+                    addTextField(doc, "author_t", bean.getAuthor());
+                    addTextField(doc, "section_t", bean.getSection());
+                    addTextField(doc, "source_t", bean.getSource());
+                    addTextField(doc, "subject_t", bean.getSubject());
+                    addTextField(doc, "channel_atex_desk_s", bean.getChannel());
+
+                    if (mainData instanceof PremiumTypeSupport pts) {
+                        addTextField(doc, "premiumtype_atex_desk_s", pts.getPremiumType());
+                    }
+                }
+            }
+
+            // --- Additional aspects (only known fields) ---
+            for (Aspect aspect : content.getAspects()) {
+                Object aspectData = aspect.getData();
+                if (aspectData == null) continue;
+                addKnownAspectFields(doc, aspect.getName(), aspectData);
+            }
+
+            // --- Hierarchy fields (page_ss) ---
+            List<String> pages = hierarchyValues(content);
+            if (!pages.isEmpty()) {
+                doc.setField("page_ss", pages);
+            }
+
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Error composing Solr document", e);
+        }
+
+        return doc;
+    }
+
+    private void addContentDataFields(SolrInputDocument doc, Object data) {
+        try {
+            if (data instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (entry.getValue() != null) {
+                        addContentDataField(doc, String.valueOf(entry.getKey()), entry.getValue());
+                    }
+                }
+                return;
+            }
+
+            JsonElement tree = gson.toJsonTree(data);
+            if (!tree.isJsonObject()) return;
+            for (Map.Entry<String, JsonElement> entry : tree.getAsJsonObject().entrySet()) {
+                if (!entry.getValue().isJsonNull()) {
+                    addContentDataField(doc, entry.getKey(), entry.getValue());
+                }
+            }
+        } catch (Exception e) {
+            LOG.log(Level.FINE, "Cannot read contentData", e);
+        }
+    }
+
+    /**
+     * Map a single contentData field. {@code value} is either a plain Java value (Map data)
+     * or a Gson element (bean data); only fields with a Solr mapping are converted.
+     */
+    private void addContentDataField(SolrInputDocument doc, String fieldName, Object value) {
+        if (SKIP_FIELDS.contains(fieldName)) return;
+
+        String solrName = STRUCTURED_TEXT_FIELDS.get(fieldName);
+        if (solrName != null) {
+            Object text;
+            if (value instanceof JsonObject st) {
+                text = toPlain(st.get("text"));
+            } else {
+                Object plain = toPlain(value);
+                text = plain instanceof Map<?, ?> st ? st.get("text") : plain;
+            }
+            if (isScalar(text)) {
+                String str = scalarString(text);
+                if (!str.isEmpty()) {
+                    doc.setField(solrName, str);
+                }
+            }
+            return;
+        }
+
+        solrName = DamMapping.getSolrFieldNameByFieldName(fieldName);
+        if (solrName == null) {
+            solrName = ADDITIONAL_FIELD_MAP.get(fieldName);
+        }
+        if (solrName != null) {
+            addSolrValue(doc, solrName, toPlain(value));
+        } else if (LOG.isLoggable(Level.FINEST)) {
+            LOG.finest("Skipping unknown contentData field: " + fieldName);
+        }
+    }
+
+    private void addKnownAspectFields(SolrInputDocument doc, String aspectName, Object aspectData) {
+        switch (aspectName) {
+            case WFContentStatusAspectBean.ASPECT_NAME -> {
+                WFStatusBean status = aspectData instanceof WFContentStatusAspectBean wfBean ? wfBean.getStatus() : null;
+                if (status != null || !(aspectData instanceof WFContentStatusAspectBean)) {
+                    addStatusFields(doc, aspectData, status, "contentState_s", false);
+                }
+            }
+            case WebContentStatusAspectBean.ASPECT_NAME -> {
+                WFStatusBean status = aspectData instanceof WebContentStatusAspectBean wcsBean ? wcsBean.getStatus() : null;
+                if (status != null || !(aspectData instanceof WebContentStatusAspectBean)) {
+                    addStatusFields(doc, aspectData, status, "webStatus_s", true);
+                }
+            }
+            default -> {
+                // InsertionInfo is handled in hierarchyValues; other aspects are not indexed
+            }
+        }
+    }
+
+    /**
+     * Index a workflow status (typed bean, or the {@code status} object of untyped aspect data)
+     * as its status ID, plus the status attributes when requested.
+     */
+    private void addStatusFields(SolrInputDocument doc, Object aspectData, WFStatusBean typed,
+                                 String solrFieldName, boolean withAttributes) {
+        String statusId;
+        Object attributes;
+        if (typed != null) {
+            statusId = typed.getStatusID();
+            attributes = typed.getAttributes();
+        } else {
+            Object plain = aspectData instanceof Map<?, ?> ? aspectData : toPlain(gson.toJsonTree(aspectData));
+            if (!(plain instanceof Map<?, ?> map) || !(map.get("status") instanceof Map<?, ?> status)) return;
+            Object id = status.get("statusID");
+            if (!isScalar(id)) return;
+            statusId = scalarString(id);
+            attributes = status.get("attributes");
+        }
+        if (statusId == null || statusId.isEmpty()) return;
+
+        doc.setField(solrFieldName, statusId);
+        if (withAttributes && attributes instanceof Collection<?> attrs) {
+            List<String> values = scalarStrings(attrs);
+            if (!values.isEmpty()) {
+                doc.setField("web_content_status_attribute_ss", values);
+            }
+        }
+    }
+
+    /**
+     * Add a plain value to the Solr doc with its Solr type. Date fields (suffix _dt or _dts)
+     * given as numbers are epoch millis. Collections become multi-valued string fields;
+     * nested objects are not indexed.
+     */
+    private void addSolrValue(SolrInputDocument doc, String solrFieldName, Object value) {
+        if (value instanceof Boolean b) {
+            doc.setField(solrFieldName, b);
+        } else if (value instanceof Number num) {
+            if (solrFieldName.endsWith("_dt") || solrFieldName.endsWith("_dts")) {
+                long millis = num.longValue();
+                if (millis > 0) {
+                    doc.setField(solrFieldName, formatSolrDate(millis));
+                }
+            } else {
+                doc.setField(solrFieldName, solrNumber(num));
+            }
+        } else if (value instanceof Collection<?> values && !values.isEmpty()) {
+            // A non-empty array replaces the field even if none of its items are indexable
+            List<String> strings = scalarStrings(values);
+            if (!strings.isEmpty()) {
+                doc.setField(solrFieldName, strings);
+            } else {
+                doc.removeField(solrFieldName);
+            }
+        } else if (isScalar(value)) {
+            String str = scalarString(value);
+            if (!str.isEmpty()) {
+                doc.setField(solrFieldName, str);
+            }
+        }
+    }
+
+    private List<String> hierarchyValues(Content<Object> content) {
+        Object iiData = content.getAspectData(InsertionInfoAspectBean.ASPECT_NAME);
+        List<String> pages = new ArrayList<>();
+        if (iiData instanceof InsertionInfoAspectBean ii) {
+            if (ii.getSecurityParentId() != null) {
+                pages.add(IdUtil.toIdString(ii.getSecurityParentId()));
+            }
+            if (ii.getInsertParentId() != null) {
+                pages.add(ii.getInsertParentId());
+            }
+            if (ii.getAssociatedSites() != null) {
+                for (String site : ii.getAssociatedSites()) {
+                    if (site != null) pages.add(site);
+                }
+            }
+        } else if (iiData instanceof Map<?, ?> map) {
+            Object secParent = map.get("securityParentId");
+            if (secParent instanceof String s) {
+                pages.add(s);
+            } else if (secParent instanceof Map<?, ?> idMap
+                    && idMap.get("delegationId") instanceof String delegationId
+                    && idMap.get("key") instanceof String key) {
+                pages.add(delegationId + ":" + key);
+            }
+            if (map.get("insertParentId") instanceof String s) {
+                pages.add(s);
+            }
+            if (map.get("associatedSites") instanceof Collection<?> sites) {
+                for (Object site : sites) {
+                    if (site instanceof String s) pages.add(s);
+                }
+            }
+        }
+        return pages;
+    }
+
+    private void addTextField(SolrInputDocument doc, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            doc.setField(field, value);
+        }
+    }
+
+    /**
+     * Convert a Gson element or a bean to plain Java values (Map, List, String, Boolean, Number).
+     * Values that already are plain are returned unchanged.
+     */
+    private Object toPlain(Object value) {
+        if (value == null || value instanceof Map<?, ?> || value instanceof Collection<?> || isScalar(value)) {
+            return value;
+        }
+        JsonElement el = value instanceof JsonElement je ? je : gson.toJsonTree(value);
+        if (el.isJsonNull()) return null;
+        if (el.isJsonPrimitive()) {
+            var prim = el.getAsJsonPrimitive();
+            if (prim.isBoolean()) return prim.getAsBoolean();
+            if (prim.isNumber()) return prim.getAsNumber();
+            return prim.getAsString();
+        }
+        if (el.isJsonArray()) {
+            List<Object> list = new ArrayList<>(el.getAsJsonArray().size());
+            for (JsonElement item : el.getAsJsonArray()) {
+                list.add(toPlain(item));
+            }
+            return list;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : el.getAsJsonObject().entrySet()) {
+            map.put(entry.getKey(), toPlain(entry.getValue()));
+        }
+        return map;
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+            || value instanceof Character || value instanceof Enum<?>;
+    }
+
+    /**
+     * String form of a scalar, matching what a Gson round trip would produce.
+     */
+    private static String scalarString(Object value) {
+        return value instanceof Enum<?> e ? e.name() : String.valueOf(value);
+    }
+
+    private List<String> scalarStrings(Collection<?> values) {
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object v : values) {
+            Object plain = toPlain(v);
+            if (isScalar(plain)) strings.add(scalarString(plain));
+        }
+        return strings;
+    }
+
+    /**
+     * Integral numbers are indexed as long, everything else as double.
+     */
+    private static Object solrNumber(Number num) {
+        if (num instanceof Long || num instanceof Integer || num instanceof Short || num instanceof Byte
+                || num instanceof java.math.BigInteger || num instanceof java.util.concurrent.atomic.AtomicInteger
+                || num instanceof java.util.concurrent.atomic.AtomicLong) {
+            return num.longValue();
+        }
+        if (num instanceof Double) {
+            return num.doubleValue();
+        }
+        // Float, LazilyParsedNumber, BigDecimal: decide from the textual form, as Gson would write it
+        String str = num.toString();
+        return str.contains(".") || str.contains("e") || str.contains("E") ? Double.parseDouble(str) : num.longValue();
+    }
+
     private static String formatSolrDate(long millis) {
         return SOLR_DATE_FORMAT.format(Instant.ofEpochMilli(millis));
     }
@@ -2,10 +2,11 @@ package com.atex.desk.api.indexing;
 
 import com.atex.desk.api.entity.ChangeListEntry;
 import com.atex.desk.api.entity.IndexerState;
+import com.atex.desk.api.onecms.LocalContentManager;
 import com.atex.desk.api.repository.IndexerStateRepository;
+import com.atex.desk.api.service.CommitIdAllocator;
 import com.atex.onecms.app.dam.solr.SolrService;
 import com.atex.onecms.content.ContentId;
-import com.atex.onecms.content.ContentManager;
 import com.atex.onecms.content.ContentResult;
 import com.atex.onecms.content.ContentVersionId;
 import com.atex.onecms.content.IdUtil;
@@ -13,19 +14,31 @@ import com.atex.onecms.content.Subject;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import org.apache.solr.common.SolrInputDocument;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.lang.Nullable;
-import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,14 +47,22 @@ import java.util.logging.Logger;
  *
  * <p>Two scheduled threads:
  * <ul>
- *   <li><b>Live indexer</b> — polls the changelist table by cursor, indexes new/updated content</li>
+ *   <li><b>Live indexer</b> — polls the changelist table by cursor, up to
+ *   {@link CommitIdAllocator#committedUpTo()}, indexes new/updated content</li>
  *   <li><b>Reindex worker</b> — processes reindex jobs (full, filtered, manual) from indexer_state</li>
  * </ul>
  *
  * <p>Multi-instance coordination via lease-based row locking on the indexer_state table.
+ *
+ * <p>Documents are composed on a bounded pool ({@code desk.indexing.compose-threads}), straight into
+ * SolrInputDocuments unless {@code desk.indexing.direct-compose} is off. Reindex
+ * jobs run several pages per tick, fetching and composing the next page while the previous
+ * one is being written.
+ *
+ * <p>Writes go through {@link SolrIndexQueue} (commitWithin, no explicit commits); a batch
+ * only advances its cursor once the queue reports the writes accepted by Solr.
  */
 @Component
-@EnableScheduling
 @ConditionalOnProperty(name = "desk.indexing.enabled", havingValue = "true", matchIfMissing = true)
 public class SolrIndexProcessor
 {
@@ -52,35 +73,87 @@ public class SolrIndexProcessor
     private static final List<String> ACTIONABLE_STATUSES = List.of("REQUESTED", "RUNNING");
 
     private final IndexerStateRepository indexerStateRepository;
-    private final ContentManager contentManager;
+    private final LocalContentManager contentManager;
     private final DamIndexComposer damIndexComposer;
     private final SolrService solrService;
+    private final SolrIndexQueue indexQueue;
     private final EntityManager entityManager;
+    private final CommitIdAllocator commitIdAllocator;
     private final Gson gson = new Gson();
 
     private final String instanceId;
     private final int batchSize;
     private final int leaseSeconds;
     private final String collection;
+    private final long reindexTickSeconds;
+    private final boolean directCompose;
+    private final ExecutorService composePool;
+
+    /** Recent (time, processed items) samples per reindex job, for the current docs/s rate. */
+    private final Map<String, Deque<long[]>> throughputSamples = new ConcurrentHashMap<>();
+    private static final int THROUGHPUT_SAMPLES = 20;
 
     public SolrIndexProcessor(IndexerStateRepository indexerStateRepository,
-                              @Nullable ContentManager contentManager,
+                              @Nullable LocalContentManager contentManager,
                               DamIndexComposer damIndexComposer,
                               @Nullable SolrService solrService,
+                              SolrIndexQueue indexQueue,
                               EntityManager entityManager,
+                              CommitIdAllocator commitIdAllocator,
                               @Value("${desk.indexing.instance-id:#{T(java.net.InetAddress).getLocalHost().getHostName()}}") String instanceId,
                               @Value("${desk.indexing.batch-size:100}") int batchSize,
                               @Value("${desk.indexing.lease-seconds:60}") int leaseSeconds,
-                              @Value("${desk.solr-core:onecms}") String collection) {
+                              @Value("${desk.solr-core:onecms}") String collection,
+                              @Value("${desk.indexing.reindex-tick-seconds:0}") long reindexTickSeconds,
+                              @Value("${desk.indexing.compose-threads:0}") int composeThreads,
+                              @Value("${desk.indexing.direct-compose:true}") boolean directCompose) {
         this.indexerStateRepository = indexerStateRepository;
         this.contentManager = contentManager;
         this.damIndexComposer = damIndexComposer;
         this.solrService = solrService;
+        this.indexQueue = indexQueue;
         this.entityManager = entityManager;
+        this.commitIdAllocator = commitIdAllocator;
         this.instanceId = instanceId;
         this.batchSize = batchSize;
         this.leaseSeconds = leaseSeconds;
         this.collection = collection;
+        this.reindexTickSeconds = reindexTickSeconds > 0 ? reindexTickSeconds : Math.max(1, leaseSeconds / 2);
+        this.directCompose = directCompose;
+        int threads = composeThreads > 0 ? composeThreads : Runtime.getRuntime().availableProcessors();
+        this.composePool = Executors.newFixedThreadPool(threads,
+            Thread.ofPlatform().name("solr-compose-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        composePool.shutdownNow();
+    }
+
+    /**
+     * Current throughput of a reindex job on this instance, in documents per second over
+     * the last few pages, or null if this instance hasn't run the job recently.
+     */
+    @Nullable
+    public Double getCurrentThroughput(String indexerId) {
+        Deque<long[]> samples = throughputSamples.get(indexerId);
+        if (samples == null) return null;
+        synchronized (samples) {
+            if (samples.size() < 2) return null;
+            long[] first = samples.peekFirst();
+            long[] last = samples.peekLast();
+            if (System.nanoTime() - last[0] > TimeUnit.SECONDS.toNanos(leaseSeconds)) return null; // stale
+            double seconds = (last[0] - first[0]) / 1e9;
+            return seconds > 0 ? (last[1] - first[1]) / seconds : null;
+        }
+    }
+
+    private void recordThroughput(String indexerId, long processedItems) {
+        Deque<long[]> samples = throughputSamples.computeIfAbsent(indexerId, k -> new ArrayDeque<>());
+        synchronized (samples) {
+            samples.addLast(new long[] { System.nanoTime(), processedItems });
+            while (samples.size() > THROUGHPUT_SAMPLES) samples.removeFirst();
+        }
     }
 
     // ========================
@@ -109,44 +182,37 @@ public class SolrIndexProcessor
 
     private void processLiveBatch(IndexerState state) {
         long cursor = state.getLastCursor();
+        // Rows above it may still be joined by lower commit IDs; the cursor must not pass those
+        long upTo = commitIdAllocator.committedUpTo();
+        if (upTo <= cursor) return;
 
         @SuppressWarnings("unchecked")
         List<ChangeListEntry> entries = entityManager.createQuery(
-                "SELECT c FROM ChangeListEntry c WHERE c.id > :cursor ORDER BY c.id ASC")
+                "SELECT c FROM ChangeListEntry c WHERE c.id > :cursor AND c.id <= :upTo ORDER BY c.id ASC")
             .setParameter("cursor", (int) cursor)
+            .setParameter("upTo", (int) Math.min(upTo, Integer.MAX_VALUE))
             .setMaxResults(batchSize)
             .getResultList();
 
         if (entries.isEmpty()) return;
 
-        List<SolrInputDocument> docsToIndex = new ArrayList<>();
         List<String> idsToDelete = new ArrayList<>();
+        LinkedHashSet<ContentId> idsToIndex = new LinkedHashSet<>();
         int highestId = (int) cursor;
 
         for (ChangeListEntry entry : entries) {
-            try {
-                if (isDeleteEvent(entry.getEventtype())) {
-                    idsToDelete.add(entry.getContentid());
-                } else {
-                    SolrInputDocument doc = composeDocument(entry.getContentid());
-                    if (doc != null) {
-                        docsToIndex.add(doc);
-                    }
-                }
-                highestId = Math.max(highestId, entry.getId());
-            } catch (Exception e) {
-                LOG.log(Level.WARNING, "Failed to compose document for " + entry.getContentid(), e);
-                highestId = Math.max(highestId, entry.getId());
+            if (isDeleteEvent(entry.getEventtype())) {
+                idsToDelete.add(entry.getContentid());
+            } else {
+                idsToIndex.add(new ContentId("onecms", entry.getContentid()));
             }
+            highestId = Math.max(highestId, entry.getId());
         }
 
+        List<SolrInputDocument> docsToIndex = composeDocuments(new ArrayList<>(idsToIndex));
+
         try {
-            if (!docsToIndex.isEmpty()) {
-                solrService.indexBatch(collection, docsToIndex);
-            }
-            if (!idsToDelete.isEmpty()) {
-                solrService.deleteBatch(collection, idsToDelete);
-            }
+            writeToSolr(docsToIndex, idsToDelete);
 
             state.setLastCursor(highestId);
             state.setUpdatedAt(Instant.now());
@@ -209,6 +275,7 @@ public class SolrIndexProcessor
             };
 
             if (completed) {
+                throughputSamples.remove(job.getIndexerId());
                 job.setStatus("COMPLETED");
                 job.setUpdatedAt(Instant.now());
                 indexerStateRepository.save(job);
@@ -230,23 +297,20 @@ public class SolrIndexProcessor
      * Returns true when all content has been processed.
      */
     private boolean processFullReindex(IndexerState job) throws Exception {
-        long cursor = job.getLastCursor();
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> rows = entityManager.createNativeQuery(
-                "SELECT iv.versionid, iv.idtype, iv.id, iv.version "
-                + "FROM idversions iv "
-                + "JOIN idviews ivw ON iv.versionid = ivw.versionid "
-                + "JOIN views v ON v.viewid = ivw.viewid "
-                + "WHERE v.name = 'p.latest' AND iv.versionid > :cursor "
-                + "ORDER BY iv.versionid ASC")
-            .setParameter("cursor", cursor)
-            .setMaxResults(batchSize)
-            .getResultList();
-
-        if (rows.isEmpty()) return true;
-
-        return indexVersionRows(job, rows);
+        return runPipelined(job, cursor -> {
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = entityManager.createNativeQuery(
+                    "SELECT iv.versionid, iv.idtype, iv.id, iv.version "
+                    + "FROM idversions iv "
+                    + "JOIN idviews ivw ON iv.versionid = ivw.versionid "
+                    + "JOIN views v ON v.viewid = ivw.viewid "
+                    + "WHERE v.name = 'p.latest' AND iv.versionid > :cursor "
+                    + "ORDER BY iv.versionid ASC")
+                .setParameter("cursor", cursor)
+                .setMaxResults(batchSize)
+                .getResultList();
+            return composeVersionRows(cursor, rows);
+        });
     }
 
     /**
@@ -255,7 +319,6 @@ public class SolrIndexProcessor
      * Returns true when all matching content has been processed.
      */
     private boolean processFilteredReindex(IndexerState job) throws Exception {
-        long cursor = job.getLastCursor();
         JsonObject config = gson.fromJson(job.getConfig(), JsonObject.class);
 
         StringBuilder sql = new StringBuilder(
@@ -284,26 +347,25 @@ public class SolrIndexProcessor
 
         sql.append("ORDER BY iv.versionid ASC");
 
-        Query query = entityManager.createNativeQuery(sql.toString());
-        query.setParameter("cursor", cursor);
-        query.setMaxResults(batchSize);
-
-        if (!contentTypes.isEmpty()) {
-            query.setParameter("contentTypes", contentTypes);
-        }
-        if (dateFrom != null) {
-            query.setParameter("dateFrom", Instant.parse(dateFrom));
-        }
-        if (dateTo != null) {
-            query.setParameter("dateTo", Instant.parse(dateTo));
-        }
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> rows = query.getResultList();
+        return runPipelined(job, cursor -> {
+            Query query = entityManager.createNativeQuery(sql.toString());
+            query.setParameter("cursor", cursor);
+            query.setMaxResults(batchSize);
 
-        if (rows.isEmpty()) return true;
+            if (!contentTypes.isEmpty()) {
+                query.setParameter("contentTypes", contentTypes);
+            }
+            if (dateFrom != null) {
+                query.setParameter("dateFrom", Instant.parse(dateFrom));
+            }
+            if (dateTo != null) {
+                query.setParameter("dateTo", Instant.parse(dateTo));
+            }
 
-        return indexVersionRows(job, rows);
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = query.getResultList();
+            return composeVersionRows(cursor, rows);
+        });
     }
 
     /**
@@ -315,45 +377,24 @@ public class SolrIndexProcessor
         JsonObject config = gson.fromJson(job.getConfig(), JsonObject.class);
         JsonArray contentIds = config.has("contentIds") ? config.getAsJsonArray("contentIds") : new JsonArray();
 
-        int startIndex = (int) job.getLastCursor();
-        int endIndex = Math.min(startIndex + batchSize, contentIds.size());
-
-        if (startIndex >= contentIds.size()) return true;
-
-        List<SolrInputDocument> docsToIndex = new ArrayList<>();
-        int processed = 0;
-
-        for (int i = startIndex; i < endIndex; i++) {
-            String contentIdStr = contentIds.get(i).getAsString();
-            try {
-                ContentId contentId = IdUtil.fromString(contentIdStr);
-                ContentVersionId vid = contentManager.resolve(contentId, Subject.NOBODY_CALLER);
-                if (vid != null) {
-                    @SuppressWarnings("unchecked")
-                    ContentResult<Object> result = (ContentResult<Object>) contentManager.get(
-                        vid, null, Object.class, null, Subject.NOBODY_CALLER);
-                    if (result.getStatus().isSuccess() && result.getContent() != null) {
-                        JsonObject solrDoc = damIndexComposer.compose(result, vid);
-                        docsToIndex.add(jsonToSolrDoc(solrDoc));
-                    }
+        return runPipelined(job, cursor -> {
+            int startIndex = (int) cursor;
+            int endIndex = Math.min(startIndex + batchSize, contentIds.size());
+            if (startIndex >= contentIds.size()) return new Page(List.of(), cursor, 0, true);
+
+            List<ContentId> batchIds = new ArrayList<>();
+            for (int i = startIndex; i < endIndex; i++) {
+                String contentIdStr = contentIds.get(i).getAsString();
+                try {
+                    batchIds.add(IdUtil.fromString(contentIdStr));
+                } catch (Exception e) {
+                    LOG.log(Level.WARNING, "Failed to compose document for manual reindex: " + contentIdStr, e);
                 }
-                processed++;
-            } catch (Exception e) {
-                LOG.log(Level.WARNING, "Failed to compose document for manual reindex: " + contentIdStr, e);
-                processed++;
             }
-        }
-
-        if (!docsToIndex.isEmpty()) {
-            solrService.indexBatch(collection, docsToIndex);
-        }
 
-        job.setLastCursor(endIndex);
-        job.setProcessedItems(job.getProcessedItems() + processed);
-        job.setUpdatedAt(Instant.now());
-        indexerStateRepository.save(job);
-
-        return endIndex >= contentIds.size();
+            List<SolrInputDocument> docs = composeDocuments(batchIds);
+            return new Page(docs, endIndex, endIndex - startIndex, endIndex >= contentIds.size());
+        });
     }
 
     // ========================
@@ -361,114 +402,166 @@ public class SolrIndexProcessor
     // ========================
 
     /**
-     * Index a batch of version rows (from full or filtered reindex queries).
-     * Each row is [versionid, idtype, id, version].
-     * Returns true if this was the last batch (fewer rows than batch size).
+     * A composed page of a reindex job: the documents, the cursor to store once they
+     * are in Solr, the number of source items covered and whether it was the last page.
      */
-    private boolean indexVersionRows(IndexerState job, List<Object[]> rows) throws Exception {
-        List<SolrInputDocument> docsToIndex = new ArrayList<>();
-        long highestVersionId = job.getLastCursor();
-        int processed = 0;
+    record Page(List<SolrInputDocument> docs, long nextCursor, int processed, boolean last) {}
 
-        for (Object[] row : rows) {
-            int versionId = ((Number) row[0]).intValue();
-            String id = (String) row[2];
-            String version = (String) row[3];
+    @FunctionalInterface
+    interface PageLoader {
+        Page load(long cursor) throws Exception;
+    }
 
-            try {
-                // Build versioned content ID and fetch content
-                ContentId contentId = new ContentId("onecms", id);
-                ContentVersionId vid = new ContentVersionId(contentId, version);
+    /**
+     * Run pages of a reindex job for up to {@code desk.indexing.reindex-tick-seconds}.
+     * The next page is fetched and composed while the previous one is being written by
+     * {@link SolrIndexQueue}; the job cursor only moves past a page once its write has
+     * completed, so a crash or lost lease replays at most the in-flight page.
+     * Returns true when the job has no more pages, false when it ran out of time or
+     * was paused while a page was being written.
+     */
+    boolean runPipelined(IndexerState job, PageLoader loader) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(reindexTickSeconds);
+        long cursor = job.getLastCursor();
+        Page inFlight = null;
+        CompletableFuture<Void> inFlightWrite = null;
 
-                @SuppressWarnings("unchecked")
-                ContentResult<Object> result = (ContentResult<Object>) contentManager.get(
-                    vid, null, Object.class, null, Subject.NOBODY_CALLER);
+        while (true) {
+            Page page = loader.load(cursor);
 
-                if (result.getStatus().isSuccess() && result.getContent() != null) {
-                    JsonObject solrDoc = damIndexComposer.compose(result, vid);
-                    docsToIndex.add(jsonToSolrDoc(solrDoc));
-                }
-                processed++;
-            } catch (Exception e) {
-                LOG.log(Level.WARNING, "Failed to compose document for versionId=" + versionId
-                    + " id=" + id, e);
-                processed++;
+            if (inFlight != null) {
+                awaitWrite(inFlightWrite);
+                if (!saveProgress(job, inFlight)) return false; // paused meanwhile
+                inFlight = null;
+            }
+
+            if (page.processed() == 0 && page.last()) return true;
+
+            inFlightWrite = indexQueue.add(collection, page.docs());
+            inFlight = page;
+            cursor = page.nextCursor();
+
+            if (page.last() || System.nanoTime() > deadline) {
+                awaitWrite(inFlightWrite);
+                if (!saveProgress(job, inFlight)) return false;
+                return page.last();
             }
-            highestVersionId = Math.max(highestVersionId, versionId);
         }
+    }
 
-        if (!docsToIndex.isEmpty()) {
-            solrService.indexBatch(collection, docsToIndex);
+    private void awaitWrite(CompletableFuture<Void> write) throws Exception {
+        try {
+            // Stay well inside the lease so another instance doesn't take over mid-batch
+            write.get(Math.max(1, leaseSeconds / 2), TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
         }
+    }
 
-        job.setLastCursor(highestVersionId);
-        job.setProcessedItems(job.getProcessedItems() + processed);
-        job.setUpdatedAt(Instant.now());
-        indexerStateRepository.save(job);
+    /**
+     * Store the cursor after a written page and renew the lease.
+     * Returns false (and keeps the job paused) if the job was paused while the page ran.
+     */
+    private boolean saveProgress(IndexerState job, Page page) {
+        String currentStatus = indexerStateRepository.findByIndexerId(job.getIndexerId())
+            .map(IndexerState::getStatus).orElse(job.getStatus());
 
-        return rows.size() < batchSize;
+        Instant now = Instant.now();
+        job.setLastCursor(page.nextCursor());
+        job.setProcessedItems(job.getProcessedItems() + page.processed());
+        job.setUpdatedAt(now);
+        job.setLockedAt(now);
+        if ("PAUSED".equals(currentStatus)) {
+            job.setStatus("PAUSED");
+        }
+        indexerStateRepository.save(job);
+        recordThroughput(job.getIndexerId(), job.getProcessedItems());
+        return !"PAUSED".equals(currentStatus);
     }
 
     /**
-     * Compose a Solr document for a content ID by resolving and fetching it.
+     * Fetch and compose a page of version rows (from full or filtered reindex queries).
+     * Each row is [versionid, idtype, id, version]. The whole page is fetched in one batch
+     * and composed on the compose pool.
      */
-    private SolrInputDocument composeDocument(String contentKey) {
-        try {
-            ContentId contentId = new ContentId("onecms", contentKey);
-            ContentVersionId vid = contentManager.resolve(contentId, Subject.NOBODY_CALLER);
-            if (vid == null) return null;
+    private Page composeVersionRows(long cursor, List<Object[]> rows) {
+        if (rows.isEmpty()) return new Page(List.of(), cursor, 0, true);
 
-            @SuppressWarnings("unchecked")
-            ContentResult<Object> result = (ContentResult<Object>) contentManager.get(
-                vid, null, Object.class, null, Subject.NOBODY_CALLER);
+        long highestVersionId = cursor;
+        List<ContentVersionId> vids = new ArrayList<>();
+        for (Object[] row : rows) {
+            vids.add(new ContentVersionId(new ContentId("onecms", (String) row[2]), (String) row[3]));
+            highestVersionId = Math.max(highestVersionId, ((Number) row[0]).longValue());
+        }
+        Map<ContentVersionId, ContentResult<Object>> results = contentManager.getMany(
+            vids, null, Object.class, null, Subject.NOBODY_CALLER);
+
+        List<SolrInputDocument> docs = composeParallel(results);
+        return new Page(docs, highestVersionId, rows.size(), rows.size() < batchSize);
+    }
 
-            if (!result.getStatus().isSuccess() || result.getContent() == null) return null;
+    /**
+     * Compose Solr documents for content IDs by resolving and fetching them in one batch.
+     * Contents that cannot be resolved, loaded or composed are skipped.
+     */
+    private List<SolrInputDocument> composeDocuments(List<ContentId> contentIds) {
+        if (contentIds.isEmpty()) return new ArrayList<>();
 
-            JsonObject solrDoc = damIndexComposer.compose(result, vid);
-            return jsonToSolrDoc(solrDoc);
+        Map<ContentVersionId, ContentResult<Object>> results;
+        try {
+            Map<ContentId, ContentVersionId> resolved = contentManager.resolveMany(contentIds, Subject.NOBODY_CALLER);
+            results = contentManager.getMany(new ArrayList<>(resolved.values()), null, Object.class, null,
+                Subject.NOBODY_CALLER);
         } catch (Exception e) {
-            LOG.log(Level.WARNING, "Failed to compose document for " + contentKey, e);
-            return null;
+            LOG.log(Level.WARNING, "Failed to load " + contentIds.size() + " contents for indexing", e);
+            return new ArrayList<>();
         }
+        return composeParallel(results);
     }
 
     /**
-     * Convert a Gson JsonObject to a SolrInputDocument.
+     * Compose already-fetched contents into Solr documents on the compose pool, keeping
+     * the input order. Unsuccessful results and composer failures are skipped.
      */
-    private SolrInputDocument jsonToSolrDoc(JsonObject json) {
-        SolrInputDocument doc = new SolrInputDocument();
-        for (var entry : json.entrySet()) {
-            String field = entry.getKey();
-            var value = entry.getValue();
-            if (value.isJsonNull()) continue;
-            if (value.isJsonPrimitive()) {
-                var prim = value.getAsJsonPrimitive();
-                if (prim.isBoolean()) {
-                    doc.addField(field, prim.getAsBoolean());
-                } else if (prim.isNumber()) {
-                    // Convert Gson LazilyParsedNumber to a real Long/Double
-                    // to avoid "com.google.gson.internal.LazilyParsedNumber:N" in Solr
-                    Number num = prim.getAsNumber();
-                    String numStr = num.toString();
-                    if (numStr.contains(".") || numStr.contains("e") || numStr.contains("E")) {
-                        doc.addField(field, num.doubleValue());
-                    } else {
-                        doc.addField(field, num.longValue());
-                    }
-                } else {
-                    doc.addField(field, prim.getAsString());
-                }
-            } else if (value.isJsonArray()) {
-                for (var el : value.getAsJsonArray()) {
-                    if (el.isJsonPrimitive()) {
-                        doc.addField(field, el.getAsString());
-                    }
-                }
-            } else {
-                doc.addField(field, gson.toJson(value));
+    private List<SolrInputDocument> composeParallel(Map<ContentVersionId, ContentResult<Object>> results) {
+        List<Future<SolrInputDocument>> futures = new ArrayList<>(results.size());
+        for (var entry : results.entrySet()) {
+            ContentVersionId vid = entry.getKey();
+            ContentResult<Object> result = entry.getValue();
+            futures.add(composePool.submit(() -> {
+                if (result == null || !result.getStatus().isSuccess() || result.getContent() == null) return null;
+                return directCompose
+                    ? damIndexComposer.composeSolrDocument(result, vid)
+                    : SolrService.jsonToSolrDoc(damIndexComposer.compose(result, vid));
+            }));
+        }
+
+        List<SolrInputDocument> docs = new ArrayList<>(futures.size());
+        Iterator<ContentVersionId> vids = results.keySet().iterator();
+        for (Future<SolrInputDocument> future : futures) {
+            ContentVersionId vid = vids.next();
+            try {
+                SolrInputDocument doc = future.get();
+                if (doc != null) docs.add(doc);
+            } catch (ExecutionException e) {
+                LOG.log(Level.WARNING, "Failed to compose document for " + vid.getKey(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                break;
             }
         }
-        return doc;
+        return docs;
+    }
+
+    /**
+     * Queue adds and deletes and wait until Solr has accepted them, so the caller
+     * can safely advance its cursor. Throws if the writes failed or timed out.
+     */
+    private void writeToSolr(List<SolrInputDocument> docs, List<String> deleteIds) throws Exception {
+        if (docs.isEmpty() && deleteIds.isEmpty()) return;
+        awaitWrite(CompletableFuture.allOf(
+            indexQueue.add(collection, docs), indexQueue.delete(collection, deleteIds)));
     }
 
     /**
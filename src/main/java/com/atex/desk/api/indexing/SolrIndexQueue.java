@@ -0,0 +1,361 @@
+package com.atex.desk.api.indexing;
+
+import com.atex.onecms.app.dam.solr.SolrService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.solr.common.SolrInputDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous Solr write pipeline.
+ *
+ * <p>Adds and deletes are queued in a bounded in-memory queue keyed by collection and document id,
+ * so repeated updates of the same content collapse into the latest one before they reach Solr.
+ * A single flusher thread sends them in batches with {@code commitWithin} instead of explicit
+ * commits, which keeps Solr latency off the caller and avoids a commit per write.
+ *
+ * <p>Producers block for up to {@code desk.indexing.queue.offer-timeout-ms} when the queue is full
+ * and are rejected after that. Every submit returns a future that completes once the write (or a
+ * later write of the same id that replaced it) has been accepted by Solr, so the indexers only
+ * advance their cursors past data that is actually in Solr. Pending writes are drained on shutdown.
+ */
+@Component
+public class SolrIndexQueue {
+
+    private static final Logger LOG = Logger.getLogger(SolrIndexQueue.class.getName());
+
+    /** A pending write: a document to add, or a delete when {@code doc} is null. */
+    private static final class Pending {
+        final String collection;
+        final String id;
+        SolrInputDocument doc;
+        final long enqueuedAt;
+        final List<CompletableFuture<Void>> waiters = new ArrayList<>(1);
+
+        Pending(String collection, String id, SolrInputDocument doc) {
+            this.collection = collection;
+            this.id = id;
+            this.doc = doc;
+            this.enqueuedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Point-in-time view of the queue for health reporting.
+     */
+    public record Status(int depth, int capacity, long oldestPendingMs, long flushedDocs,
+                         long failedBatches, long rejected, long coalesced,
+                         @Nullable Instant lastFlushAt, @Nullable String lastError) {}
+
+    private final SolrService solrService;
+    private final int capacity;
+    private final int maxBatch;
+    private final int commitWithinMs;
+    private final long lingerMs;
+    private final long offerTimeoutMs;
+    private final long drainTimeoutMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final LinkedHashMap<String, Pending> pending = new LinkedHashMap<>();
+    private volatile boolean running = true;
+    private final Thread flusher;
+
+    private final AtomicLong flushedDocs = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private volatile Instant lastFlushAt;
+    private volatile String lastError;
+
+    private final Counter enqueuedCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+    private final Timer backpressureTimer;
+    private final Timer latencyTimer;
+
+    public SolrIndexQueue(@Nullable SolrService solrService,
+                          MeterRegistry meterRegistry,
+                          @Value("${desk.indexing.queue.capacity:10000}") int capacity,
+                          @Value("${desk.indexing.queue.max-batch:500}") int maxBatch,
+                          @Value("${desk.indexing.queue.commit-within-ms:1000}") int commitWithinMs,
+                          @Value("${desk.indexing.queue.linger-ms:50}") long lingerMs,
+                          @Value("${desk.indexing.queue.offer-timeout-ms:5000}") long offerTimeoutMs,
+                          @Value("${desk.indexing.queue.drain-timeout-ms:30000}") long drainTimeoutMs) {
+        this.solrService = solrService;
+        this.capacity = capacity;
+        this.maxBatch = maxBatch;
+        this.commitWithinMs = commitWithinMs;
+        this.lingerMs = lingerMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.drainTimeoutMs = drainTimeoutMs;
+
+        Gauge.builder("desk.indexing.queue.depth", this, SolrIndexQueue::depth)
+            .description("Writes waiting to be sent to Solr")
+            .register(meterRegistry);
+        Gauge.builder("desk.indexing.queue.oldest", this, SolrIndexQueue::oldestPendingMs)
+            .description("Age in ms of the oldest pending write")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("desk.indexing.queue.enqueued");
+        this.coalescedCounter = meterRegistry.counter("desk.indexing.queue.coalesced");
+        this.rejectedCounter = meterRegistry.counter("desk.indexing.queue.rejected");
+        this.flushedCounter = meterRegistry.counter("desk.indexing.queue.flushed");
+        this.failedCounter = meterRegistry.counter("desk.indexing.queue.failed");
+        this.flushTimer = meterRegistry.timer("desk.indexing.queue.flush");
+        this.backpressureTimer = meterRegistry.timer("desk.indexing.queue.backpressure");
+        this.latencyTimer = meterRegistry.timer("desk.indexing.queue.latency");
+
+        this.flusher = Thread.ofPlatform().name("solr-index-flusher").daemon(true).unstarted(this::runFlusher);
+        if (solrService != null) {
+            flusher.start();
+        }
+    }
+
+    /**
+     * Queue documents to be added to a collection. Documents without an {@code id} field are skipped.
+     */
+    public CompletableFuture<Void> add(String collection, List<SolrInputDocument> docs) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(docs.size());
+        for (SolrInputDocument doc : docs) {
+            Object id = doc.getFieldValue("id");
+            if (id == null) continue;
+            futures.add(submit(collection, id.toString(), doc));
+        }
+        return allOf(futures);
+    }
+
+    /**
+     * Queue documents to be deleted from a collection by id.
+     */
+    public CompletableFuture<Void> delete(String collection, List<String> ids) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            futures.add(submit(collection, id, null));
+        }
+        return allOf(futures);
+    }
+
+    public boolean isEnabled() {
+        return solrService != null;
+    }
+
+    private CompletableFuture<Void> submit(String collection, String id, @Nullable SolrInputDocument doc) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (solrService == null) {
+            future.complete(null);
+            return future;
+        }
+
+        String key = collection + "|" + id;
+        lock.lock();
+        try {
+            if (!running) {
+                future.completeExceptionally(new RejectedExecutionException("Solr index queue is shut down"));
+                return future;
+            }
+
+            Pending existing = pending.get(key);
+            if (existing != null) {
+                // Latest write wins; the earlier caller is satisfied by it
+                existing.doc = doc;
+                existing.waiters.add(future);
+                coalescedCounter.increment();
+                return future;
+            }
+
+            if (pending.size() >= capacity) {
+                long start = System.nanoTime();
+                long remaining = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+                while (pending.size() >= capacity && remaining > 0 && running) {
+                    remaining = notFull.awaitNanos(remaining);
+                }
+                backpressureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (pending.size() >= capacity || !running) {
+                    rejectedCounter.increment();
+                    future.completeExceptionally(new RejectedExecutionException(
+                        "Solr index queue full (" + capacity + " pending writes)"));
+                    return future;
+                }
+            }
+
+            Pending p = new Pending(collection, id, doc);
+            p.waiters.add(future);
+            pending.put(key, p);
+            enqueuedCounter.increment();
+            notEmpty.signal();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    // ========================
+    // Flusher
+    // ========================
+
+    private void runFlusher() {
+        while (true) {
+            List<Pending> batch;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && running) {
+                    notEmpty.await();
+                }
+                if (pending.isEmpty()) return; // shut down and drained
+
+                // Let a burst of writes accumulate so they share one request
+                if (running && pending.size() < maxBatch && lingerMs > 0) {
+                    notEmpty.await(lingerMs, TimeUnit.MILLISECONDS);
+                }
+                batch = takeBatch();
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                if (!running) continue; // shutdown wakes us up; keep draining
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            flush(batch);
+        }
+    }
+
+    private List<Pending> takeBatch() {
+        List<Pending> batch = new ArrayList<>(Math.min(maxBatch, pending.size()));
+        Iterator<Pending> it = pending.values().iterator();
+        while (it.hasNext() && batch.size() < maxBatch) {
+            batch.add(it.next());
+            it.remove();
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        Map<String, List<Pending>> byCollection = new LinkedHashMap<>();
+        for (Pending p : batch) {
+            byCollection.computeIfAbsent(p.collection, k -> new ArrayList<>()).add(p);
+        }
+
+        for (var entry : byCollection.entrySet()) {
+            List<Pending> items = entry.getValue();
+            List<SolrInputDocument> docs = new ArrayList<>();
+            List<String> deletes = new ArrayList<>();
+            for (Pending p : items) {
+                if (p.doc != null) docs.add(p.doc);
+                else deletes.add(p.id);
+            }
+
+            long start = System.nanoTime();
+            try {
+                solrService.update(entry.getKey(), docs, deletes, commitWithinMs);
+                long now = System.nanoTime();
+                flushTimer.record(now - start, TimeUnit.NANOSECONDS);
+                flushedDocs.addAndGet(items.size());
+                flushedCounter.increment(items.size());
+                lastFlushAt = Instant.now();
+                lastError = null;
+                for (Pending p : items) {
+                    latencyTimer.record(now - p.enqueuedAt, TimeUnit.NANOSECONDS);
+                    p.waiters.forEach(f -> f.complete(null));
+                }
+            } catch (Exception e) {
+                failedBatches.incrementAndGet();
+                failedCounter.increment();
+                lastError = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+                LOG.log(Level.WARNING, "Solr index queue: failed to flush " + items.size()
+                    + " writes to " + entry.getKey(), e);
+                for (Pending p : items) {
+                    p.waiters.forEach(f -> f.completeExceptionally(e));
+                }
+            }
+        }
+    }
+
+    // ========================
+    // Shutdown and status
+    // ========================
+
+    /**
+     * Stop accepting writes and flush everything still pending, waiting up to the drain timeout.
+     */
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (!flusher.isAlive()) return;
+
+        try {
+            flusher.join(drainTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int left = depth();
+        if (left > 0) {
+            LOG.warning("Solr index queue: " + left + " writes not flushed within " + drainTimeoutMs + "ms of shutdown");
+        } else {
+            LOG.info("Solr index queue drained");
+        }
+    }
+
+    public int depth() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long oldestPendingMs() {
+        lock.lock();
+        try {
+            if (pending.isEmpty()) return 0;
+            Pending oldest = pending.values().iterator().next();
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Status status() {
+        return new Status(depth(), capacity, oldestPendingMs(), flushedDocs.get(), failedBatches.get(),
+            (long) rejectedCounter.count(), (long) coalescedCounter.count(), lastFlushAt, lastError);
+    }
+
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+        if (futures.size() == 1) return futures.getFirst();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+}
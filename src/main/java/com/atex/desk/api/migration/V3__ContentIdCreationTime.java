@@ -0,0 +1,41 @@
+package com.atex.desk.api.migration;
+
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Make {@code id.created_at} the original creation time of each content item.
+ * <p>
+ * Content reads take the original creation time from the content id row instead of
+ * scanning all versions. Rows written by desk-api already match their first version;
+ * rows imported from legacy systems may carry the import time, so they are backfilled
+ * from the earliest {@code idversions.created_at}.
+ */
+public class V3__ContentIdCreationTime extends BaseJavaMigration
+{
+    private static final Logger log = LoggerFactory.getLogger(V3__ContentIdCreationTime.class);
+
+    @Override
+    public void migrate(Context context) throws Exception
+    {
+        try (Statement stmt = context.getConnection().createStatement())
+        {
+            int updated = stmt.executeUpdate(
+                "UPDATE `id` i " +
+                "JOIN (SELECT `idtype`, `id`, MIN(`created_at`) AS `first_created` " +
+                "      FROM `idversions` GROUP BY `idtype`, `id`) v " +
+                "    ON v.`idtype` = i.`idtype` AND v.`id` = i.`id` " +
+                "SET i.`created_at` = v.`first_created` " +
+                "WHERE i.`created_at` <> v.`first_created`");
+
+            if (updated > 0)
+            {
+                log.info("Backfilled original creation time for {} content id(s)", updated);
+            }
+        }
+    }
+}
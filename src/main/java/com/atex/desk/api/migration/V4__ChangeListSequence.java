@@ -0,0 +1,42 @@
+package com.atex.desk.api.migration;
+
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Create the {@code changelist_sequence} table that allocates change list commit IDs.
+ * <p>
+ * Commit IDs used to come from a per-instance in-memory counter, which is only correct with a
+ * single API node. The {@code commit_id} row holds the highest ID handed out by any node and is
+ * seeded from the current {@code adm_changelist} maximum.
+ */
+public class V4__ChangeListSequence extends BaseJavaMigration
+{
+    private static final Logger log = LoggerFactory.getLogger(V4__ChangeListSequence.class);
+
+    @Override
+    public void migrate(Context context) throws Exception
+    {
+        try (Statement stmt = context.getConnection().createStatement())
+        {
+            stmt.executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `changelist_sequence` (" +
+                "    `name`      VARCHAR(64) PRIMARY KEY NOT NULL," +
+                "    `next_val`  BIGINT NOT NULL" +
+                ") ENGINE = INNODB");
+
+            int seeded = stmt.executeUpdate(
+                "INSERT IGNORE INTO `changelist_sequence` (`name`, `next_val`) " +
+                "SELECT 'commit_id', COALESCE(MAX(`id`), 0) FROM `adm_changelist`");
+
+            if (seeded > 0)
+            {
+                log.info("Seeded changelist_sequence from adm_changelist");
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.atex.desk.api.migration;
+
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Create the {@code activity_leases} table used by the database activity store.
+ * <p>
+ * One row per activity/user/application lease; {@code updated_at} is the lease timestamp
+ * (epoch ms) and is indexed for the expiry sweep.
+ */
+public class V5__ActivityLeases extends BaseJavaMigration
+{
+    @Override
+    public void migrate(Context context) throws Exception
+    {
+        try (Statement stmt = context.getConnection().createStatement())
+        {
+            stmt.executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `activity_leases` (" +
+                "    `activity_id`     VARCHAR(255) NOT NULL," +
+                "    `user_name`       VARCHAR(128) NOT NULL," +
+                "    `application_id`  VARCHAR(128) NOT NULL," +
+                "    `activity`        VARCHAR(255) NOT NULL," +
+                "    `params`          TEXT," +
+                "    `updated_at`      BIGINT NOT NULL," +
+                "    PRIMARY KEY (`activity_id`, `user_name`, `application_id`)," +
+                "    KEY `activity_leases_updated_at` (`updated_at`)" +
+                ") ENGINE = INNODB");
+        }
+    }
+}
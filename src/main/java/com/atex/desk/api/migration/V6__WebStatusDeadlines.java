@@ -0,0 +1,35 @@
+package com.atex.desk.api.migration;
+
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Create the {@code web_status_deadlines} table used by the desk-integration web status
+ * scheduler.
+ * <p>
+ * One row per content/transition (embargo release or time-off) that is still pending;
+ * {@code due_at} is the deadline (epoch ms) and is indexed for loading the next window of
+ * deadlines on start-up.
+ */
+public class V6__WebStatusDeadlines extends BaseJavaMigration
+{
+    @Override
+    public void migrate(Context context) throws Exception
+    {
+        try (Statement stmt = context.getConnection().createStatement())
+        {
+            stmt.executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `web_status_deadlines` (" +
+                "    `content_id`  VARCHAR(255) NOT NULL," +
+                "    `transition`  VARCHAR(16) NOT NULL," +
+                "    `due_at`      BIGINT NOT NULL," +
+                "    `attempts`    INT NOT NULL DEFAULT 0," +
+                "    `updated_at`  BIGINT NOT NULL," +
+                "    PRIMARY KEY (`content_id`, `transition`)," +
+                "    KEY `web_status_deadlines_due_at` (`due_at`)" +
+                ") ENGINE = INNODB");
+        }
+    }
+}
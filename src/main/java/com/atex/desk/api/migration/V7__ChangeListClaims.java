@@ -0,0 +1,31 @@
+package com.atex.desk.api.migration;
+
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Create the {@code changelist_claims} table behind the change feed's high-water mark.
+ * <p>
+ * One row per API node: {@code low_id} is the lowest commit ID the node may still commit (null if
+ * none), {@code version} orders the node's own writes and {@code updated_at} (epoch ms) is its
+ * last refresh, so claims of dead nodes can be ignored.
+ */
+public class V7__ChangeListClaims extends BaseJavaMigration
+{
+    @Override
+    public void migrate(Context context) throws Exception
+    {
+        try (Statement stmt = context.getConnection().createStatement())
+        {
+            stmt.executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `changelist_claims` (" +
+                "    `node_id`     VARCHAR(64) PRIMARY KEY NOT NULL," +
+                "    `low_id`      BIGINT NULL," +
+                "    `version`     BIGINT NOT NULL," +
+                "    `updated_at`  BIGINT NOT NULL" +
+                ") ENGINE = INNODB");
+        }
+    }
+}
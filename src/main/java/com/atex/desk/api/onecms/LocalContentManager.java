@@ -8,6 +8,7 @@ import com.atex.desk.api.dto.ContentVersionInfoDto;
 import com.atex.desk.api.dto.ContentWriteDto;
 import com.atex.onecms.content.ConfigurationDataBean;
 import com.atex.desk.api.service.ChangeListService;
+import com.atex.desk.api.service.ConflictUpdateException;
 import com.atex.desk.api.service.ContentService;
 import com.atex.desk.api.service.IdGenerator;
 import com.atex.onecms.content.Content;
@@ -46,12 +47,16 @@ import com.atex.onecms.content.repository.ContentModifiedException;
 import com.atex.onecms.content.repository.StorageException;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import tools.jackson.databind.ObjectMapper;
 
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -84,6 +89,7 @@ public class LocalContentManager implements ContentManager {
     private final FileService fileService;
     private final ConfigurationService configurationService;
     private final ChangeListService changeListService;
+    private final TransactionTemplate batchTransaction;
 
     /**
      * Registry of pre-store hooks keyed by content type name.
@@ -107,7 +113,8 @@ public class LocalContentManager implements ContentManager {
                                 WorkspaceStorage workspaceStorage, IdGenerator idGenerator,
                                 @Nullable FileService fileService,
                                 @Nullable ConfigurationService configurationService,
-                                @Nullable ChangeListService changeListService) {
+                                @Nullable ChangeListService changeListService,
+                                PlatformTransactionManager transactionManager) {
         this.contentService = contentService;
         this.objectMapper = objectMapper;
         this.workspaceStorage = workspaceStorage;
@@ -115,6 +122,8 @@ public class LocalContentManager implements ContentManager {
         this.fileService = fileService;
         this.configurationService = configurationService;
         this.changeListService = changeListService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     // --- Pre-store hook registration ---
@@ -275,6 +284,102 @@ public class LocalContentManager implements ContentManager {
         }
     }
 
+    // --- Batch get / resolve ---
+
+    /**
+     * Resolve many content IDs in the given view. IDs the content service knows are resolved
+     * with one query per delegation; the rest fall back to {@link #resolve(ContentId, String, Subject)}
+     * for alias resolution.
+     *
+     * @return map of content ID → versioned ID, in request order; unresolved IDs are absent
+     */
+    public Map<ContentId, ContentVersionId> resolveMany(List<ContentId> ids, String view, Subject subject)
+            throws StorageException {
+        String viewName = (view != null) ? view : SYSTEM_VIEW_LATEST;
+        Map<String, List<String>> keysByDelegation = new LinkedHashMap<>();
+        for (ContentId id : ids) {
+            keysByDelegation.computeIfAbsent(id.getDelegationId(), k -> new ArrayList<>()).add(id.getKey());
+        }
+
+        Map<ContentId, ContentVersionId> resolved = new LinkedHashMap<>();
+        try {
+            for (var group : keysByDelegation.entrySet()) {
+                Map<String, String> versions = contentService.resolveMany(group.getKey(), group.getValue(), viewName);
+                for (String versionedId : versions.values()) {
+                    ContentVersionId vid = IdUtil.fromVersionedString(versionedId);
+                    resolved.put(vid.getContentId(), vid);
+                }
+            }
+        } catch (Exception e) {
+            throw new StorageException("Failed to resolve " + ids.size() + " content ids", e);
+        }
+
+        Map<ContentId, ContentVersionId> result = new LinkedHashMap<>();
+        for (ContentId id : ids) {
+            ContentVersionId vid = resolved.get(id);
+            if (vid == null) {
+                vid = resolve(id, viewName, subject);
+            }
+            if (vid != null) {
+                result.put(id, vid);
+            }
+        }
+        return result;
+    }
+
+    public Map<ContentId, ContentVersionId> resolveMany(List<ContentId> ids, Subject subject)
+            throws StorageException {
+        return resolveMany(ids, SYSTEM_VIEW_LATEST, subject);
+    }
+
+    /**
+     * Get many contents with a fixed number of repository queries regardless of batch size.
+     * Composers for the variant still run per item. Synthetic configuration IDs go through
+     * {@link #get(ContentVersionId, String, Class, Map, Subject, GetOption...)}.
+     *
+     * @return map of versioned ID → result, in request order; missing contents map to NOT_FOUND
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<ContentVersionId, ContentResult<T>> getMany(List<ContentVersionId> ids, String variant,
+                                                               Class<T> dataClass, Map<String, Object> params,
+                                                               Subject subject, GetOption... options)
+            throws StorageException {
+        Map<ContentVersionId, ContentResult<T>> results = new LinkedHashMap<>();
+        List<String> versionedIds = new ArrayList<>();
+        for (ContentVersionId vid : ids) {
+            if (configurationService != null && configurationService.isSyntheticId(vid)) {
+                results.put(vid, get(vid, variant, dataClass, params, subject, options));
+            } else {
+                versionedIds.add(IdUtil.toVersionedIdString(vid));
+            }
+        }
+
+        Map<String, ContentResultDto> dtos;
+        try {
+            dtos = contentService.getMany(versionedIds);
+        } catch (Exception e) {
+            throw new StorageException("Failed to get " + versionedIds.size() + " contents", e);
+        }
+
+        Map<ContentVersionId, ContentResult<T>> ordered = new LinkedHashMap<>();
+        for (ContentVersionId vid : ids) {
+            ContentResult<T> result = results.get(vid);
+            if (result == null) {
+                ContentResultDto dto = dtos.get(IdUtil.toVersionedIdString(vid));
+                if (dto == null) {
+                    result = ContentResult.of(vid, Status.NOT_FOUND);
+                } else {
+                    result = (ContentResult<T>) dtoToContentResult(dto, vid, variant, dataClass);
+                    if (variant != null && !variant.isEmpty()) {
+                        result = executeComposer(result, variant, params, subject, options);
+                    }
+                }
+            }
+            ordered.put(vid, result);
+        }
+        return ordered;
+    }
+
     // --- Content History ---
 
     @Override
@@ -728,6 +833,19 @@ public class LocalContentManager implements ContentManager {
         return builder.build();
     }
 
+    /**
+     * Carry the main aspect of the existing content forward into a batch write that only
+     * touches other aspects, such as a purge moving content to the trash.
+     */
+    private ContentWrite<Object> mergeExistingMainAspect(ContentWrite<Object> write,
+                                                          Content<Object> existing) {
+        if (write.getContentData() != null || existing.getContentData() == null) return write;
+        return ContentWriteBuilder.from(write)
+            .mainAspectData(existing.getContentData())
+            .type(existing.getContentDataType())
+            .build();
+    }
+
     /**
      * Convert a ContentWriteDto to a ContentWrite for hook processing.
      */
@@ -766,6 +884,190 @@ public class LocalContentManager implements ContentManager {
         return builder.build();
     }
 
+    // --- Batch writes ---
+
+    /**
+     * One write of a batch: an update of {@code contentId}, or a create if it is null.
+     *
+     * @param previousVersion for updates, the versioned ID the content must still be at,
+     *                        or null to update whatever version is latest
+     */
+    public record BatchWrite(ContentId contentId, ContentWrite<?> write, String previousVersion) {
+
+        public static BatchWrite create(ContentWrite<?> write) {
+            return new BatchWrite(null, write, null);
+        }
+
+        public static BatchWrite update(ContentId contentId, ContentWrite<?> write) {
+            return new BatchWrite(contentId, write, null);
+        }
+    }
+
+    /**
+     * Outcome of one write of a batch.
+     *
+     * @param result  the stored content, or null if the write failed
+     * @param message why the write failed, or null
+     */
+    public record BatchResult(Status status, ContentResultDto result, String message) {
+
+        public ContentVersionId versionId() {
+            return result != null ? IdUtil.fromVersionedString(result.getVersion()) : null;
+        }
+    }
+
+    /**
+     * A write of a batch that has been through the pre-store hooks.
+     */
+    private record PreparedWrite(int index, BatchWrite source, ContentWrite<Object> processed,
+                                 ContentWriteDto dto) {}
+
+    /**
+     * Create and update many contents at once.
+     *
+     * <p>Pre-store hooks and temporary file commits run per item, as for single writes; an item
+     * whose hooks fail gets a failure result and the others carry on. The remaining items are
+     * then stored in one transaction, and their change list entries recorded together with
+     * consecutive commit IDs, so the live indexer picks the batch up as one Solr update. If
+     * storing the batch fails it is rolled back and the items are stored one at a time, so a bad
+     * item only fails itself.
+     *
+     * <p>Updates carry forward the aspects of the current version that the write does not
+     * contain, as {@link #updateContentFromDto} does. Unlike a single update, an update without
+     * contentData also keeps the current main aspect, so aspect-only writes are possible.
+     *
+     * @return one result per write, in order
+     */
+    public List<BatchResult> writeBatch(List<BatchWrite> writes, Subject subject) {
+        String userId = subject != null ? subject.getPrincipalId() : "system";
+        BatchResult[] results = new BatchResult[writes.size()];
+        List<PreparedWrite> prepared = prepareBatch(writes, subject, results);
+
+        if (!prepared.isEmpty()) {
+            try {
+                batchTransaction.executeWithoutResult(status -> {
+                    for (PreparedWrite write : prepared) {
+                        results[write.index()] = storeBatchWrite(write, userId);
+                    }
+                });
+            } catch (RuntimeException e) {
+                LOG.log(Level.INFO, "Batch of " + prepared.size()
+                    + " writes failed, storing them one at a time", e);
+                for (PreparedWrite write : prepared) {
+                    try {
+                        results[write.index()] = storeBatchWrite(write, userId);
+                    } catch (Exception itemError) {
+                        results[write.index()] = batchFailure(itemError);
+                    }
+                }
+            }
+        }
+
+        recordBatchChanges(writes, results, userId);
+        return List.of(results);
+    }
+
+    /**
+     * Batch variant of {@link #createContentFromDto} and {@link #updateContentFromDto}.
+     */
+    public BatchWrite batchWriteFromDto(@Nullable ContentId contentId, ContentWriteDto writeDto,
+                                        @Nullable String previousVersion) {
+        return new BatchWrite(contentId, dtoToContentWrite(writeDto), previousVersion);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PreparedWrite> prepareBatch(List<BatchWrite> writes, Subject subject,
+                                             BatchResult[] results) {
+        // Fetch the current version of all updated contents at once, for hooks and aspect merging
+        List<ContentId> updatedIds = new ArrayList<>();
+        for (BatchWrite write : writes) {
+            if (write.contentId() != null) {
+                updatedIds.add(write.contentId());
+            }
+        }
+        Map<ContentId, Content<Object>> existing = new HashMap<>();
+        if (!updatedIds.isEmpty()) {
+            try {
+                List<ContentVersionId> versions = new ArrayList<>(resolveMany(updatedIds, subject).values());
+                for (ContentResult<Object> current : getMany(versions, null, Object.class, null, subject).values()) {
+                    if (current.getStatus().isSuccess() && current.getContent() != null) {
+                        existing.put(current.getContentId().getContentId(), current.getContent());
+                    }
+                }
+            } catch (Exception e) {
+                LOG.log(Level.WARNING, "Failed to fetch existing content for batch hooks", e);
+            }
+        }
+
+        List<PreparedWrite> prepared = new ArrayList<>(writes.size());
+        for (int i = 0; i < writes.size(); i++) {
+            BatchWrite write = writes.get(i);
+            try {
+                ContentWrite<Object> data = (ContentWrite<Object>) write.write();
+                Content<Object> current = write.contentId() != null ? existing.get(write.contentId()) : null;
+                if (current != null) {
+                    data = mergeExistingMainAspect(mergeExistingAspects(data, current), current);
+                }
+                ContentWrite<Object> processed = runPreStoreHooks(data, current, subject);
+                processed = commitTemporaryFiles(processed, subject);
+                prepared.add(new PreparedWrite(i, write, processed, contentWriteToDto(processed)));
+            } catch (Exception e) {
+                results[i] = batchFailure(e);
+            }
+        }
+        return prepared;
+    }
+
+    private BatchResult storeBatchWrite(PreparedWrite write, String userId) {
+        ContentId contentId = write.source().contentId();
+        ContentResultDto result;
+        if (contentId == null) {
+            result = contentService.createContent(write.dto(), userId);
+        } else {
+            Optional<ContentResultDto> updated = contentService.updateContent(contentId.getDelegationId(),
+                contentId.getKey(), write.dto(), userId, write.source().previousVersion());
+            if (updated.isEmpty()) {
+                return new BatchResult(Status.NOT_FOUND, null, "Content not found: " + IdUtil.toIdString(contentId));
+            }
+            result = updated.get();
+        }
+        persistAliases(write.processed(), result);
+        return new BatchResult(contentId == null ? Status.CREATED : Status.OK, result, null);
+    }
+
+    private static BatchResult batchFailure(Exception e) {
+        if (e instanceof ConflictUpdateException) {
+            return new BatchResult(Status.CONFLICT, null, e.getMessage());
+        }
+        if (e instanceof CallbackException) {
+            return new BatchResult(Status.FAILURE, null, "Pre-store hook failed: " + e.getMessage());
+        }
+        if (e instanceof IllegalArgumentException) {
+            return new BatchResult(Status.BAD_REQUEST, null, e.getMessage());
+        }
+        LOG.log(Level.WARNING, "Batch write failed", e);
+        return new BatchResult(Status.FAILURE, null, e.getMessage());
+    }
+
+    private void recordBatchChanges(List<BatchWrite> writes, BatchResult[] results, String userId) {
+        if (changeListService == null) return;
+        List<ChangeListService.ContentChange> changes = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            BatchResult result = results[i];
+            if (result == null || result.result() == null) continue;
+            ContentVersionId vid = result.versionId();
+            changes.add(new ChangeListService.ContentChange(
+                writes.get(i).contentId() == null ? "CREATE" : "UPDATE", result.result(),
+                vid.getDelegationId(), vid.getKey(), vid.getVersion(), userId));
+        }
+        if (changes.isEmpty()) return;
+        try {
+            changeListService.recordEvents(changes);
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Change feed recording failed for a batch of " + changes.size(), e);
+        }
+    }
+
     // --- Change feed recording ---
 
     private void recordChange(String eventType, ContentResultDto result,
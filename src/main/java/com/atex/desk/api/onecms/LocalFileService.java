@@ -175,6 +175,14 @@ public class LocalFileService implements FileService {
         return resolved;
     }
 
+    /**
+     * Resolve a file URI directly to a filesystem Path.
+     * Used by file delivery to send files straight from disk.
+     */
+    public Path resolveUriToPath(String uri) {
+        return resolveUri(uri);
+    }
+
     /**
      * Resolve a URI to a filesystem path.
      * URI format: {space}://{host}/{filename}
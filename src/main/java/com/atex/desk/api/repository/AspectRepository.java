@@ -4,6 +4,7 @@ import com.atex.desk.api.entity.Aspect;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface AspectRepository extends JpaRepository<Aspect, Integer>
@@ -26,4 +27,14 @@ public interface AspectRepository extends JpaRepository<Aspect, Integer>
         WHERE c.versionId = :versionId
         """)
     List<Aspect> findByVersionId(Integer versionId);
+
+    /**
+     * Batch aspect load for several content entries, as [contentEntryId, Aspect] rows.
+     */
+    @Query("""
+        SELECT al.contentId, a FROM Aspect a
+        JOIN AspectLocation al ON a.aspectId = al.aspectId
+        WHERE al.contentId IN :contentIds
+        """)
+    List<Object[]> findByContentEntryIdIn(Collection<Integer> contentIds);
 }
@@ -1,6 +1,7 @@
 package com.atex.desk.api.repository;
 
 import com.atex.desk.api.entity.ChangeListEntry;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -15,5 +16,8 @@ public interface ChangeListRepository extends JpaRepository<ChangeListEntry, Int
 
     void deleteByContentid(String contentid);
 
-    java.util.List<ChangeListEntry> findByIdGreaterThanOrderByIdAsc(int id);
+    /**
+     * The next {@code limit} entries after {@code id} and up to {@code upTo}, in commit order.
+     */
+    java.util.List<ChangeListEntry> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(int id, int upTo, Limit limit);
 }
@@ -0,0 +1,19 @@
+package com.atex.desk.api.repository;
+
+import com.atex.desk.api.entity.ChangeListSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface ChangeListSequenceRepository extends JpaRepository<ChangeListSequence, String>
+{
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ChangeListSequence s WHERE s.name = :name")
+    Optional<ChangeListSequence> findForUpdate(String name);
+
+    @Query("SELECT s.nextVal FROM ChangeListSequence s WHERE s.name = :name")
+    Optional<Long> findNextVal(String name);
+}
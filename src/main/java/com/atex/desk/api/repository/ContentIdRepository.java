@@ -2,8 +2,24 @@ package com.atex.desk.api.repository;
 
 import com.atex.desk.api.entity.ContentId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ContentIdRepository extends JpaRepository<ContentId, String>
 {
     boolean existsByIdtypeAndId(Integer idtype, String id);
+
+    /**
+     * Original creation time and aliases of content items in one round trip, as
+     * [id, created_at, aliasid, value] rows — one per alias, or a single row with
+     * null alias columns when the item has none. Independent of the version count.
+     */
+    @Query("""
+        SELECT c.id, c.createdAt, a.aliasId, a.value FROM ContentId c
+        LEFT JOIN ContentAlias a ON a.idtype = c.idtype AND a.id = c.id
+        WHERE c.idtype = :idtype AND c.id IN :ids
+        """)
+    List<Object[]> findMetaByIdtypeAndIdIn(Integer idtype, Collection<String> ids);
 }
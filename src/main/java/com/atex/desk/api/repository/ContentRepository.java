@@ -4,12 +4,16 @@ import com.atex.desk.api.entity.Content;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ContentRepository extends JpaRepository<Content, Integer>
 {
     Optional<Content> findByVersionId(Integer versionId);
 
+    List<Content> findByVersionIdIn(Collection<Integer> versionIds);
+
     @Modifying
     void deleteByVersionId(Integer versionId);
 }
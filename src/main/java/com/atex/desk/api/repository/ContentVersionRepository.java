@@ -1,8 +1,11 @@
 package com.atex.desk.api.repository;
 
 import com.atex.desk.api.entity.ContentVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +13,56 @@ public interface ContentVersionRepository extends JpaRepository<ContentVersion,
 {
     Optional<ContentVersion> findByIdtypeAndIdAndVersion(Integer idtype, String id, String version);
 
+    boolean existsByIdtypeAndIdAndVersion(Integer idtype, String id, String version);
+
     List<ContentVersion> findByIdtypeAndIdOrderByVersionIdDesc(Integer idtype, String id);
 
     Optional<ContentVersion> findFirstByIdtypeAndIdOrderByVersionIdDesc(Integer idtype, String id);
+
+    /**
+     * Find the newest version of a content item assigned to a view, in a single
+     * join over idversions/idviews instead of probing each version in turn.
+     * Call with {@code Limit.of(1)}.
+     */
+    @Query("""
+        SELECT v.version FROM ContentVersion v
+        JOIN ContentView cv ON cv.versionId = v.versionId
+        WHERE v.idtype = :idtype AND v.id = :id AND cv.viewId = :viewId
+        ORDER BY v.versionId DESC
+        """)
+    List<String> findVersionsInView(Integer idtype, String id, Integer viewId, Limit limit);
+
+    /**
+     * Batch lookup of versions by key and version string. May over-match when the same
+     * version string exists under another key in the batch, so callers filter on (id, version).
+     */
+    List<ContentVersion> findByIdtypeAndIdInAndVersionIn(Integer idtype, Collection<String> ids,
+                                                         Collection<String> versions);
+
+    /**
+     * Batch p.latest resolution: the newest version of each content item.
+     */
+    @Query("""
+        SELECT v FROM ContentVersion v
+        WHERE v.versionId IN (
+            SELECT MAX(v2.versionId) FROM ContentVersion v2
+            WHERE v2.idtype = :idtype AND v2.id IN :ids
+            GROUP BY v2.id
+        )
+        """)
+    List<ContentVersion> findLatestByIdtypeAndIdIn(Integer idtype, Collection<String> ids);
+
+    /**
+     * Batch view resolution: the newest version of each content item assigned to a view.
+     */
+    @Query("""
+        SELECT v FROM ContentVersion v
+        WHERE v.versionId IN (
+            SELECT MAX(v2.versionId) FROM ContentVersion v2
+            JOIN ContentView cv ON cv.versionId = v2.versionId
+            WHERE v2.idtype = :idtype AND v2.id IN :ids AND cv.viewId = :viewId
+            GROUP BY v2.id
+        )
+        """)
+    List<ContentVersion> findInViewByIdtypeAndIdIn(Integer idtype, Collection<String> ids, Integer viewId);
 }
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 /**
  * Spring component implementing SearchClient, wrapping SolrService
  * for executing Solr queries with permission filtering and working-sites decoration.
+ * Responses are served from {@link SearchResultCache} while the index is unchanged.
  */
 @Component
 public class LocalSearchClient implements SearchClient {
@@ -41,18 +42,21 @@ public class LocalSearchClient implements SearchClient {
     private final AppUserRepository appUserRepository;
     private final AppGroupMemberRepository appGroupMemberRepository;
     private final ObjectCacheService cacheService;
+    private final SearchResultCache resultCache;
     private final ConcurrentHashMap<String, SolrService> coreCache = new ConcurrentHashMap<>();
 
     public LocalSearchClient(@Nullable SolrService solrService,
                              DeskProperties deskProperties,
                              AppUserRepository appUserRepository,
                              AppGroupMemberRepository appGroupMemberRepository,
-                             ObjectCacheService cacheService) {
+                             ObjectCacheService cacheService,
+                             SearchResultCache resultCache) {
         this.solrService = solrService;
         this.deskProperties = deskProperties;
         this.appUserRepository = appUserRepository;
         this.appGroupMemberRepository = appGroupMemberRepository;
         this.cacheService = cacheService;
+        this.resultCache = resultCache;
     }
 
     @PostConstruct
@@ -84,11 +88,12 @@ public class LocalSearchClient implements SearchClient {
             }
 
             // Apply permission filter using double-negation pattern (matching reference)
+            List<String> principals = List.of();
             if (options != null && options.getPermission() != SearchOptions.ACCESS_PERMISSION.OFF
                     && subject != null && subject.getPrincipalId() != null) {
                 String permField = getPermissionFieldName(options.getPermission());
                 if (permField != null) {
-                    List<String> principals = resolvePrincipals(subject.getPrincipalId());
+                    principals = resolvePrincipals(subject.getPrincipalId());
                     String principalExpr = principals.stream()
                             .map(ClientUtils::escapeQueryChars)
                             .collect(Collectors.joining(" OR "));
@@ -100,7 +105,14 @@ public class LocalSearchClient implements SearchClient {
                 }
             }
 
-            QueryResponse response = targetService.rawQuery(decorated);
+            SearchResultCache.Lookup lookup = resultCache.lookup(targetCore, decorated, principals);
+            QueryResponse response = lookup != null ? lookup.get() : null;
+            if (response == null) {
+                response = targetService.rawQuery(decorated);
+                if (lookup != null) {
+                    lookup.put(response);
+                }
+            }
             return new LocalSearchResponse(response, core);
         } catch (Exception e) {
             LOG.log(Level.SEVERE, "Search query failed for core " + core, e);
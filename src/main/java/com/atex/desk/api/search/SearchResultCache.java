@@ -0,0 +1,179 @@
+package com.atex.desk.api.search;
+
+import com.atex.onecms.app.dam.solr.SolrService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.util.NamedList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of Solr query responses for {@link LocalSearchClient}.
+ *
+ * <p>Entries are keyed by core, the normalized query (parameters sorted by name, filter queries
+ * sorted) and the principal set the permission filter was built from, so users only share an
+ * entry when Solr would have given them the same answer. Every key also carries the
+ * {@link SolrService#indexGeneration() index generation}, which advances when writes this node
+ * sent to Solr become visible: that makes all earlier entries unreachable, and they age out of
+ * the LRU. A result is only stored if the generation did not change while it ran. Writes from
+ * other nodes are not seen, so entries also expire after a short TTL.
+ *
+ * <p>Responses are copied on the way in and out, since callers add fields to the returned
+ * documents.
+ */
+@Component
+public class SearchResultCache {
+
+    /** Name reported by {@code /admin/cache}. */
+    public static final String CACHE_NAME = "searchResults";
+
+    public record Stats(long size, long maxSize, long ttlMs, long generation, long hitCount,
+                        long missCount, double hitRate, long evictionCount, long notStored) {}
+
+    private record Key(String core, String query, List<String> principals, long generation) {}
+
+    private final boolean enabled;
+    private final long maxSize;
+    private final long ttlMs;
+    private final Cache<Key, QueryResponse> cache;
+    private final AtomicLong notStored = new AtomicLong();
+    private final LongSupplier generation;
+
+    @Autowired
+    public SearchResultCache(@Value("${desk.search.cache.enabled:true}") boolean enabled,
+                             @Value("${desk.search.cache.max-size:2000}") long maxSize,
+                             @Value("${desk.search.cache.ttl-ms:30000}") long ttlMs) {
+        this(enabled, maxSize, ttlMs, SolrService::indexGeneration);
+    }
+
+    SearchResultCache(boolean enabled, long maxSize, long ttlMs, LongSupplier generation) {
+        this.generation = generation;
+        this.enabled = enabled && maxSize > 0 && ttlMs > 0;
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(Math.max(0, maxSize))
+            .expireAfterWrite(Math.max(1, ttlMs), TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * A lookup handle, taken before the query is sent so a write racing with it is detected.
+     */
+    public final class Lookup {
+        private final Key key;
+
+        private Lookup(Key key) {
+            this.key = key;
+        }
+
+        /**
+         * @return a private copy of the cached response, or null on a miss
+         */
+        public QueryResponse get() {
+            QueryResponse cached = cache.getIfPresent(key);
+            return cached != null ? copy(cached) : null;
+        }
+
+        /**
+         * Store a response fetched for this lookup, unless the index changed meanwhile.
+         */
+        public void put(QueryResponse response) {
+            if (key.generation() != generation.getAsLong()) {
+                notStored.incrementAndGet();
+                return;
+            }
+            cache.put(key, copy(response));
+        }
+    }
+
+    /**
+     * @param principals the principals the permission filter was built from, or an empty list
+     *                   if the query is not permission filtered
+     * @return a lookup handle, or null if caching is disabled
+     */
+    public Lookup lookup(String core, SolrQuery query, List<String> principals) {
+        if (!enabled) return null;
+        return new Lookup(new Key(core, normalize(query),
+            List.copyOf(new TreeSet<>(principals)), generation.getAsLong()));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Stats> getStats() {
+        var s = cache.stats();
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        stats.put(CACHE_NAME, new Stats(cache.size(), maxSize, ttlMs, generation.getAsLong(),
+            s.hitCount(), s.missCount(), s.hitRate(), s.evictionCount(), notStored.get()));
+        return stats;
+    }
+
+    /**
+     * The underlying cache, for metrics binding.
+     */
+    public Cache<?, ?> getCache() {
+        return cache;
+    }
+
+    // --- Helpers ---
+
+    static String normalize(SolrQuery query) {
+        List<String> names = new ArrayList<>(query.getParameterNames());
+        names.sort(null);
+        StringBuilder sb = new StringBuilder();
+        for (String name : names) {
+            String[] values = query.getParams(name);
+            if (values == null) continue;
+            if ("fq".equals(name)) {
+                values = values.clone();
+                Arrays.sort(values);
+            }
+            for (String value : values) {
+                sb.append(name).append('=').append(value).append('\u0000');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static QueryResponse copy(QueryResponse source) {
+        NamedList<Object> response = source.getResponse().clone();
+        int idx = response.indexOf("response", 0);
+        if (idx >= 0 && response.getVal(idx) instanceof SolrDocumentList docs) {
+            SolrDocumentList docsCopy = new SolrDocumentList();
+            docsCopy.setNumFound(docs.getNumFound());
+            docsCopy.setNumFoundExact(docs.getNumFoundExact());
+            docsCopy.setStart(docs.getStart());
+            docsCopy.setMaxScore(docs.getMaxScore());
+            for (SolrDocument doc : docs) {
+                SolrDocument docCopy = new SolrDocument(new LinkedHashMap<>(doc));
+                if (doc.hasChildDocuments()) {
+                    docCopy.addChildDocuments(doc.getChildDocuments());
+                }
+                docsCopy.add(docCopy);
+            }
+            response.setVal(idx, docsCopy);
+        }
+        QueryResponse copy = new QueryResponse();
+        copy.setResponse(response);
+        copy.setElapsedTime(source.getElapsedTime());
+        return copy;
+    }
+}
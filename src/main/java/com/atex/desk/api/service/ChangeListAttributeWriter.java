@@ -0,0 +1,184 @@
+package com.atex.desk.api.service;
+
+import com.atex.desk.api.entity.ChangeListAttribute;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes rows of the legacy {@code changelistattributes} table.
+ *
+ * <p>Rows are persisted with {@link EntityManager#persist} and flushed together, so Hibernate
+ * sends them as one JDBC batch ({@code hibernate.jdbc.batch_size}). Going through
+ * {@code saveAll} would merge, and so SELECT, each row first because the IDs are assigned.
+ *
+ * <p>With {@code desk.changes.attributes.async=true} the rows are written after the change list
+ * transaction by a background thread, several commits per batch. The feed itself only reads the
+ * denormalized {@code attr_*} columns of {@code adm_changelist}; the legacy table is for the
+ * reference service, which can tolerate a short delay. If the queue is full, the committing
+ * thread writes its rows itself in a separate transaction. Whatever is still queued at shutdown
+ * is written before the bean is destroyed. Rows that could not be written are counted in
+ * {@code desk.changes.attributes.failed}.
+ */
+@Component
+public class ChangeListAttributeWriter
+{
+    private static final Logger LOG = Logger.getLogger(ChangeListAttributeWriter.class.getName());
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate requiresNew;
+    private final boolean async;
+    private final int maxBatchRows;
+    private final BlockingQueue<List<ChangeListAttribute>> queue;
+    private final Thread writerThread;
+    private final Counter failedCounter;
+    private volatile boolean running = true;
+
+    public ChangeListAttributeWriter(EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${desk.changes.attributes.async:false}") boolean async,
+                                     @Value("${desk.changes.attributes.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${desk.changes.attributes.max-batch-rows:500}") int maxBatchRows)
+    {
+        this.entityManager = entityManager;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.async = async;
+        this.maxBatchRows = Math.max(1, maxBatchRows);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        Gauge.builder("desk.changes.attributes.queue.depth", this, ChangeListAttributeWriter::getQueueDepth)
+            .description("Change list attribute batches waiting to be written")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("desk.changes.attributes.failed")
+            .description("Change list attribute rows that could not be written")
+            .register(meterRegistry);
+        if (async)
+        {
+            writerThread = Thread.ofPlatform().name("changelist-attribute-writer").daemon(true)
+                .start(this::runWriter);
+        }
+        else
+        {
+            writerThread = null;
+        }
+    }
+
+    /**
+     * Write the attribute rows of one commit. Must be called inside the change list transaction;
+     * in async mode the rows are only queued once that transaction commits.
+     */
+    public void write(List<ChangeListAttribute> rows)
+    {
+        if (rows.isEmpty()) return;
+        if (async && running && TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+            {
+                @Override
+                public void afterCommit()
+                {
+                    // Once shutting down nothing may be left in the queue, so write inline
+                    if (!running || !queue.offer(rows)) writeBatch(rows);
+                }
+            });
+            return;
+        }
+        persistAll(rows);
+    }
+
+    public int getQueueDepth()
+    {
+        return queue.size();
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        running = false;
+        if (writerThread == null) return;
+        try
+        {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        // The writer may have timed out or been interrupted; write what is left from here
+        List<ChangeListAttribute> rows;
+        while ((rows = queue.poll()) != null)
+        {
+            writeBatch(rows);
+        }
+    }
+
+    // --- Helpers ---
+
+    private void persistAll(List<ChangeListAttribute> rows)
+    {
+        for (ChangeListAttribute row : rows)
+        {
+            entityManager.persist(row);
+        }
+        entityManager.flush();
+    }
+
+    private void runWriter()
+    {
+        while (running || !queue.isEmpty())
+        {
+            try
+            {
+                List<ChangeListAttribute> first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                List<ChangeListAttribute> batch = new ArrayList<>(first);
+                List<ChangeListAttribute> next;
+                while (batch.size() < maxBatchRows && (next = queue.poll()) != null)
+                {
+                    batch.addAll(next);
+                }
+                writeBatch(batch);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeBatch(List<ChangeListAttribute> batch)
+    {
+        try
+        {
+            requiresNew.executeWithoutResult(status -> {
+                persistAll(batch);
+                entityManager.clear();
+            });
+        }
+        catch (Exception e)
+        {
+            failedCounter.increment(batch.size());
+            LOG.log(Level.WARNING, "Failed to write " + batch.size() + " change list attribute rows", e);
+        }
+    }
+}
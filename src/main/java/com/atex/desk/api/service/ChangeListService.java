@@ -11,7 +11,6 @@ import com.atex.desk.api.entity.EventQueueEntry;
 import com.atex.desk.api.entity.EventTypeEntity;
 import com.atex.desk.api.entity.IdType;
 import com.atex.desk.api.repository.AttributeRepository;
-import com.atex.desk.api.repository.ChangeListAttributeRepository;
 import com.atex.desk.api.repository.ChangeListRepository;
 import com.atex.desk.api.repository.EventQueueRepository;
 import com.atex.desk.api.repository.EventTypeRepository;
@@ -19,6 +18,7 @@ import com.atex.desk.api.repository.IdTypeRepository;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,7 +29,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,15 +37,48 @@ public class ChangeListService
 {
     private static final Logger LOG = Logger.getLogger(ChangeListService.class.getName());
 
+    /**
+     * One row per content item: a new commit replaces the previous row for the same contentid.
+     * Several rows can be upserted in one statement; {@code #} in {@link #UPSERT_CHANGELIST_ROW}
+     * is replaced by the row index to name its parameters.
+     */
+    private static final String UPSERT_CHANGELIST_INSERT =
+        "INSERT INTO adm_changelist (id, eventtype, idtype, contentid, version, contenttype, "
+        + "created_at, created_by, modified_at, modified_by, commit_at, "
+        + "attr_insertParentId, attr_securityParentId, attr_objectType, attr_inputTemplate, attr_partition) "
+        + "VALUES ";
+    private static final String UPSERT_CHANGELIST_ROW =
+        "(:id#, :eventtype#, :idtype#, :contentid#, :version#, :contenttype#, "
+        + ":createdAt#, :createdBy#, :modifiedAt#, :modifiedBy#, :commitAt#, "
+        + ":insertParentId#, :securityParentId#, :objectType#, :inputTemplate#, :partition#)";
+    private static final String UPSERT_CHANGELIST_UPDATE =
+        " ON DUPLICATE KEY UPDATE id = VALUES(id), eventtype = VALUES(eventtype), idtype = VALUES(idtype), "
+        + "version = VALUES(version), contenttype = VALUES(contenttype), "
+        + "created_at = VALUES(created_at), created_by = VALUES(created_by), "
+        + "modified_at = VALUES(modified_at), modified_by = VALUES(modified_by), commit_at = VALUES(commit_at), "
+        + "attr_insertParentId = VALUES(attr_insertParentId), attr_securityParentId = VALUES(attr_securityParentId), "
+        + "attr_objectType = VALUES(attr_objectType), attr_inputTemplate = VALUES(attr_inputTemplate), "
+        + "attr_partition = VALUES(attr_partition)";
+
+    /** Rows per multi-row upsert when recording a batch. */
+    private static final int UPSERT_ROWS_PER_STATEMENT = 100;
+
+    /**
+     * A CREATE or UPDATE event of a batch write, see {@link #recordEvents(List)}.
+     */
+    public record ContentChange(String eventType, ContentResultDto result, String delegationId,
+                                String contentKey, String version, String userId) {}
+
     private final ChangeListRepository changeListRepository;
-    private final ChangeListAttributeRepository changeListAttributeRepository;
+    private final ChangeListAttributeWriter attributeWriter;
     private final EventQueueRepository eventQueueRepository;
     private final EventTypeRepository eventTypeRepository;
     private final AttributeRepository attributeRepository;
     private final IdTypeRepository idTypeRepository;
     private final EntityManager entityManager;
+    private final ChangeNotificationBus notificationBus;
+    private final CommitIdAllocator commitIdAllocator;
 
-    private final AtomicInteger commitIdSequence = new AtomicInteger(0);
     private final Map<String, Integer> eventTypeCache = new ConcurrentHashMap<>();
     private final Map<String, Integer> attributeCache = new ConcurrentHashMap<>();
     private final Map<String, Integer> idTypeCache = new ConcurrentHashMap<>();
@@ -56,28 +88,27 @@ public class ChangeListService
     private volatile Map<Integer, String> idTypeIdToNameMap = Map.of();
 
     public ChangeListService(ChangeListRepository changeListRepository,
-                             ChangeListAttributeRepository changeListAttributeRepository,
+                             ChangeListAttributeWriter attributeWriter,
                              EventQueueRepository eventQueueRepository,
                              EventTypeRepository eventTypeRepository,
                              AttributeRepository attributeRepository,
                              IdTypeRepository idTypeRepository,
-                             EntityManager entityManager) {
+                             EntityManager entityManager,
+                             ChangeNotificationBus notificationBus,
+                             CommitIdAllocator commitIdAllocator) {
         this.changeListRepository = changeListRepository;
-        this.changeListAttributeRepository = changeListAttributeRepository;
+        this.attributeWriter = attributeWriter;
         this.eventQueueRepository = eventQueueRepository;
         this.eventTypeRepository = eventTypeRepository;
         this.attributeRepository = attributeRepository;
         this.idTypeRepository = idTypeRepository;
         this.entityManager = entityManager;
+        this.notificationBus = notificationBus;
+        this.commitIdAllocator = commitIdAllocator;
     }
 
     @PostConstruct
     void init() {
-        // Seed commit ID from max existing
-        int maxId = changeListRepository.findMaxId().orElse(0);
-        commitIdSequence.set(maxId);
-        LOG.info("ChangeListService initialized with commitId sequence at " + maxId);
-
         // Cache event types
         for (EventTypeEntity et : eventTypeRepository.findAll()) {
             eventTypeCache.put(et.getName(), et.getEventId());
@@ -113,14 +144,15 @@ public class ChangeListService
 
     /**
      * Record a CREATE or UPDATE event. Runs in its own transaction so content operation
-     * succeeds even if recording fails.
+     * succeeds even if recording fails. The commit ID stays in flight, holding back the feed's
+     * high-water mark (see {@link CommitIdAllocator}), until that transaction ends.
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordEvent(String eventType, ContentResultDto result,
                             String delegationId, String contentKey, String version,
                             String userId) {
         try {
-            int commitId = commitIdSequence.incrementAndGet();
+            int commitId = commitIdAllocator.next();
             Instant now = Instant.now();
 
             Integer eventTypeId = eventTypeCache.get(eventType);
@@ -134,40 +166,18 @@ public class ChangeListService
                 idtypeId = 1; // default to onecms
             }
 
-            String contentType = extractContentType(result);
-            String contentIdStr = contentKey;
-
-            // Upsert: delete existing entry for this contentid, then insert new one
-            changeListRepository.deleteByContentid(contentIdStr);
-            entityManager.flush();
-
-            ChangeListEntry entry = new ChangeListEntry();
-            entry.setId(commitId);
-            entry.setEventtype(eventTypeId);
-            entry.setIdtype(idtypeId);
-            entry.setContentid(contentIdStr);
-            entry.setVersion(version);
-            entry.setContenttype(contentType != null ? contentType : "");
-            entry.setCreatedAt(now);
-            entry.setCreatedBy(userId);
-            entry.setModifiedAt(now);
-            entry.setModifiedBy(userId);
-            entry.setCommitAt(now);
-
-            // Populate denormalized attribute columns
-            populateDenormalizedAttrs(entry, result);
-            changeListRepository.save(entry);
+            ChangeListEntry entry = buildEntry(commitId, eventTypeId, idtypeId, result,
+                contentKey, version, userId, now);
+            upsertEntries(List.of(entry));
 
             // Store attributes in legacy table (for reference service compatibility)
-            storeAttributes(commitId, result, userId, now);
+            attributeWriter.write(buildAttributes(commitId, result, userId, now));
 
             // Append-only audit log
-            EventQueueEntry queueEntry = new EventQueueEntry();
-            queueEntry.setEventtype(eventTypeId);
-            queueEntry.setVersionid(commitId);
-            queueEntry.setCreatedAt(now);
-            queueEntry.setCreatedBy(userId);
-            eventQueueRepository.save(queueEntry);
+            saveQueueEntry(eventTypeId, commitId, userId, now);
+
+            notificationBus.publishAfterCommit(new ChangeNotificationBus.ChangeNotice(commitId, eventType,
+                entry.getContenttype(), entry.getAttrObjectType(), entry.getAttrPartition()));
 
             LOG.fine(() -> "Recorded " + eventType + " event for " + delegationId + ":" + contentKey
                     + " commitId=" + commitId);
@@ -179,13 +189,65 @@ public class ChangeListService
     }
 
     /**
-     * Record a DELETE event with limited metadata.
+     * Record the CREATE and UPDATE events of a batch write in one transaction. The entries get
+     * consecutive commit IDs reserved in one round trip and are upserted with multi-row
+     * statements, and the attribute rows of all of them go out as one JDBC batch. Feed consumers
+     * such as the live indexer then pick the batch up together in one page.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordEvents(List<ContentChange> changes) {
+        if (changes.isEmpty()) return;
+        try {
+            int firstCommitId = commitIdAllocator.nextRange(changes.size());
+            Instant now = Instant.now();
+
+            List<ChangeListEntry> entries = new ArrayList<>(changes.size());
+            List<String> eventTypes = new ArrayList<>(changes.size());
+            List<ChangeListAttribute> attributes = new ArrayList<>();
+            for (int i = 0; i < changes.size(); i++) {
+                ContentChange change = changes.get(i);
+                int commitId = firstCommitId + i;
+
+                Integer eventTypeId = eventTypeCache.get(change.eventType());
+                if (eventTypeId == null) {
+                    LOG.warning("Unknown event type: " + change.eventType());
+                    continue;
+                }
+                Integer idtypeId = idTypeCache.getOrDefault(change.delegationId(), 1);
+
+                entries.add(buildEntry(commitId, eventTypeId, idtypeId, change.result(),
+                    change.contentKey(), change.version(), change.userId(), now));
+                eventTypes.add(change.eventType());
+                attributes.addAll(buildAttributes(commitId, change.result(), change.userId(), now));
+                saveQueueEntry(eventTypeId, commitId, change.userId(), now);
+            }
+
+            upsertEntries(entries);
+            attributeWriter.write(attributes);
+
+            for (int i = 0; i < entries.size(); i++) {
+                ChangeListEntry entry = entries.get(i);
+                notificationBus.publishAfterCommit(new ChangeNotificationBus.ChangeNotice(entry.getId(),
+                    eventTypes.get(i), entry.getContenttype(), entry.getAttrObjectType(),
+                    entry.getAttrPartition()));
+            }
+
+            LOG.fine(() -> "Recorded " + entries.size() + " events from commitId=" + firstCommitId);
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Failed to record " + changes.size() + " events", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Record a DELETE event with limited metadata. The object type, partition and parents
+     * are carried over from the item's previous change list row.
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordDelete(String delegationId, String contentKey, String version,
                              String contentType, String userId) {
         try {
-            int commitId = commitIdSequence.incrementAndGet();
+            int commitId = commitIdAllocator.next();
             Instant now = Instant.now();
 
             Integer eventTypeId = eventTypeCache.get("DELETE");
@@ -199,10 +261,6 @@ public class ChangeListService
                 idtypeId = 1;
             }
 
-            // Upsert: delete existing entry for this contentid
-            changeListRepository.deleteByContentid(contentKey);
-            entityManager.flush();
-
             ChangeListEntry entry = new ChangeListEntry();
             entry.setId(commitId);
             entry.setEventtype(eventTypeId);
@@ -215,36 +273,29 @@ public class ChangeListService
             entry.setModifiedAt(now);
             entry.setModifiedBy(userId);
             entry.setCommitAt(now);
-            // No denormalized attrs for DELETE — content is gone
-            changeListRepository.save(entry);
-
-            // Store modifier attribute
-            Integer modifierAttrId = attributeCache.get("modifier");
-            if (modifierAttrId != null) {
-                ChangeListAttribute attr = new ChangeListAttribute();
-                attr.setId(commitId);
-                attr.setAttrId(modifierAttrId);
-                attr.setStrValue(userId);
-                changeListAttributeRepository.save(attr);
-            }
-
-            // Store modificationTime attribute
-            Integer modTimeAttrId = attributeCache.get("modificationTime");
-            if (modTimeAttrId != null) {
-                ChangeListAttribute attr = new ChangeListAttribute();
-                attr.setId(commitId);
-                attr.setAttrId(modTimeAttrId);
-                attr.setStrValue(String.valueOf(now.toEpochMilli()));
-                changeListAttributeRepository.save(attr);
-            }
+            // The content is gone: keep the denormalized attrs of its last commit, so feed
+            // filters and listeners on object type or partition still see the delete
+            changeListRepository.findByContentid(contentKey).ifPresent(previous -> {
+                if (contentType == null) entry.setContenttype(previous.getContenttype());
+                entry.setAttrInsertParentId(previous.getAttrInsertParentId());
+                entry.setAttrSecurityParentId(previous.getAttrSecurityParentId());
+                entry.setAttrObjectType(previous.getAttrObjectType());
+                entry.setAttrInputTemplate(previous.getAttrInputTemplate());
+                entry.setAttrPartition(previous.getAttrPartition());
+            });
+            upsertEntries(List.of(entry));
+
+            // Store modifier and modificationTime attributes
+            List<ChangeListAttribute> attrs = new ArrayList<>();
+            addAttribute(attrs, commitId, "modifier", userId);
+            addAttribute(attrs, commitId, "modificationTime", String.valueOf(now.toEpochMilli()));
+            attributeWriter.write(attrs);
 
             // Audit log
-            EventQueueEntry queueEntry = new EventQueueEntry();
-            queueEntry.setEventtype(eventTypeId);
-            queueEntry.setVersionid(commitId);
-            queueEntry.setCreatedAt(now);
-            queueEntry.setCreatedBy(userId);
-            eventQueueRepository.save(queueEntry);
+            saveQueueEntry(eventTypeId, commitId, userId, now);
+
+            notificationBus.publishAfterCommit(new ChangeNotificationBus.ChangeNotice(commitId, "DELETE",
+                entry.getContenttype(), entry.getAttrObjectType(), entry.getAttrPartition()));
 
             LOG.fine(() -> "Recorded DELETE event for " + delegationId + ":" + contentKey
                     + " commitId=" + commitId);
@@ -265,7 +316,10 @@ public class ChangeListService
                                        List<String> partitions, List<String> eventTypes,
                                        int maxRows) {
         long runTime = System.currentTimeMillis();
-        int currentMax = commitIdSequence.get();
+        // Global high-water mark: below it no commit can still appear. Read first, so every row
+        // it covers is in this transaction's snapshot
+        long committedUpTo = commitIdAllocator.committedUpTo();
+        int currentMax = (int) Math.min(committedUpTo, changeListRepository.findMaxId().orElse(0));
 
         // Build dynamic native query using denormalized attr_* columns
         StringBuilder sql = new StringBuilder(
@@ -282,9 +336,13 @@ public class ChangeListService
 
         // Cursor filter
         if (commitId != null) {
+            // Cursors past the committed max are fine as long as some node has handed them out
             if (commitId > currentMax) {
-                throw new InvalidCommitIdException(
-                    "commitId " + commitId + " exceeds current max " + currentMax);
+                long allocated = commitIdAllocator.highestAllocated();
+                if (commitId > allocated) {
+                    throw new InvalidCommitIdException(
+                        "commitId " + commitId + " exceeds current max " + allocated);
+                }
             }
             conditions.add("c.id > :commitId");
             params.put("commitId", commitId.intValue());
@@ -292,6 +350,9 @@ public class ChangeListService
             conditions.add("c.commit_at >= :changedSince");
             params.put("changedSince", Instant.ofEpochMilli(changedSince));
         }
+        // Nothing past the high-water mark, so a cursor taken from this page never skips a late commit
+        conditions.add("c.id <= :maxCommitId");
+        params.put("maxCommitId", currentMax);
 
         // Event type filter
         if (eventTypes != null && !eventTypes.isEmpty()) {
@@ -432,19 +493,95 @@ public class ChangeListService
         return value != null && value.length() > maxLen ? value.substring(0, maxLen) : value;
     }
 
-    private void storeAttributes(int commitId, ContentResultDto result, String userId, Instant now) {
+    private ChangeListEntry buildEntry(int commitId, int eventTypeId, int idtypeId,
+                                       ContentResultDto result, String contentKey, String version,
+                                       String userId, Instant now) {
+        String contentType = extractContentType(result);
+
+        ChangeListEntry entry = new ChangeListEntry();
+        entry.setId(commitId);
+        entry.setEventtype(eventTypeId);
+        entry.setIdtype(idtypeId);
+        entry.setContentid(contentKey);
+        entry.setVersion(version);
+        entry.setContenttype(contentType != null ? contentType : "");
+        entry.setCreatedAt(now);
+        entry.setCreatedBy(userId);
+        entry.setModifiedAt(now);
+        entry.setModifiedBy(userId);
+        entry.setCommitAt(now);
+
+        // Populate denormalized attribute columns
+        populateDenormalizedAttrs(entry, result);
+        return entry;
+    }
+
+    private void saveQueueEntry(int eventTypeId, int commitId, String userId, Instant now) {
+        EventQueueEntry queueEntry = new EventQueueEntry();
+        queueEntry.setEventtype(eventTypeId);
+        queueEntry.setVersionid(commitId);
+        queueEntry.setCreatedAt(now);
+        queueEntry.setCreatedBy(userId);
+        eventQueueRepository.save(queueEntry);
+    }
+
+    /**
+     * Insert the change list rows of content items, replacing their previous rows (unique on
+     * contentid) in the same statement, up to {@value #UPSERT_ROWS_PER_STATEMENT} rows at a time.
+     */
+    private void upsertEntries(List<ChangeListEntry> entries) {
+        for (int from = 0; from < entries.size(); from += UPSERT_ROWS_PER_STATEMENT) {
+            List<ChangeListEntry> chunk =
+                entries.subList(from, Math.min(from + UPSERT_ROWS_PER_STATEMENT, entries.size()));
+
+            StringBuilder sql = new StringBuilder(UPSERT_CHANGELIST_INSERT);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(UPSERT_CHANGELIST_ROW.replace("#", String.valueOf(i)));
+            }
+            sql.append(UPSERT_CHANGELIST_UPDATE);
+
+            NativeQuery<?> query = entityManager.createNativeQuery(sql.toString()).unwrap(NativeQuery.class);
+            for (int i = 0; i < chunk.size(); i++) {
+                ChangeListEntry entry = chunk.get(i);
+                String n = String.valueOf(i);
+                // Typed binds: the attr_* values are often null
+                query.setParameter("id" + n, entry.getId())
+                    .setParameter("eventtype" + n, entry.getEventtype())
+                    .setParameter("idtype" + n, entry.getIdtype())
+                    .setParameter("contentid" + n, entry.getContentid())
+                    .setParameter("version" + n, entry.getVersion())
+                    .setParameter("contenttype" + n, entry.getContenttype())
+                    .setParameter("createdAt" + n, entry.getCreatedAt())
+                    .setParameter("createdBy" + n, entry.getCreatedBy())
+                    .setParameter("modifiedAt" + n, entry.getModifiedAt())
+                    .setParameter("modifiedBy" + n, entry.getModifiedBy())
+                    .setParameter("commitAt" + n, entry.getCommitAt())
+                    .setParameter("insertParentId" + n, entry.getAttrInsertParentId(), String.class)
+                    .setParameter("securityParentId" + n, entry.getAttrSecurityParentId(), String.class)
+                    .setParameter("objectType" + n, entry.getAttrObjectType(), String.class)
+                    .setParameter("inputTemplate" + n, entry.getAttrInputTemplate(), String.class)
+                    .setParameter("partition" + n, entry.getAttrPartition(), String.class);
+            }
+            query.executeUpdate();
+        }
+    }
+
+    private List<ChangeListAttribute> buildAttributes(int commitId, ContentResultDto result,
+                                                      String userId, Instant now) {
+        List<ChangeListAttribute> attrs = new ArrayList<>();
         Map<String, AspectDto> aspects = result.getAspects();
-        if (aspects == null) return;
+        if (aspects == null) return attrs;
 
         // Object type from contentData._type
         String objectType = extractObjectType(result);
-        storeAttribute(commitId, "objectType", objectType);
+        addAttribute(attrs, commitId, "objectType", objectType);
 
         // Creator and modifier
-        storeAttribute(commitId, "created_by", userId);
-        storeAttribute(commitId, "modifier", userId);
-        storeAttribute(commitId, "creationTime", String.valueOf(now.toEpochMilli()));
-        storeAttribute(commitId, "modificationTime", String.valueOf(now.toEpochMilli()));
+        addAttribute(attrs, commitId, "created_by", userId);
+        addAttribute(attrs, commitId, "modifier", userId);
+        addAttribute(attrs, commitId, "creationTime", String.valueOf(now.toEpochMilli()));
+        addAttribute(attrs, commitId, "modificationTime", String.valueOf(now.toEpochMilli()));
 
         // Insertion info
         AspectDto insertionInfo = aspects.get("atex.InsertionInfo");
@@ -452,11 +589,11 @@ public class ChangeListService
             Map<String, Object> data = insertionInfo.getData();
             Object secParent = data.get("securityParentId");
             if (secParent != null) {
-                storeAttribute(commitId, "securityParentId", secParent.toString());
+                addAttribute(attrs, commitId, "securityParentId", secParent.toString());
             }
             Object insertParent = data.get("insertParentId");
             if (insertParent != null) {
-                storeAttribute(commitId, "insertParentId", insertParent.toString());
+                addAttribute(attrs, commitId, "insertParentId", insertParent.toString());
             }
         }
 
@@ -465,12 +602,13 @@ public class ChangeListService
         if (contentData != null && contentData.getData() != null) {
             Object partition = contentData.getData().get("partition");
             if (partition != null) {
-                storeAttribute(commitId, "partition", partition.toString());
+                addAttribute(attrs, commitId, "partition", partition.toString());
             }
         }
+        return attrs;
     }
 
-    private void storeAttribute(int commitId, String attrName, String value) {
+    private void addAttribute(List<ChangeListAttribute> attrs, int commitId, String attrName, String value) {
         if (value == null) return;
         Integer attrId = attributeCache.get(attrName);
         if (attrId == null) return;
@@ -479,7 +617,7 @@ public class ChangeListService
         attr.setId(commitId);
         attr.setAttrId(attrId);
         attr.setStrValue(value);
-        changeListAttributeRepository.save(attr);
+        attrs.add(attr);
     }
 
     private String extractContentType(ContentResultDto result) {
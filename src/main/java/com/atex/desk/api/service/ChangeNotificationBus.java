@@ -0,0 +1,267 @@
+package com.atex.desk.api.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-memory fan-out of committed change list events, so change feed consumers can wait for
+ * new commits instead of re-running the feed query on a timer.
+ *
+ * <p>{@link ChangeListService} publishes a {@link ChangeNotice} after each change list
+ * transaction commits. Waiters are completed on a virtual thread, never on the writer's thread.
+ *
+ * <p>Callers take a {@link #position()} before running their feed query and register from that
+ * position afterwards. A bounded buffer of recent notices covers the gap in between: a matching
+ * notice published after the position completes the waiter straight away, and so does a buffer
+ * overrun. Positions count publications rather than commit IDs, since commit IDs are allocated
+ * before their transactions commit and can become visible out of order.
+ *
+ * <p>The bus only sees commits made on this node. Waits on other nodes end at their timeout and
+ * fall back to a normal feed query, so results stay correct, only slower.
+ */
+@Service
+public class ChangeNotificationBus
+{
+    private static final Logger LOG = Logger.getLogger(ChangeNotificationBus.class.getName());
+
+    /**
+     * The filterable attributes of a committed change list entry.
+     */
+    public record ChangeNotice(long commitId, String eventType, String contentType,
+                               String objectType, String partition) {}
+
+    /**
+     * Feed filters as accepted by {@link ChangeListService#queryChanges}; null or empty lists
+     * match everything, otherwise a null attribute never matches (as with SQL {@code IN}).
+     */
+    public record ChangeFilter(List<String> contentTypes, List<String> objectTypes,
+                               List<String> partitions, List<String> eventTypes)
+    {
+        public boolean matches(ChangeNotice notice)
+        {
+            return in(eventTypes, notice.eventType())
+                && in(contentTypes, notice.contentType())
+                && in(objectTypes, notice.objectType())
+                && in(partitions, notice.partition());
+        }
+
+        private static boolean in(List<String> values, String value)
+        {
+            return values == null || values.isEmpty() || (value != null && values.contains(value));
+        }
+    }
+
+    /**
+     * A registration on the bus. Cancel it when the caller goes away.
+     */
+    public interface Subscription
+    {
+        void cancel();
+    }
+
+    private record Posted(long position, ChangeNotice notice) {}
+
+    /** Signals that notices may have been missed and the caller should re-query. */
+    public static final ChangeNotice RESYNC = new ChangeNotice(-1, null, null, null, null);
+
+    private final class Waiter implements Subscription
+    {
+        private final ChangeFilter filter;
+        private final Consumer<ChangeNotice> listener;
+        private final boolean persistent;
+
+        Waiter(ChangeFilter filter, Consumer<ChangeNotice> listener, boolean persistent)
+        {
+            this.filter = filter;
+            this.listener = listener;
+            this.persistent = persistent;
+        }
+
+        @Override
+        public void cancel()
+        {
+            synchronized (ChangeNotificationBus.this)
+            {
+                waiters.remove(this);
+            }
+        }
+    }
+
+    private final int bufferSize;
+    private final int maxWaiters;
+    private final ArrayDeque<Posted> recent;
+    private long position;
+    private final List<Waiter> waiters = new ArrayList<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ChangeNotificationBus(@Value("${desk.changes.notify.buffer-size:1024}") int bufferSize,
+                                 @Value("${desk.changes.notify.max-waiters:1000}") int maxWaiters)
+    {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxWaiters = maxWaiters;
+        this.recent = new ArrayDeque<>(this.bufferSize);
+    }
+
+    /**
+     * Publish a notice once the current transaction commits, or immediately if there is none.
+     * Rolled-back changes are never published.
+     */
+    public void publishAfterCommit(ChangeNotice notice)
+    {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+            {
+                @Override
+                public void afterCommit()
+                {
+                    publish(notice);
+                }
+            });
+        }
+        else
+        {
+            publish(notice);
+        }
+    }
+
+    public void publish(ChangeNotice notice)
+    {
+        List<Waiter> matched = new ArrayList<>();
+        synchronized (this)
+        {
+            if (recent.size() == bufferSize) recent.removeFirst();
+            recent.addLast(new Posted(++position, notice));
+
+            for (Iterator<Waiter> it = waiters.iterator(); it.hasNext(); )
+            {
+                Waiter waiter = it.next();
+                if (waiter.filter.matches(notice))
+                {
+                    matched.add(waiter);
+                    if (!waiter.persistent) it.remove();
+                }
+            }
+        }
+        for (Waiter waiter : matched)
+        {
+            dispatch(waiter, notice);
+        }
+    }
+
+    /**
+     * @return the number of notices published so far; pass it to {@link #await} or
+     *         {@link #subscribe} to be told about everything published after this point
+     */
+    public synchronized long position()
+    {
+        return position;
+    }
+
+    /**
+     * Wait for the first matching commit published after {@code fromPosition}.
+     *
+     * @return a future completed with the matching notice or {@link #RESYNC};
+     *         null if too many callers are already waiting
+     */
+    public CompletableFuture<ChangeNotice> await(long fromPosition, ChangeFilter filter)
+    {
+        CompletableFuture<ChangeNotice> future = new CompletableFuture<>();
+        Subscription subscription = register(fromPosition, filter, future::complete, false);
+        if (subscription == null) return null;
+        future.whenComplete((notice, error) -> subscription.cancel());
+        return future;
+    }
+
+    /**
+     * Receive every matching commit published after {@code fromPosition} until the subscription
+     * is cancelled. Listeners may be called concurrently.
+     *
+     * @return the subscription, or null if too many callers are already waiting
+     */
+    public Subscription subscribe(long fromPosition, ChangeFilter filter, Consumer<ChangeNotice> listener)
+    {
+        return register(fromPosition, filter, listener, true);
+    }
+
+    public synchronized int getWaiterCount()
+    {
+        return waiters.size();
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        dispatcher.shutdownNow();
+    }
+
+    // --- Helpers ---
+
+    private Subscription register(long fromPosition, ChangeFilter filter,
+                                  Consumer<ChangeNotice> listener, boolean persistent)
+    {
+        Waiter waiter = new Waiter(filter, listener, persistent);
+        ChangeNotice pending = null;
+        synchronized (this)
+        {
+            if (waiters.size() >= maxWaiters) return null;
+
+            Posted oldest = recent.peekFirst();
+            if (oldest != null && oldest.position() > fromPosition + 1)
+            {
+                // Notices published since fromPosition have already left the buffer
+                pending = RESYNC;
+            }
+            else
+            {
+                for (Posted posted : recent)
+                {
+                    if (posted.position() > fromPosition && filter.matches(posted.notice()))
+                    {
+                        pending = posted.notice();
+                        break;
+                    }
+                }
+            }
+            if (pending == null || persistent) waiters.add(waiter);
+        }
+        if (pending != null) dispatch(waiter, pending);
+        return waiter;
+    }
+
+    private void dispatch(Waiter waiter, ChangeNotice notice)
+    {
+        try
+        {
+            dispatcher.execute(() -> {
+                try
+                {
+                    waiter.listener.accept(notice);
+                }
+                catch (Exception e)
+                {
+                    LOG.log(Level.FINE, "Change notification listener failed", e);
+                }
+            });
+        }
+        catch (Exception e)
+        {
+            // Shutting down
+            LOG.log(Level.FINE, "Dropped change notification for commit " + notice.commitId(), e);
+        }
+    }
+}
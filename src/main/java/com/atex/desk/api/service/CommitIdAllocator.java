@@ -0,0 +1,372 @@
+package com.atex.desk.api.service;
+
+import com.atex.desk.api.entity.ChangeListSequence;
+import com.atex.desk.api.repository.ChangeListRepository;
+import com.atex.desk.api.repository.ChangeListSequenceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Allocates change list commit IDs from the {@code changelist_sequence} table, so IDs are unique
+ * across all API nodes sharing a database, and tracks the global high-water mark feed consumers
+ * may read up to.
+ *
+ * <p>Each reservation runs in its own short transaction, so the sequence row is locked only for
+ * the increment and never for the duration of the caller's change list write. A node reserves
+ * {@code desk.changes.commit-id-block-size} IDs at once and hands them out locally (hi/lo).
+ *
+ * <p>IDs from different nodes and blocks then commit out of ID order, so {@code MAX(id)} is not a
+ * safe cursor limit. Instead every node keeps a row in {@code changelist_claims} with the lowest
+ * ID it may still commit: the lowest ID of an open change list transaction, or the next unused ID
+ * of its block. The claim is written in the same transaction as each reservation, so it is
+ * visible before any ID of the block is used, and raised by {@link #publishClaim()} as
+ * transactions end. {@link #committedUpTo()} is then the highest ID below every live claim:
+ * every change list row up to it has either committed or never will. A node that is idle while
+ * others have allocated past its block drops the rest of the block, so it does not hold back their
+ * commits; those IDs are simply never used, like the ID of a rolled-back transaction. Claims not
+ * refreshed within {@code desk.changes.claims.timeout-seconds} are taken to belong to a dead node.
+ */
+@Service
+public class CommitIdAllocator
+{
+    private static final Logger LOG = Logger.getLogger(CommitIdAllocator.class.getName());
+
+    static final String COMMIT_ID_SEQUENCE = "commit_id";
+
+    private static final String UPSERT_CLAIM_SQL =
+        "INSERT INTO changelist_claims (node_id, low_id, version, updated_at) "
+        + "VALUES (:nodeId, :lowId, :version, :updatedAt) "
+        + "ON DUPLICATE KEY UPDATE low_id = IF(VALUES(version) > version, VALUES(low_id), low_id), "
+        + "version = GREATEST(version, VALUES(version)), updated_at = VALUES(updated_at)";
+
+    private static final String WATERMARK_SQL =
+        "SELECT s.next_val, (SELECT MIN(c.low_id) FROM changelist_claims c "
+        + "WHERE c.node_id <> :nodeId AND c.low_id IS NOT NULL AND c.updated_at >= :since), "
+        + "(SELECT o.low_id FROM changelist_claims o WHERE o.node_id = :nodeId) "
+        + "FROM changelist_sequence s WHERE s.name = :name";
+
+    private final ChangeListSequenceRepository sequenceRepository;
+    private final ChangeListRepository changeListRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate requiresNew;
+    private final int blockSize;
+    private final long claimTimeoutMs;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** Current local block: next() hands out (next, limit]. Guarded by this. */
+    private long next;
+    private long limit;
+    /** First IDs of reservations whose change list transaction is still open. Guarded by this. */
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    /** Orders claim writes, so a late periodic write cannot undo a reservation's. Guarded by this. */
+    private long claimVersion;
+    /** The claim last written, so an unchanged empty claim is not rewritten. Guarded by this. */
+    private Long writtenClaim;
+    /** Number of completed block reservations. Guarded by this. */
+    private long reservations;
+
+    public CommitIdAllocator(ChangeListSequenceRepository sequenceRepository,
+                             ChangeListRepository changeListRepository,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${desk.changes.commit-id-block-size:20}") int blockSize,
+                             @Value("${desk.changes.claims.timeout-seconds:60}") long claimTimeoutSeconds)
+    {
+        this.sequenceRepository = sequenceRepository;
+        this.changeListRepository = changeListRepository;
+        this.entityManager = entityManager;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+        this.claimTimeoutMs = TimeUnit.SECONDS.toMillis(Math.max(1, claimTimeoutSeconds));
+    }
+
+    @PostConstruct
+    void init()
+    {
+        // Catch up if change list rows were written by something that bypassed the sequence
+        long hi = requiresNew.execute(status -> {
+            ChangeListSequence sequence = sequenceRepository.findForUpdate(COMMIT_ID_SEQUENCE)
+                .orElseGet(() -> {
+                    ChangeListSequence created = new ChangeListSequence();
+                    created.setName(COMMIT_ID_SEQUENCE);
+                    return created;
+                });
+            long maxId = changeListRepository.findMaxId().orElse(0);
+            if (sequence.getNextVal() < maxId)
+            {
+                sequence.setNextVal(maxId);
+            }
+            sequenceRepository.save(sequence);
+
+            // Claims of nodes that went away without removing them
+            entityManager.createNativeQuery("DELETE FROM changelist_claims WHERE updated_at < :expired")
+                .setParameter("expired", System.currentTimeMillis() - claimTimeoutMs)
+                .executeUpdate();
+            return sequence.getNextVal();
+        });
+        LOG.info("CommitIdAllocator initialized at " + hi + " (block size " + blockSize + ", node " + nodeId + ")");
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        synchronized (this)
+        {
+            // A transaction still open here may yet commit; its claim then expires instead
+            if (!inFlight.isEmpty()) return;
+            next = limit;
+        }
+        try
+        {
+            requiresNew.executeWithoutResult(status ->
+                entityManager.createNativeQuery("DELETE FROM changelist_claims WHERE node_id = :nodeId")
+                    .setParameter("nodeId", nodeId)
+                    .executeUpdate());
+        }
+        catch (Exception e)
+        {
+            LOG.log(Level.FINE, "Could not remove commit ID claim of " + nodeId, e);
+        }
+    }
+
+    /**
+     * Hand out a commit ID for the current change list transaction. The ID counts as in flight,
+     * holding back {@link #committedUpTo()}, until that transaction commits or rolls back.
+     *
+     * @return a commit ID no other node will hand out
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int next()
+    {
+        long id;
+        synchronized (this)
+        {
+            if (next >= limit)
+            {
+                long hi = reserve(blockSize);
+                limit = hi;
+                next = hi - blockSize;
+                reservations++;
+            }
+            id = ++next;
+            inFlight.add(id);
+        }
+        releaseOnCompletion(id);
+        return Math.toIntExact(id);
+    }
+
+    /**
+     * Reserve {@code count} consecutive commit IDs for the current change list transaction, e.g.
+     * for the entries of a batch write. Bypasses the local block, so the IDs stay consecutive.
+     *
+     * @return the first of the reserved IDs
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int nextRange(int count)
+    {
+        if (count < 1)
+        {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        long first;
+        synchronized (this)
+        {
+            first = reserve(count) - count + 1;
+            inFlight.add(first);
+            reservations++;
+        }
+        releaseOnCompletion(first);
+        return Math.toIntExact(first);
+    }
+
+    /**
+     * @return the highest commit ID handed out by any node (committed or not)
+     */
+    public long highestAllocated()
+    {
+        return sequenceRepository.findNextVal(COMMIT_ID_SEQUENCE).orElse(0L);
+    }
+
+    /**
+     * The global high-water mark: every change list row with an ID up to this one has committed
+     * or never will, on any node. Feed consumers must not read past it.
+     * <p>
+     * Call it before any other read of a transaction that reads the change list, so the rows it
+     * covers are part of that transaction's snapshot.
+     */
+    public long committedUpTo()
+    {
+        // This node's claim is taken from memory, since its row lags behind. Later IDs of the
+        // current block are above it; if a new block was reserved meanwhile, the row has to do
+        Long ownClaim;
+        long reservationsBefore;
+        synchronized (this)
+        {
+            ownClaim = claim();
+            reservationsBefore = reservations;
+        }
+
+        Object[] row = (Object[]) entityManager.createNativeQuery(WATERMARK_SQL)
+            .setParameter("nodeId", nodeId)
+            .setParameter("since", System.currentTimeMillis() - claimTimeoutMs)
+            .setParameter("name", COMMIT_ID_SEQUENCE)
+            .getSingleResult();
+
+        synchronized (this)
+        {
+            if (reservations != reservationsBefore)
+            {
+                ownClaim = row[2] != null ? ((Number) row[2]).longValue() : null;
+            }
+        }
+
+        long upTo = ((Number) row[0]).longValue();
+        if (row[1] != null)
+        {
+            upTo = Math.min(upTo, ((Number) row[1]).longValue() - 1);
+        }
+        if (ownClaim != null)
+        {
+            upTo = Math.min(upTo, ownClaim - 1);
+        }
+        return upTo;
+    }
+
+    /**
+     * Refresh this node's claim: raise it past transactions that have ended, and keep it from
+     * expiring. Other nodes see this node's commits once its claim has been raised past them.
+     */
+    @Scheduled(fixedDelayString = "${desk.changes.claims.publish-interval-ms:500}")
+    public void publishClaim()
+    {
+        try
+        {
+            boolean idleBlock;
+            synchronized (this)
+            {
+                idleBlock = inFlight.isEmpty() && next < limit;
+            }
+            long allocated = idleBlock ? highestAllocated() : 0;
+
+            Long claim;
+            long version;
+            synchronized (this)
+            {
+                // Unused IDs of an idle block would hold back every commit other nodes make above it
+                if (idleBlock && inFlight.isEmpty() && allocated > limit)
+                {
+                    next = limit;
+                }
+                claim = claim();
+                // A held claim is rewritten to keep it alive; no claim only needs writing once
+                if (claim == null && writtenClaim == null) return;
+                version = ++claimVersion;
+            }
+            requiresNew.executeWithoutResult(status -> writeClaim(claim, version));
+            synchronized (this)
+            {
+                if (claimVersion == version)
+                {
+                    writtenClaim = claim;
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            LOG.log(Level.WARNING, "Failed to publish commit ID claim of " + nodeId, e);
+        }
+    }
+
+    // --- Helpers ---
+
+    /**
+     * Reserve {@code count} IDs in a separate transaction, together with this node's claim on
+     * them. Called holding this.
+     *
+     * @return the highest reserved ID
+     */
+    private long reserve(int count)
+    {
+        return requiresNew.execute(status -> {
+            ChangeListSequence sequence = sequenceRepository.findForUpdate(COMMIT_ID_SEQUENCE)
+                .orElseThrow(() -> new IllegalStateException("Missing changelist_sequence row " + COMMIT_ID_SEQUENCE));
+            long first = sequence.getNextVal() + 1;
+            long hi = sequence.getNextVal() + count;
+            sequence.setNextVal(hi);
+
+            Long claim = claim();
+            writtenClaim = claim != null ? Math.min(claim, first) : first;
+            writeClaim(writtenClaim, ++claimVersion);
+            return hi;
+        });
+    }
+
+    /**
+     * @return the lowest ID this node may still commit, or null if it holds none. Called holding this.
+     */
+    private Long claim()
+    {
+        Long low = inFlight.isEmpty() ? null : inFlight.first();
+        if (next < limit && (low == null || next + 1 < low))
+        {
+            low = next + 1;
+        }
+        return low;
+    }
+
+    private void writeClaim(Long lowId, long version)
+    {
+        entityManager.createNativeQuery(UPSERT_CLAIM_SQL)
+            .setParameter("nodeId", nodeId)
+            .setParameter("lowId", lowId)
+            .setParameter("version", version)
+            .setParameter("updatedAt", System.currentTimeMillis())
+            .executeUpdate();
+    }
+
+    /**
+     * Take the ID off the in-flight set once the caller's transaction ends. Done in afterCommit,
+     * ahead of the change notices published then, so a consumer woken by a notice already sees
+     * the commit below {@link #committedUpTo()}.
+     */
+    private void releaseOnCompletion(long id)
+    {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            @Override
+            public void afterCommit()
+            {
+                release(id);
+            }
+
+            @Override
+            public void afterCompletion(int status)
+            {
+                release(id);
+            }
+        });
+    }
+
+    private synchronized void release(long id)
+    {
+        inFlight.remove(id);
+    }
+}
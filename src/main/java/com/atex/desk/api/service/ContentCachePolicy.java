@@ -0,0 +1,66 @@
+package com.atex.desk.api.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP caching of versioned content reads.
+ *
+ * <p>The aspects of a content version never change, so the ETag is the versioned ID itself: a
+ * client that sends it back in {@code If-None-Match} gets a 304 after an existence check, without
+ * the version being loaded. The response meta (aliases, original creation time) belongs to the
+ * content item rather than the version and can change, so responses are not {@code immutable}:
+ * they stay fresh for {@code desk.content.versioned.max-age-seconds} and are revalidated after
+ * that. Responses are private unless {@code desk.content.versioned.cache-public} is set, as
+ * content reads require authentication.
+ */
+@Service
+public class ContentCachePolicy
+{
+    private final CacheControl versioned;
+
+    public ContentCachePolicy(@Value("${desk.content.versioned.max-age-seconds:60}") long maxAgeSeconds,
+                              @Value("${desk.content.versioned.cache-public:false}") boolean cachePublic)
+    {
+        CacheControl cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS);
+        this.versioned = cachePublic ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+
+    /**
+     * Cache-Control of responses for a versioned content ID.
+     */
+    public CacheControl versioned()
+    {
+        return versioned;
+    }
+
+    /**
+     * The ETag of a versioned content ID, as {@code ResponseEntity.eTag} sends it.
+     */
+    public static String etag(String versionedId)
+    {
+        return "\"" + versionedId + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header matches the ETag of {@code versionedId}. Uses the weak
+     * comparison, accepts lists and {@code *}, and also accepts unquoted IDs, which some clients
+     * send back as they got them from the content body.
+     */
+    public static boolean matches(@Nullable String ifNoneMatch, String versionedId)
+    {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        String etag = etag(versionedId);
+        for (String candidate : ifNoneMatch.split(","))
+        {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(versionedId)) return true;
+        }
+        return false;
+    }
+}
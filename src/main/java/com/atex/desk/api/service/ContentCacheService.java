@@ -0,0 +1,225 @@
+package com.atex.desk.api.service;
+
+import com.atex.desk.api.dto.AspectDto;
+import com.atex.desk.api.dto.ContentResultDto;
+import com.atex.desk.api.dto.MetaDto;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache for built content results.
+ *
+ * <p>Versioned content ({@code delegation:key:version}) never changes once written, so built
+ * {@link ContentResultDto}s are cached by versioned ID without a TTL, bounded by the total JSON
+ * size of their aspects. The mutable parts of a result — aliases and original creation time —
+ * are cached per content item in a separate short-TTL cache and evicted on alias changes.
+ *
+ * <p>Results are deep-copied on the way in and out, so callers may freely mutate what they get.
+ */
+@Service
+public class ContentCacheService
+{
+    public static final String CACHE_VERSIONS = "contentVersions";
+    public static final String CACHE_META = "contentMeta";
+
+    /** Fixed per-entry overhead added to the JSON size when weighing a cached result. */
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    /**
+     * The mutable metadata of a content item, shared by all of its versions.
+     */
+    public record ContentMeta(Instant originalCreationTime, Map<String, String> aliases) {}
+
+    private record CachedVersion(ContentResultDto content, int weight) {}
+
+    public record Stats(long size, long weightBytes, long maxWeightBytes, long maxSize, long ttlMs,
+                        long hitCount, long missCount, double hitRate, long evictionCount) {}
+
+    private final Cache<String, CachedVersion> versions;
+    private final Cache<String, ContentMeta> metas;
+    private final AtomicLong versionsWeight = new AtomicLong();
+    private final long maxBytes;
+    private final long metaTtlMs;
+    private final int metaMaxSize;
+
+    public ContentCacheService(@Value("${desk.content.cache.max-bytes:67108864}") long maxBytes,
+                               @Value("${desk.content.cache.meta-ttl-ms:5000}") long metaTtlMs,
+                               @Value("${desk.content.cache.meta-max-size:10000}") int metaMaxSize)
+    {
+        this.maxBytes = maxBytes;
+        this.metaTtlMs = metaTtlMs;
+        this.metaMaxSize = metaMaxSize;
+        this.versions = CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, CachedVersion value) -> value.weight())
+            .removalListener((RemovalNotification<String, CachedVersion> n) -> {
+                if (n.getValue() != null) versionsWeight.addAndGet(-n.getValue().weight());
+            })
+            .recordStats()
+            .build();
+        this.metas = CacheBuilder.newBuilder()
+            .expireAfterWrite(metaTtlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(metaMaxSize)
+            .recordStats()
+            .build();
+    }
+
+    // --- Versioned results ---
+
+    /**
+     * @return a private copy of the cached result, or null on a miss
+     */
+    public ContentResultDto getVersion(String versionedId)
+    {
+        CachedVersion cached = versions.getIfPresent(versionedId);
+        return cached != null ? copy(cached.content()) : null;
+    }
+
+    public boolean containsVersion(String versionedId)
+    {
+        return versions.getIfPresent(versionedId) != null;
+    }
+
+    /**
+     * Cache a built result.
+     * @param jsonBytes total size of the aspect JSON the result was parsed from
+     */
+    public void putVersion(String versionedId, ContentResultDto content, long jsonBytes)
+    {
+        int weight = (int) Math.min(Integer.MAX_VALUE, jsonBytes + ENTRY_OVERHEAD_BYTES);
+        if (weight > maxBytes) return;
+        versionsWeight.addAndGet(weight);
+        versions.put(versionedId, new CachedVersion(copy(content), weight));
+    }
+
+    public void evictVersion(String versionedId)
+    {
+        versions.invalidate(versionedId);
+    }
+
+    // --- Mutable metadata ---
+
+    public ContentMeta getMeta(Integer idtype, String key)
+    {
+        return metas.getIfPresent(metaKey(idtype, key));
+    }
+
+    public void putMeta(Integer idtype, String key, ContentMeta meta)
+    {
+        metas.put(metaKey(idtype, key), new ContentMeta(meta.originalCreationTime(),
+            Collections.unmodifiableMap(new LinkedHashMap<>(meta.aliases()))));
+    }
+
+    public void evictMeta(Integer idtype, String key)
+    {
+        metas.invalidate(metaKey(idtype, key));
+    }
+
+    // --- Management ---
+
+    public void clear(String cacheName)
+    {
+        if (CACHE_VERSIONS.equals(cacheName)) versions.invalidateAll();
+        else if (CACHE_META.equals(cacheName)) metas.invalidateAll();
+    }
+
+    public void clearAll()
+    {
+        versions.invalidateAll();
+        metas.invalidateAll();
+    }
+
+    public Map<String, Stats> getStats()
+    {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        var v = versions.stats();
+        stats.put(CACHE_VERSIONS, new Stats(versions.size(), versionsWeight.get(), maxBytes, 0, 0,
+            v.hitCount(), v.missCount(), v.hitRate(), v.evictionCount()));
+        var m = metas.stats();
+        stats.put(CACHE_META, new Stats(metas.size(), 0, 0, metaMaxSize, metaTtlMs,
+            m.hitCount(), m.missCount(), m.hitRate(), m.evictionCount()));
+        return stats;
+    }
+
+    // --- Helpers ---
+
+    private static String metaKey(Integer idtype, String key)
+    {
+        return idtype + ":" + key;
+    }
+
+    private static ContentResultDto copy(ContentResultDto source)
+    {
+        ContentResultDto copy = new ContentResultDto();
+        copy.setId(source.getId());
+        copy.setVersion(source.getVersion());
+        if (source.getAspects() != null)
+        {
+            Map<String, AspectDto> aspects = new LinkedHashMap<>();
+            for (Map.Entry<String, AspectDto> entry : source.getAspects().entrySet())
+            {
+                AspectDto a = entry.getValue();
+                AspectDto aspectCopy = new AspectDto();
+                aspectCopy.setName(a.getName());
+                aspectCopy.setVersion(a.getVersion());
+                aspectCopy.setData(copyMap(a.getData()));
+                aspects.put(entry.getKey(), aspectCopy);
+            }
+            copy.setAspects(aspects);
+        }
+        if (source.getMeta() != null)
+        {
+            MetaDto meta = new MetaDto();
+            meta.setModificationTime(source.getMeta().getModificationTime());
+            meta.setOriginalCreationTime(source.getMeta().getOriginalCreationTime());
+            if (source.getMeta().getAliases() != null)
+            {
+                meta.setAliases(new LinkedHashMap<>(source.getMeta().getAliases()));
+            }
+            copy.setMeta(meta);
+        }
+        return copy;
+    }
+
+    private static Map<String, Object> copyMap(Map<String, Object> source)
+    {
+        if (source == null) return null;
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : source.entrySet())
+        {
+            copy.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(Object value)
+    {
+        if (value instanceof Map<?, ?> map)
+        {
+            return copyMap((Map<String, Object>) map);
+        }
+        if (value instanceof List<?> list)
+        {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list)
+            {
+                copy.add(copyValue(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+}
@@ -26,21 +26,31 @@ import com.atex.desk.api.repository.ContentVersionRepository;
 import com.atex.desk.api.repository.ContentViewRepository;
 import com.atex.desk.api.repository.IdTypeRepository;
 import com.atex.desk.api.repository.ViewRepository;
+import com.atex.desk.api.service.ContentCacheService.ContentMeta;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
@@ -51,6 +61,8 @@ public class ContentService
     private static final String VIEW_DELETED = "p.deleted";
     private static final String VIEW_PUBLIC = "p.public";
     private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final String CACHE_RESOLVE = "contentResolve";
+    private static final String NOT_IN_VIEW = "";
 
     private final IdTypeRepository idTypeRepository;
     private final ContentIdRepository contentIdRepository;
@@ -64,6 +76,11 @@ public class ContentService
     private final ContentAliasRepository contentAliasRepository;
     private final ObjectMapper objectMapper;
     private final IdGenerator idGenerator;
+    private final ObjectCacheService cacheService;
+    private final ContentCacheService contentCache;
+    private final ImageResolutionCache imageCache;
+    private final long resolveCacheTtlMs;
+    private final int resolveCacheMaxSize;
 
     // Caches for frequently-resolved lookups (Gap 9)
     private final ConcurrentHashMap<String, Integer> idTypeNameToIdCache = new ConcurrentHashMap<>();
@@ -82,7 +99,12 @@ public class ContentService
                           AliasRepository aliasRepository,
                           ContentAliasRepository contentAliasRepository,
                           ObjectMapper objectMapper,
-                          IdGenerator idGenerator)
+                          IdGenerator idGenerator,
+                          ObjectCacheService cacheService,
+                          ContentCacheService contentCache,
+                          ImageResolutionCache imageCache,
+                          @Value("${desk.content.resolve-cache.ttl-ms:5000}") long resolveCacheTtlMs,
+                          @Value("${desk.content.resolve-cache.max-size:10000}") int resolveCacheMaxSize)
     {
         this.idTypeRepository = idTypeRepository;
         this.contentIdRepository = contentIdRepository;
@@ -96,6 +118,17 @@ public class ContentService
         this.contentAliasRepository = contentAliasRepository;
         this.objectMapper = objectMapper;
         this.idGenerator = idGenerator;
+        this.cacheService = cacheService;
+        this.contentCache = contentCache;
+        this.imageCache = imageCache;
+        this.resolveCacheTtlMs = resolveCacheTtlMs;
+        this.resolveCacheMaxSize = resolveCacheMaxSize;
+    }
+
+    @PostConstruct
+    void initCaches()
+    {
+        cacheService.configure(CACHE_RESOLVE, resolveCacheTtlMs, resolveCacheMaxSize);
     }
 
     // --- ID parsing ---
@@ -148,48 +181,118 @@ public class ContentService
      * Resolve an unversioned content ID to the version in the given view.
      * p.latest is special: it returns the absolute latest version by versionid DESC,
      * without requiring a view assignment (matching reference ADM Content Service behavior).
+     * Results (including "not in view") are cached per (idtype, key, view) and evicted
+     * whenever a view assignment for the content changes.
      */
     public Optional<String> resolve(String delegationId, String key, String viewName)
     {
         Integer idtype = resolveIdType(delegationId);
         if (idtype == null) return Optional.empty();
 
-        // p.latest is a symbolic pointer — just fetch the absolute latest version
-        if (VIEW_LATEST.equals(viewName))
+        String cacheKey = resolveCacheKey(idtype, key, viewName);
+        String cached = cacheService.get(CACHE_RESOLVE, cacheKey);
+        if (cached == null)
         {
-            return contentVersionRepository
-                .findByIdtypeAndIdOrderByVersionIdDesc(idtype, key)
-                .stream()
-                .findFirst()
-                .map(cv -> formatVersionedId(delegationId, key, cv.getVersion()));
+            cached = findVersionInView(idtype, key, viewName).orElse(NOT_IN_VIEW);
+            cacheService.put(CACHE_RESOLVE, cacheKey, cached);
         }
+        if (cached.isEmpty()) return Optional.empty();
+        return Optional.of(formatVersionedId(delegationId, key, cached));
+    }
 
-        // For other views, require an actual view assignment
-        Integer viewId = resolveViewId(viewName);
-        if (viewId == null) return Optional.empty();
+    /**
+     * Resolve many unversioned keys of one delegation to the versions in the given view,
+     * using the resolution cache and a single query for all cache misses.
+     * @return map of key → versioned ID string; unresolved keys are absent
+     */
+    public Map<String, String> resolveMany(String delegationId, Collection<String> keys, String viewName)
+    {
+        Integer idtype = resolveIdType(delegationId);
+        if (idtype == null || keys.isEmpty()) return Map.of();
 
-        List<ContentVersion> versions = contentVersionRepository
-            .findByIdtypeAndIdOrderByVersionIdDesc(idtype, key);
+        Map<String, String> versions = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String key : keys)
+        {
+            String cached = cacheService.get(CACHE_RESOLVE, resolveCacheKey(idtype, key, viewName));
+            if (cached == null) misses.add(key);
+            else versions.put(key, cached);
+        }
 
-        for (ContentVersion cv : versions)
+        if (!misses.isEmpty())
         {
-            Optional<ContentView> cvw = contentViewRepository
-                .findByVersionIdAndViewId(cv.getVersionId(), viewId);
-            if (cvw.isPresent())
+            List<ContentVersion> found;
+            if (VIEW_LATEST.equals(viewName))
             {
-                return Optional.of(formatVersionedId(delegationId, key, cv.getVersion()));
+                found = contentVersionRepository.findLatestByIdtypeAndIdIn(idtype, misses);
+            }
+            else
+            {
+                Integer viewId = resolveViewId(viewName);
+                found = viewId != null
+                    ? contentVersionRepository.findInViewByIdtypeAndIdIn(idtype, misses, viewId)
+                    : List.of();
+            }
+            Map<String, String> foundByKey = new HashMap<>();
+            for (ContentVersion cv : found)
+            {
+                foundByKey.put(cv.getId(), cv.getVersion());
+            }
+            for (String key : misses)
+            {
+                String version = foundByKey.getOrDefault(key, NOT_IN_VIEW);
+                cacheService.put(CACHE_RESOLVE, resolveCacheKey(idtype, key, viewName), version);
+                versions.put(key, version);
             }
         }
-        return Optional.empty();
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String key : keys)
+        {
+            String version = versions.get(key);
+            if (version != null && !version.isEmpty())
+            {
+                result.put(key, formatVersionedId(delegationId, key, version));
+            }
+        }
+        return result;
     }
 
     /**
      * Get the current versioned ID string for a content item via its p.latest view.
-     * Used for If-Match / ETag validation on PUT and DELETE.
+     * Used for If-Match / ETag validation on PUT and DELETE, so it always reads
+     * the database rather than the resolution cache.
      */
     public Optional<String> getCurrentVersion(String delegationId, String key)
     {
-        return resolve(delegationId, key, VIEW_LATEST);
+        Integer idtype = resolveIdType(delegationId);
+        if (idtype == null) return Optional.empty();
+
+        return findVersionInView(idtype, key, VIEW_LATEST)
+            .map(version -> formatVersionedId(delegationId, key, version));
+    }
+
+    /**
+     * Find the version string assigned to a view with a single query.
+     */
+    private Optional<String> findVersionInView(Integer idtype, String key, String viewName)
+    {
+        // p.latest is a symbolic pointer — just fetch the absolute latest version
+        if (VIEW_LATEST.equals(viewName))
+        {
+            return contentVersionRepository
+                .findFirstByIdtypeAndIdOrderByVersionIdDesc(idtype, key)
+                .map(ContentVersion::getVersion);
+        }
+
+        // For other views, require an actual view assignment
+        Integer viewId = resolveViewId(viewName);
+        if (viewId == null) return Optional.empty();
+
+        return contentVersionRepository
+            .findVersionsInView(idtype, key, viewId, Limit.of(1))
+            .stream()
+            .findFirst();
     }
 
     /**
@@ -210,6 +313,8 @@ public class ContentService
 
     /**
      * Get content by versioned ID. Returns the full content result with aspects.
+     * Built results are cached by versioned ID; aliases and original creation time come
+     * from the short-lived per-content meta cache.
      */
     @Transactional(readOnly = true)
     public Optional<ContentResultDto> getContent(String delegationId, String key, String version)
@@ -217,12 +322,154 @@ public class ContentService
         Integer idtype = resolveIdType(delegationId);
         if (idtype == null) return Optional.empty();
 
+        String versionedId = formatVersionedId(delegationId, key, version);
+        ContentResultDto cached = contentCache.getVersion(versionedId);
+        if (cached != null)
+        {
+            ContentMeta meta = getContentMeta(idtype, key);
+            return Optional.of(applyContentMeta(cached, meta));
+        }
+
         ContentVersion cv = contentVersionRepository
             .findByIdtypeAndIdAndVersion(idtype, key, version)
             .orElse(null);
         if (cv == null) return Optional.empty();
 
-        return buildContentResult(delegationId, key, cv);
+        Content content = contentRepository.findByVersionId(cv.getVersionId()).orElse(null);
+        if (content == null) return Optional.empty();
+
+        List<Aspect> aspects = aspectRepository.findByContentEntryId(content.getContentId());
+        ContentMeta meta = getContentMeta(idtype, key);
+        ContentResultDto result = assembleContentResult(delegationId, key, cv, content, aspects,
+            meta != null ? meta.originalCreationTime() : cv.getCreatedAt(),
+            meta != null ? meta.aliases() : Map.of());
+        cacheVersion(versionedId, result, aspects);
+        return Optional.of(result);
+    }
+
+    /**
+     * Get many contents by versioned ID with a fixed number of IN queries regardless of
+     * batch size: versions, content entries, aspects, original creation times and aliases.
+     * Cached versions and cached meta are skipped in the corresponding queries.
+     * @return map of versioned ID string → content result, in request order; unknown IDs are absent
+     */
+    @Transactional(readOnly = true)
+    public Map<String, ContentResultDto> getMany(Collection<String> versionedIds)
+    {
+        // Split into cache hits and misses; group misses' (key, version) pairs by delegation
+        Map<String, ContentResultDto> cachedResults = new HashMap<>();
+        Map<String, Map<String, String>> missesByDelegation = new LinkedHashMap<>();
+        Map<String, Set<String>> keysByDelegation = new LinkedHashMap<>();
+        for (String versionedId : versionedIds)
+        {
+            String[] parts = parseContentId(versionedId);
+            if (parts.length < 3) continue;
+            keysByDelegation.computeIfAbsent(parts[0], k -> new LinkedHashSet<>()).add(parts[1]);
+            ContentResultDto cached = contentCache.getVersion(versionedId);
+            if (cached != null)
+            {
+                cachedResults.put(versionedId, cached);
+            }
+            else
+            {
+                missesByDelegation.computeIfAbsent(parts[0], k -> new LinkedHashMap<>())
+                    .put(parts[1] + ":" + parts[2], versionedId);
+            }
+        }
+
+        // Mutable meta for every requested content item, from cache or in one batch per idtype
+        Map<String, ContentMeta> metaByContentId = new HashMap<>();
+        for (Map.Entry<String, Set<String>> group : keysByDelegation.entrySet())
+        {
+            Integer idtype = resolveIdType(group.getKey());
+            if (idtype == null) continue;
+
+            List<String> metaMisses = new ArrayList<>();
+            for (String key : group.getValue())
+            {
+                ContentMeta meta = contentCache.getMeta(idtype, key);
+                if (meta != null) metaByContentId.put(formatContentId(group.getKey(), key), meta);
+                else metaMisses.add(key);
+            }
+            if (!metaMisses.isEmpty())
+            {
+                loadContentMeta(idtype, metaMisses).forEach((key, meta) -> {
+                    contentCache.putMeta(idtype, key, meta);
+                    metaByContentId.put(formatContentId(group.getKey(), key), meta);
+                });
+            }
+        }
+
+        // Version, content entry and aspect rows for cache misses
+        Map<String, ContentVersion> versionsById = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> group : missesByDelegation.entrySet())
+        {
+            Integer idtype = resolveIdType(group.getKey());
+            if (idtype == null) continue;
+
+            List<String> keys = new ArrayList<>();
+            List<String> versions = new ArrayList<>();
+            for (String keyAndVersion : group.getValue().keySet())
+            {
+                String[] kv = keyAndVersion.split(":", 2);
+                keys.add(kv[0]);
+                versions.add(kv[1]);
+            }
+
+            for (ContentVersion cv : contentVersionRepository.findByIdtypeAndIdInAndVersionIn(idtype, keys, versions))
+            {
+                String versionedId = group.getValue().get(cv.getId() + ":" + cv.getVersion());
+                if (versionedId != null) versionsById.put(versionedId, cv);
+            }
+        }
+
+        Map<Integer, Content> contentsByVersionId = new HashMap<>();
+        Map<Integer, List<Aspect>> aspectsByContentEntry = new HashMap<>();
+        if (!versionsById.isEmpty())
+        {
+            List<Integer> versionIds = versionsById.values().stream().map(ContentVersion::getVersionId).toList();
+            for (Content c : contentRepository.findByVersionIdIn(versionIds))
+            {
+                contentsByVersionId.put(c.getVersionId(), c);
+            }
+
+            List<Integer> contentEntryIds = contentsByVersionId.values().stream().map(Content::getContentId).toList();
+            if (!contentEntryIds.isEmpty())
+            {
+                for (Object[] row : aspectRepository.findByContentEntryIdIn(contentEntryIds))
+                {
+                    aspectsByContentEntry.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add((Aspect) row[1]);
+                }
+            }
+        }
+
+        Map<String, ContentResultDto> results = new LinkedHashMap<>();
+        for (String versionedId : versionedIds)
+        {
+            String[] parts = parseContentId(versionedId);
+            if (parts.length < 3) continue;
+            ContentMeta meta = metaByContentId.get(formatContentId(parts[0], parts[1]));
+
+            ContentResultDto cached = cachedResults.get(versionedId);
+            if (cached != null)
+            {
+                results.put(versionedId, applyContentMeta(cached, meta));
+                continue;
+            }
+
+            ContentVersion cv = versionsById.get(versionedId);
+            if (cv == null) continue;
+            Content content = contentsByVersionId.get(cv.getVersionId());
+            if (content == null) continue;
+
+            List<Aspect> aspects = aspectsByContentEntry.getOrDefault(content.getContentId(), List.of());
+            ContentResultDto result = assembleContentResult(parts[0], parts[1], cv, content, aspects,
+                meta != null ? meta.originalCreationTime() : cv.getCreatedAt(),
+                meta != null ? meta.aliases() : Map.of());
+            cacheVersion(versionedId, result, aspects);
+            results.put(versionedId, result);
+        }
+        return results;
     }
 
     /**
@@ -292,6 +539,18 @@ public class ContentService
         return contentIdRepository.existsByIdtypeAndId(idtype, key);
     }
 
+    /**
+     * Check if a content version exists without loading it: a version cache hit, or else
+     * one indexed existence query. Used to answer conditional and HEAD requests.
+     */
+    public boolean hasVersion(String delegationId, String key, String version)
+    {
+        Integer idtype = resolveIdType(delegationId);
+        if (idtype == null) return false;
+        if (contentCache.containsVersion(formatVersionedId(delegationId, key, version))) return true;
+        return contentVersionRepository.existsByIdtypeAndIdAndVersion(idtype, key, version);
+    }
+
     // --- Create ---
 
     @Transactional
@@ -473,7 +732,7 @@ public class ContentService
         if (cv != null)
         {
             Instant now = Instant.now();
-            removeView(cv.getVersionId(), VIEW_LATEST);
+            removeView(cv.getVersionId(), VIEW_LATEST, idtype, key);
             assignViewExclusive(cv.getVersionId(), VIEW_DELETED, idtype, key, userId, now);
         }
 
@@ -491,12 +750,8 @@ public class ContentService
         Integer idtype = resolveIdType(delegationId);
         if (idtype == null) return false;
 
-        Optional<String> latestVersionedId = resolve(delegationId, key, VIEW_LATEST);
-        if (latestVersionedId.isEmpty()) return false;
-
-        String[] parts = parseContentId(latestVersionedId.get());
         ContentVersion cv = contentVersionRepository
-            .findByIdtypeAndIdAndVersion(idtype, key, parts[2])
+            .findFirstByIdtypeAndIdOrderByVersionIdDesc(idtype, key)
             .orElse(null);
         if (cv == null) return false;
 
@@ -532,6 +787,10 @@ public class ContentService
                 removed = true;
             }
         }
+        if (removed)
+        {
+            evictResolution(idtype, key);
+        }
         return removed;
     }
 
@@ -587,6 +846,10 @@ public class ContentService
 
         // 7. Delete the version record
         contentVersionRepository.deleteById(cv.getVersionId());
+        evictResolution(idtype, key);
+        evictContentMeta(idtype, key);
+        contentCache.evictVersion(formatVersionedId(delegationId, key, version));
+        imageCache.evictInfo(formatVersionedId(delegationId, key, version));
 
         // 8. If this was the last version, clean up the content ID and aliases
         List<ContentVersion> remaining = contentVersionRepository
@@ -718,6 +981,7 @@ public class ContentService
         ca.setCreatedAt(Instant.now());
         ca.setCreatedBy("system");
         contentAliasRepository.save(ca);
+        evictContentMeta(idtype, key);
     }
 
     /**
@@ -733,6 +997,7 @@ public class ContentService
         if (aliasId == null) return;
 
         contentAliasRepository.deleteByIdtypeAndIdAndAliasId(idtype, key, aliasId);
+        evictContentMeta(idtype, key);
     }
 
     /**
@@ -745,6 +1010,7 @@ public class ContentService
         if (idtype == null) return;
 
         contentAliasRepository.deleteByIdtypeAndId(idtype, key);
+        evictContentMeta(idtype, key);
     }
 
     /**
@@ -829,6 +1095,23 @@ public class ContentService
         // Get aspects via aspectslocations
         List<Aspect> aspects = aspectRepository.findByContentEntryId(content.getContentId());
 
+        // Original creation time and aliases in one query; not cached, this runs after writes
+        ContentMeta meta = loadContentMeta(cv.getIdtype(), List.of(key)).get(key);
+
+        return Optional.of(assembleContentResult(delegationId, key, cv, content, aspects,
+            meta != null ? meta.originalCreationTime() : cv.getCreatedAt(),
+            meta != null ? meta.aliases() : Map.of()));
+    }
+
+    /**
+     * Build a content result from already-loaded rows. Shared by single and batch reads.
+     */
+    private ContentResultDto assembleContentResult(String delegationId, String key,
+                                                   ContentVersion cv, Content content,
+                                                   List<Aspect> aspects,
+                                                   Instant originalCreationTime,
+                                                   Map<String, String> aliases)
+    {
         // Build aspect map
         Map<String, AspectDto> aspectMap = new LinkedHashMap<>();
         for (Aspect a : aspects)
@@ -840,16 +1123,10 @@ public class ContentService
             aspectMap.put(a.getName(), dto);
         }
 
-        // Get original creation time
-        ContentVersion firstVersion = contentVersionRepository
-            .findByIdtypeAndIdOrderByVersionIdDesc(cv.getIdtype(), cv.getId())
-            .stream().reduce((a, b) -> b).orElse(cv); // last in desc = first created
-
         // Build meta with aliases (Gap 7)
         MetaDto meta = new MetaDto();
         meta.setModificationTime(String.valueOf(content.getModifiedAt().toEpochMilli()));
-        meta.setOriginalCreationTime(String.valueOf(firstVersion.getCreatedAt().toEpochMilli()));
-        Map<String, String> aliases = getAliases(delegationId, key);
+        meta.setOriginalCreationTime(String.valueOf(originalCreationTime.toEpochMilli()));
         if (!aliases.isEmpty())
         {
             meta.setAliases(aliases);
@@ -861,7 +1138,79 @@ public class ContentService
         result.setAspects(aspectMap);
         result.setMeta(meta);
 
-        return Optional.of(result);
+        return result;
+    }
+
+    /**
+     * Get the mutable meta of a content item from the meta cache, loading it on a miss.
+     * @return the meta, or null if the content item does not exist
+     */
+    private ContentMeta getContentMeta(Integer idtype, String key)
+    {
+        ContentMeta meta = contentCache.getMeta(idtype, key);
+        if (meta != null) return meta;
+
+        meta = loadContentMeta(idtype, List.of(key)).get(key);
+        if (meta != null) contentCache.putMeta(idtype, key, meta);
+        return meta;
+    }
+
+    /**
+     * Load the mutable meta of several content items of one idtype: the original creation
+     * time from the content id row and the aliases, in a single query.
+     * @return map of key → meta; unknown keys are absent
+     */
+    private Map<String, ContentMeta> loadContentMeta(Integer idtype, List<String> keys)
+    {
+        Map<String, Instant> createdAtByKey = new LinkedHashMap<>();
+        Map<String, Map<String, String>> aliasesByKey = new HashMap<>();
+        for (Object[] row : contentIdRepository.findMetaByIdtypeAndIdIn(idtype, keys))
+        {
+            String key = (String) row[0];
+            createdAtByKey.put(key, (Instant) row[1]);
+            String namespace = row[2] != null ? resolveAliasName((Integer) row[2]) : null;
+            if (namespace != null)
+            {
+                aliasesByKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(namespace, (String) row[3]);
+            }
+        }
+
+        Map<String, ContentMeta> metas = new HashMap<>();
+        createdAtByKey.forEach((key, createdAt) ->
+            metas.put(key, new ContentMeta(createdAt, aliasesByKey.getOrDefault(key, Map.of()))));
+        return metas;
+    }
+
+    /**
+     * Overlay the mutable meta (original creation time, aliases) onto a cached versioned result.
+     */
+    private static ContentResultDto applyContentMeta(ContentResultDto result, ContentMeta meta)
+    {
+        if (meta == null) return result;
+        MetaDto dto = result.getMeta() != null ? result.getMeta() : new MetaDto();
+        dto.setOriginalCreationTime(String.valueOf(meta.originalCreationTime().toEpochMilli()));
+        dto.setAliases(meta.aliases().isEmpty() ? null : new LinkedHashMap<>(meta.aliases()));
+        result.setMeta(dto);
+        return result;
+    }
+
+    /**
+     * Cache a freshly built result, unless it was read inside a write transaction
+     * where the version row itself may still be rolled back.
+     */
+    private void cacheVersion(String versionedId, ContentResultDto result, List<Aspect> aspects)
+    {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+        {
+            return;
+        }
+        long bytes = 0;
+        for (Aspect a : aspects)
+        {
+            if (a.getData() != null) bytes += a.getData().length();
+        }
+        contentCache.putVersion(versionedId, result, bytes);
     }
 
     /**
@@ -1008,6 +1357,7 @@ public class ContentService
                 contentViewRepository.deleteByVersionIdAndViewId(cv.getVersionId(), viewId);
             }
         }
+        evictResolution(idtype, key);
     }
 
     /**
@@ -1034,14 +1384,62 @@ public class ContentService
         cvw.setCreatedAt(now);
         cvw.setCreatedBy(userId);
         contentViewRepository.save(cvw);
+
+        evictResolution(idtype, contentKey);
     }
 
-    private void removeView(Integer versionId, String viewName)
+    private void removeView(Integer versionId, String viewName, Integer idtype, String contentKey)
     {
         Integer viewId = resolveViewId(viewName);
         if (viewId == null) return;
 
         contentViewRepository.deleteByVersionIdAndViewId(versionId, viewId);
+        evictResolution(idtype, contentKey);
+    }
+
+    private static String resolveCacheKey(Integer idtype, String key, String viewName)
+    {
+        return idtype + ":" + key + ":" + viewName;
+    }
+
+    /**
+     * Evict cached view resolutions for a content item. Runs immediately and again once the
+     * transaction completes, committed or rolled back, so nothing cached while it was open
+     * outlives it.
+     */
+    private void evictResolution(Integer idtype, String key)
+    {
+        runNowAndAfterCompletion(() -> {
+            cacheService.evict(CACHE_RESOLVE, resolveCacheKey(idtype, key, VIEW_LATEST));
+            for (String viewName : viewNameToIdCache.keySet())
+            {
+                cacheService.evict(CACHE_RESOLVE, resolveCacheKey(idtype, key, viewName));
+            }
+        });
+    }
+
+    /**
+     * Evict the cached aliases and original creation time of a content item.
+     */
+    private void evictContentMeta(Integer idtype, String key)
+    {
+        runNowAndAfterCompletion(() -> contentCache.evictMeta(idtype, key));
+    }
+
+    private static void runNowAndAfterCompletion(Runnable evict)
+    {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+            {
+                @Override
+                public void afterCompletion(int status)
+                {
+                    evict.run();
+                }
+            });
+        }
     }
 
     private String determineContentType(ContentWriteDto write)
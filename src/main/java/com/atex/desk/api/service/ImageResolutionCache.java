@@ -0,0 +1,144 @@
+package com.atex.desk.api.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches what the image controller derives for an image redirect.
+ *
+ * <p>Versioned content never changes, so the image info of a versioned ID (file URI, edit info
+ * and original dimensions) is cached without a TTL, bounded by size, and only dropped when the
+ * version is purged. Signed sidecar query strings are cached by sidecar path and parameters, as
+ * the same renditions of the same image are requested over and over.
+ *
+ * <p>Unversioned IDs are not cached here: they go through {@link ContentService#resolve}, whose
+ * short-TTL resolution cache is already evicted whenever a new version becomes the latest.
+ */
+@Service
+public class ImageResolutionCache
+{
+    public static final String CACHE_IMAGE_INFO = "imageInfo";
+    public static final String CACHE_SIGNED_QUERIES = "imageSignedQueries";
+
+    /**
+     * The image details of one content version. Cached instances are shared: do not modify
+     * {@code editInfo}.
+     */
+    public record ImageInfo(String fileUri, Map<String, Object> editInfo,
+                            Integer origWidth, Integer origHeight) {}
+
+    public record Stats(long size, long maxSize, long hitCount, long missCount, double hitRate,
+                        long evictionCount) {}
+
+    private final Cache<String, ImageInfo> infos;
+    private final Cache<String, String> signedQueries;
+    private final long infoMaxSize;
+    private final long signedQueryMaxSize;
+
+    public ImageResolutionCache(@Value("${desk.image-service.info-cache-size:10000}") long infoMaxSize,
+                                @Value("${desk.image-service.signed-query-cache-size:50000}") long signedQueryMaxSize)
+    {
+        this.infoMaxSize = Math.max(0, infoMaxSize);
+        this.signedQueryMaxSize = Math.max(0, signedQueryMaxSize);
+        this.infos = CacheBuilder.newBuilder()
+            .maximumSize(this.infoMaxSize)
+            .recordStats()
+            .build();
+        this.signedQueries = CacheBuilder.newBuilder()
+            .maximumSize(this.signedQueryMaxSize)
+            .recordStats()
+            .build();
+    }
+
+    // --- Image info ---
+
+    /**
+     * @return the cached info of a versioned content ID, or null on a miss
+     */
+    public ImageInfo getInfo(String versionedId)
+    {
+        return infos.getIfPresent(versionedId);
+    }
+
+    public void putInfo(String versionedId, ImageInfo info)
+    {
+        infos.put(versionedId, info);
+    }
+
+    public void evictInfo(String versionedId)
+    {
+        infos.invalidate(versionedId);
+    }
+
+    // --- Signed queries ---
+
+    /**
+     * @param params the query parameters, sorted by name
+     * @param signer computes the signed query string on a miss
+     */
+    public String signedQuery(String path, SortedMap<String, String> params, Supplier<String> signer)
+    {
+        StringBuilder sb = new StringBuilder(path);
+        for (Map.Entry<String, String> entry : params.entrySet())
+        {
+            sb.append('\u0000').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        String key = sb.toString();
+
+        String cached = signedQueries.getIfPresent(key);
+        if (cached == null)
+        {
+            cached = signer.get();
+            signedQueries.put(key, cached);
+        }
+        return cached;
+    }
+
+    // --- Management ---
+
+    public void clear(String cacheName)
+    {
+        if (CACHE_IMAGE_INFO.equals(cacheName)) infos.invalidateAll();
+        else if (CACHE_SIGNED_QUERIES.equals(cacheName)) signedQueries.invalidateAll();
+    }
+
+    public void clearAll()
+    {
+        infos.invalidateAll();
+        signedQueries.invalidateAll();
+    }
+
+    public Map<String, Stats> getStats()
+    {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        stats.put(CACHE_IMAGE_INFO, stats(infos, infoMaxSize));
+        stats.put(CACHE_SIGNED_QUERIES, stats(signedQueries, signedQueryMaxSize));
+        return stats;
+    }
+
+    /**
+     * The underlying caches, for metrics binding.
+     */
+    public Cache<String, ?> getInfoCache()
+    {
+        return infos;
+    }
+
+    public Cache<String, ?> getSignedQueryCache()
+    {
+        return signedQueries;
+    }
+
+    private static Stats stats(Cache<?, ?> cache, long maxSize)
+    {
+        var s = cache.stats();
+        return new Stats(cache.size(), maxSize, s.hitCount(), s.missCount(), s.hitRate(), s.evictionCount());
+    }
+}
@@ -11,10 +11,10 @@ import java.util.stream.Collectors;
 
 import com.atex.desk.api.dto.AspectDto;
 import com.atex.desk.api.dto.ContentResultDto;
+import com.atex.desk.api.onecms.LocalContentManager;
 import com.atex.desk.api.service.ContentService;
 import com.atex.onecms.app.siteengine.SiteStructureBean;
 import com.atex.onecms.content.ContentId;
-import com.atex.onecms.content.ContentManager;
 import com.atex.onecms.content.ContentVersionId;
 import com.atex.onecms.content.IdUtil;
 import com.atex.onecms.content.Subject;
@@ -32,10 +32,10 @@ public class SiteStructureService {
     private static final Subject SYSTEM_SUBJECT = new Subject("98", null);
 
     private final ContentService contentService;
-    private final ContentManager contentManager;
+    private final LocalContentManager contentManager;
 
     public SiteStructureService(ContentService contentService,
-                                @Nullable ContentManager contentManager) {
+                                @Nullable LocalContentManager contentManager) {
         this.contentService = contentService;
         this.contentManager = contentManager;
     }
@@ -50,7 +50,7 @@ public class SiteStructureService {
     public SiteStructureBean getStructure(ContentVersionId vid, String excludedSites) {
         List<String> excluded = parseExcludedSites(excludedSites);
         List<ContentId> excludedIds = resolveExcludedSites(excluded);
-        return getSiteStructureBean(vid, excludedIds, new ArrayList<>());
+        return getSiteStructureBean(vid, null, excludedIds, new ArrayList<>());
     }
 
     // --- Excluded sites resolution (ported from SiteStructureUtils.resolveExcludedSites) ---
@@ -89,8 +89,12 @@ public class SiteStructureService {
 
     // --- Main tree builder (ported from SiteStructureUtils.getSiteStructureBean) ---
 
+    /**
+     * @param preloaded the content for {@code vid} if already batch-loaded with its siblings, or null
+     */
     @SuppressWarnings("unchecked")
     private SiteStructureBean getSiteStructureBean(ContentVersionId vid,
+                                                    @Nullable ContentResultDto preloaded,
                                                     List<ContentId> excludedSites,
                                                     List<ContentId> alreadySeen) {
         ContentId cid = vid.getContentId();
@@ -114,8 +118,9 @@ public class SiteStructureService {
         }
 
         // Fetch content
-        Optional<ContentResultDto> opt = contentService.getContent(
-            vid.getDelegationId(), vid.getKey(), vid.getVersion());
+        Optional<ContentResultDto> opt = preloaded != null
+            ? Optional.of(preloaded)
+            : contentService.getContent(vid.getDelegationId(), vid.getKey(), vid.getVersion());
         if (opt.isEmpty()) return null;
 
         ContentResultDto content = opt.get();
@@ -138,13 +143,15 @@ public class SiteStructureService {
             if (extId != null) result.setExternalId(extId);
         }
 
-        // Recursively process subPages
+        // Recursively process subPages, loading each level of siblings in one batch
         Object subPagesObj = contentData.get("subPages");
         if (subPagesObj instanceof List<?> subPagesList && !subPagesList.isEmpty()) {
-            List<SiteStructureBean> children = subPagesList.stream()
-                .map(this::resolveSubPageRef)
-                .filter(Objects::nonNull)
-                .map(childVid -> getSiteStructureBean(childVid, excludedSites, alreadySeen))
+            List<ContentVersionId> childVids = resolveSubPageRefs(subPagesList);
+            Map<String, ContentResultDto> childContents = contentService.getMany(
+                childVids.stream().map(IdUtil::toVersionedIdString).toList());
+            List<SiteStructureBean> children = childVids.stream()
+                .map(childVid -> getSiteStructureBean(childVid,
+                    childContents.get(IdUtil.toVersionedIdString(childVid)), excludedSites, alreadySeen))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
             result.setChildren(children);
@@ -212,21 +219,36 @@ public class SiteStructureService {
     }
 
     /**
-     * Resolve a subPage reference to a ContentVersionId.
-     * SubPages may be stored as string IDs, or as maps with delegationId/key fields.
+     * Resolve a list of subPage references to ContentVersionIds, in order.
+     * Plain content IDs are resolved in one batch; external IDs resolve individually.
      */
-    @SuppressWarnings("unchecked")
-    private ContentVersionId resolveSubPageRef(Object ref) {
-        ContentId cid = null;
+    private List<ContentVersionId> resolveSubPageRefs(List<?> refs) {
+        List<ContentId> cids = new ArrayList<>();
+        for (Object ref : refs) {
+            ContentId cid = subPageContentId(ref);
+            if (cid != null) cids.add(cid);
+        }
 
+        if (contentManager != null) {
+            Map<ContentId, ContentVersionId> resolved = contentManager.resolveMany(cids, SYSTEM_SUBJECT);
+            return cids.stream().map(resolved::get).filter(Objects::nonNull).toList();
+        }
+        return cids.stream().map(this::resolveContentId).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Get the ContentId a subPage reference points to.
+     * SubPages may be stored as string IDs, or as maps with delegationId/key fields.
+     */
+    private ContentId subPageContentId(Object ref) {
         if (ref instanceof String s) {
             try {
-                cid = IdUtil.fromString(s);
+                return IdUtil.fromString(s);
             } catch (IllegalArgumentException e) {
                 // Try as external ID
                 if (contentManager != null) {
                     ContentVersionId vid = contentManager.resolve(s, SYSTEM_SUBJECT);
-                    if (vid != null) return vid;
+                    if (vid != null) return vid.getContentId();
                 }
                 return null;
             }
@@ -234,12 +256,10 @@ public class SiteStructureService {
             Object delegationId = map.get("delegationId");
             Object key = map.get("key");
             if (delegationId != null && key != null) {
-                cid = new ContentId(delegationId.toString(), key.toString());
+                return new ContentId(delegationId.toString(), key.toString());
             }
         }
-
-        if (cid == null) return null;
-        return resolveContentId(cid);
+        return null;
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.atex.onecms.app.dam.lifecycle.onecontent;
 
 import com.atex.onecms.app.dam.standard.aspects.OneImageBean;
+import com.atex.onecms.app.dam.util.SharedHttpClients;
 import com.atex.onecms.content.Content;
 import com.atex.onecms.content.ContentFileInfo;
 import com.atex.onecms.content.ContentWrite;
@@ -12,7 +13,6 @@ import com.atex.onecms.content.lifecycle.LifecyclePreStore;
 import com.atex.onecms.image.exif.MetadataTagsAspectBean;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
@@ -34,9 +34,6 @@ public class OneImagePreStore implements LifecyclePreStore<Object, Object> {
 
     private static final Logger LOG = Logger.getLogger(OneImagePreStore.class.getName());
     private static final Gson GSON = new Gson();
-    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
-        .connectTimeout(Duration.ofSeconds(5))
-        .build();
 
     private final String metadataServiceUrl;
     private final boolean metadataServiceEnabled;
@@ -153,7 +150,7 @@ public class OneImagePreStore implements LifecyclePreStore<Object, Object> {
                 .GET()
                 .build();
 
-            HttpResponse<String> response = HTTP_CLIENT.send(request,
+            HttpResponse<String> response = SharedHttpClients.jdk().send(request,
                 HttpResponse.BodyHandlers.ofString());
 
             if (response.statusCode() == 200) {
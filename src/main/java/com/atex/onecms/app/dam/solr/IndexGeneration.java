@@ -0,0 +1,56 @@
+package com.atex.onecms.app.dam.solr;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts the points at which writes sent to Solr become visible to searches.
+ *
+ * <p>A write sent with commitWithin is searchable at the latest {@code commitWithin} ms after
+ * it is sent, and Solr makes every write pending by then visible with the same soft commit. So
+ * the first write opens a visibility window, later writes join it, and the generation advances
+ * once when the window closes. A result read while a window is open is as fresh as a new query
+ * would be until then. A write without commitWithin advances the generation at once.
+ */
+public final class IndexGeneration {
+
+    private final LongSupplier clock;
+    private final AtomicLong generation = new AtomicLong();
+    /** When the open visibility window closes (epoch ms), or 0 if none is open. */
+    private final AtomicLong visibleAt = new AtomicLong();
+
+    public IndexGeneration() {
+        this(System::currentTimeMillis);
+    }
+
+    IndexGeneration(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * The current generation; changes whenever writes may have become visible.
+     */
+    public long current() {
+        closeWindowIfDue();
+        return generation.get();
+    }
+
+    /**
+     * Record a write that becomes visible within {@code visibleWithinMs} (0 if already visible).
+     */
+    public void written(long visibleWithinMs) {
+        closeWindowIfDue();
+        if (visibleWithinMs <= 0) {
+            generation.incrementAndGet();
+            return;
+        }
+        visibleAt.compareAndSet(0, clock.getAsLong() + visibleWithinMs);
+    }
+
+    private void closeWindowIfDue() {
+        long at = visibleAt.get();
+        if (at != 0 && at <= clock.getAsLong() && visibleAt.compareAndSet(at, 0)) {
+            generation.incrementAndGet();
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.atex.onecms.app.dam.solr;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
@@ -11,8 +13,10 @@ import java.util.logging.Logger;
 import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrQuery.ORDER;
+import org.apache.solr.client.solrj.SolrRequest;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.apache.solr.client.solrj.request.UpdateRequest;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.client.solrj.util.ClientUtils;
 import org.apache.solr.common.SolrDocument;
@@ -42,6 +46,20 @@ public class SolrService extends SolrUtils {
 
     private static final ConcurrentHashMap<String, SolrClient> SOLRCLIENTS_MAP = new ConcurrentHashMap<>();
 
+    /**
+     * Advanced when writes this node sends to Solr, on any core, become visible. Query result
+     * caches key on it, so nothing cached before a write is served once the write shows.
+     */
+    private static final IndexGeneration INDEX_GENERATION = new IndexGeneration();
+
+    /**
+     * commitWithin used by {@link #indexBatch} and {@link #deleteBatch}; matches the default of
+     * {@code desk.indexing.queue.commit-within-ms}.
+     */
+    public static final int DEFAULT_COMMIT_WITHIN_MS = 1000;
+
+    private static final Gson SOLR_DOC_GSON = new GsonBuilder().disableHtmlEscaping().create();
+
     private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
 
     private final String solrServerUrl;
@@ -92,6 +110,50 @@ public class SolrService extends SolrUtils {
         return (int) response.getResults().getNumFound();
     }
 
+    /**
+     * Count the matches of several queries in one Solr request. Each query becomes a facet query
+     * over {@code *:*}, whose count equals the numFound of running it on its own. The query text
+     * is passed by parameter reference through the {@code query} parser, so it may carry its own
+     * local params. Facet queries are parsed as lucene by default, so the parser is given the
+     * request's {@code defType} (the select handler's default, e.g. edismax) to parse the text the
+     * way {@link #recordCount} does. Queries with parameters other than {@code q} cannot be
+     * expressed as a facet query and are counted separately. The batch is sent as a POST.
+     *
+     * @return the counts, in the order of {@code queries}
+     */
+    public List<Integer> recordCounts(List<SolrQuery> queries) throws Exception {
+        Integer[] counts = new Integer[queries.size()];
+        SolrQuery batch = new SolrQuery("*:*");
+        batch.setRows(0);
+        batch.setFacet(true);
+        int batched = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            SolrQuery query = queries.get(i);
+            if (query.getQuery() == null || query.getParameterNames().size() != 1) {
+                counts[i] = recordCount(query);
+                continue;
+            }
+            String key = "q" + i;
+            batch.set(key, query.getQuery());
+            batch.addFacetQuery("{!query key=" + key + " defType=$defType v=$" + key + "}");
+            batched++;
+        }
+
+        if (batched > 0) {
+            // POST: one facet query per count can outgrow the URL length a GET allows
+            Map<String, Integer> facetCounts = executeQuery(batch, SolrRequest.METHOD.POST).getFacetQuery();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != null) continue;
+                Integer count = facetCounts != null ? facetCounts.get("q" + i) : null;
+                if (count == null) {
+                    throw new Exception("Solr response has no count for facet query q" + i);
+                }
+                counts[i] = count;
+            }
+        }
+        return Arrays.asList(counts);
+    }
+
     public int getLatestEventId() throws Exception {
         SolrQuery query = new SolrQuery("*:*")
                 .setRows(1)
@@ -369,6 +431,17 @@ public class SolrService extends SolrUtils {
         return new SolrService(new SolrServerUrl(this.solrServerUrl), coreName);
     }
 
+    /**
+     * The current index generation of this node.
+     */
+    public static long indexGeneration() {
+        return INDEX_GENERATION.current();
+    }
+
+    private static void indexChanged(long visibleWithinMs) {
+        INDEX_GENERATION.written(visibleWithinMs);
+    }
+
     /**
      * Get the core name this service instance is configured for.
      */
@@ -377,11 +450,15 @@ public class SolrService extends SolrUtils {
     }
 
     private QueryResponse executeQuery(SolrQuery query) throws Exception {
+        return executeQuery(query, SolrRequest.METHOD.GET);
+    }
+
+    private QueryResponse executeQuery(SolrQuery query, SolrRequest.METHOD method) throws Exception {
         try {
             if (logger.isLoggable(Level.FINE)) {
                 logger.log(Level.FINE, "Query: {0}", query.toQueryString());
             }
-            QueryResponse response = getSolrClient().query(core, query);
+            QueryResponse response = getSolrClient().query(core, query, method);
             int status = response.getStatus();
             if (status != 0) {
                 throw new Exception("Solr query returned status " + status);
@@ -402,17 +479,11 @@ public class SolrService extends SolrUtils {
     }
 
     /**
-     * Index a batch of documents into a Solr collection with a single add + commit.
+     * Index a batch of documents into a Solr collection with a single add, made visible within
+     * {@link #DEFAULT_COMMIT_WITHIN_MS} rather than by an explicit commit.
      */
     public void indexBatch(String collection, List<SolrInputDocument> docs) throws Exception {
-        if (docs == null || docs.isEmpty()) return;
-        try {
-            getSolrClient().add(collection, docs);
-            getSolrClient().commit(collection);
-        } catch (SolrServerException | IOException e) {
-            logger.log(Level.SEVERE, "Failed to index batch of " + docs.size() + " documents: " + e.getMessage(), e);
-            throw new Exception("Solr batch index failed: " + e.getMessage(), e);
-        }
+        update(collection, docs, null, DEFAULT_COMMIT_WITHIN_MS);
     }
 
     /**
@@ -423,20 +494,42 @@ public class SolrService extends SolrUtils {
     }
 
     /**
-     * Delete a batch of documents from a Solr collection by ID with a single delete + commit.
+     * Delete a batch of documents from a Solr collection by ID with a single delete, made
+     * visible within {@link #DEFAULT_COMMIT_WITHIN_MS} rather than by an explicit commit.
      */
     public void deleteBatch(String collection, List<String> ids) throws Exception {
-        if (ids == null || ids.isEmpty()) return;
+        update(collection, null, ids, DEFAULT_COMMIT_WITHIN_MS);
+    }
+
+    /**
+     * Send adds and deletes to a Solr collection in a single update request without an
+     * explicit commit; Solr makes them visible within {@code commitWithinMs} (a soft commit
+     * with the default solrconfig). Each id should appear at most once across both lists.
+     */
+    public void update(String collection, List<SolrInputDocument> docs, List<String> deleteIds,
+                       int commitWithinMs) throws Exception {
+        boolean hasDocs = docs != null && !docs.isEmpty();
+        boolean hasDeletes = deleteIds != null && !deleteIds.isEmpty();
+        if (!hasDocs && !hasDeletes) return;
         try {
-            getSolrClient().deleteById(collection, ids);
-            getSolrClient().commit(collection);
+            UpdateRequest request = new UpdateRequest();
+            if (hasDocs) request.add(docs);
+            if (hasDeletes) request.deleteById(deleteIds);
+            request.setCommitWithin(commitWithinMs);
+            request.process(getSolrClient(), collection);
         } catch (SolrServerException | IOException e) {
-            logger.log(Level.SEVERE, "Failed to delete batch of " + ids.size() + " documents: " + e.getMessage(), e);
-            throw new Exception("Solr batch delete failed: " + e.getMessage(), e);
+            int size = (hasDocs ? docs.size() : 0) + (hasDeletes ? deleteIds.size() : 0);
+            logger.log(Level.SEVERE, "Failed to update batch of " + size + " documents: " + e.getMessage(), e);
+            throw new Exception("Solr batch update failed: " + e.getMessage(), e);
+        } finally {
+            indexChanged(commitWithinMs);
         }
     }
 
-    private SolrInputDocument jsonToSolrDoc(com.google.gson.JsonObject json) {
+    /**
+     * Convert a Gson JsonObject (as produced by the index composers) to a SolrInputDocument.
+     */
+    public static SolrInputDocument jsonToSolrDoc(com.google.gson.JsonObject json) {
         SolrInputDocument doc = new SolrInputDocument();
         for (var entry : json.entrySet()) {
             String field = entry.getKey();
@@ -465,7 +558,7 @@ public class SolrService extends SolrUtils {
                     }
                 }
             } else {
-                doc.addField(field, gson.toJson(value));
+                doc.addField(field, SOLR_DOC_GSON.toJson(value));
             }
         }
         return doc;
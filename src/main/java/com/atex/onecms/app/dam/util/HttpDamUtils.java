@@ -3,7 +3,6 @@ package com.atex.onecms.app.dam.util;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
-import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
@@ -14,7 +13,6 @@ import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,14 +28,12 @@ import java.util.function.Consumer;
 /**
  * HTTP utility methods for DAM file operations.
  * Provides methods for file upload/download and REST API calls.
+ * All calls go through the pooled {@link SharedHttpClients#apache()} client.
  */
 public class HttpDamUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpDamUtils.class);
 
-    private static final int CONNECTION_TIMEOUT = 20_000;
-    private static final int SOCKET_TIMEOUT = 60_000;
-
     public enum WebServiceMethod {
         GET, POST, PUT, DELETE, POST_FILE, PUT_FILE
     }
@@ -80,14 +76,8 @@ public class HttpDamUtils {
     public static ByteArrayOutputStream readBinaryContentFromURL(String url, String mediaType,
                                                                   Consumer<HttpUriRequest> messageConsumer) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        RequestConfig config = RequestConfig.custom()
-            .setConnectTimeout(CONNECTION_TIMEOUT)
-            .setSocketTimeout(SOCKET_TIMEOUT)
-            .build();
-
-        try (CloseableHttpClient client = HttpClients.custom()
-                .setDefaultRequestConfig(config)
-                .build()) {
+        try {
+            CloseableHttpClient client = SharedHttpClients.apache();
 
             HttpGet request = new HttpGet(url);
             if (mediaType != null) {
@@ -105,6 +95,7 @@ public class HttpDamUtils {
                         entity.writeTo(baos);
                     }
                 } else {
+                    EntityUtils.consumeQuietly(response.getEntity());
                     LOG.warn("HTTP {} reading binary from URL: {}", status, url);
                 }
             }
@@ -128,14 +119,8 @@ public class HttpDamUtils {
     public static WebServiceResponse sendStreamToFileService(String mimeType, InputStream is,
                                                               String url,
                                                               Consumer<HttpUriRequest> messageConsumer) {
-        RequestConfig config = RequestConfig.custom()
-            .setConnectTimeout(CONNECTION_TIMEOUT)
-            .setSocketTimeout(SOCKET_TIMEOUT)
-            .build();
-
-        try (CloseableHttpClient client = HttpClients.custom()
-                .setDefaultRequestConfig(config)
-                .build()) {
+        try {
+            CloseableHttpClient client = SharedHttpClients.apache();
 
             HttpPost post = new HttpPost(url);
             InputStreamEntity entity = new InputStreamEntity(is);
@@ -169,14 +154,8 @@ public class HttpDamUtils {
     public static WebServiceResponse sendBinaryToFileService(String contentType, String filePath,
                                                               String url,
                                                               Consumer<HttpUriRequest> messageConsumer) {
-        RequestConfig config = RequestConfig.custom()
-            .setConnectTimeout(CONNECTION_TIMEOUT)
-            .setSocketTimeout(SOCKET_TIMEOUT)
-            .build();
-
-        try (CloseableHttpClient client = HttpClients.custom()
-                .setDefaultRequestConfig(config)
-                .build()) {
+        try {
+            CloseableHttpClient client = SharedHttpClients.apache();
 
             HttpPost post = new HttpPost(url);
             post.setHeader("Content-Type", contentType);
@@ -209,14 +188,8 @@ public class HttpDamUtils {
     public static WebServiceResponse callDataApiWs(String contentType, String jsonRequest,
                                                     WebServiceMethod method, String url,
                                                     String authToken, String etag) {
-        RequestConfig config = RequestConfig.custom()
-            .setConnectTimeout(CONNECTION_TIMEOUT)
-            .setSocketTimeout(SOCKET_TIMEOUT)
-            .build();
-
-        try (CloseableHttpClient client = HttpClients.custom()
-                .setDefaultRequestConfig(config)
-                .build()) {
+        try {
+            CloseableHttpClient client = SharedHttpClients.apache();
 
             HttpUriRequest request = buildRequest(method, url, contentType, jsonRequest);
             if (authToken != null) {
@@ -0,0 +1,203 @@
+package com.atex.onecms.app.dam.util;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide HTTP clients for outbound integrations (file service, content API publishing,
+ * layout server, image metadata service, cache purges).
+ * <p>
+ * The Apache client shares one {@link PoolingHttpClientConnectionManager}, so connections to
+ * the same host are kept alive and reused instead of paying TCP/TLS setup per call. The JDK
+ * client is used where non-blocking or HTTP/2 requests fit better. Both are created lazily with
+ * default {@link Settings} and are replaced by {@link #configure(Settings)} at startup.
+ * <p>
+ * Callers must not close the clients; they close responses as usual, which returns the
+ * connection to the pool.
+ */
+public final class SharedHttpClients {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedHttpClients.class);
+
+    /**
+     * Pool and timeout settings, with the defaults used before {@link #configure} is called.
+     */
+    public static class Settings {
+        private int maxTotal = 200;
+        private int maxPerRoute = 50;
+        private int connectTimeoutMs = 20_000;
+        private int socketTimeoutMs = 60_000;
+        private int connectionRequestTimeoutMs = 10_000;
+        private long keepAliveMs = 30_000;
+        private long idleEvictMs = 60_000;
+        private boolean http2 = true;
+
+        public int getMaxTotal() { return maxTotal; }
+        public void setMaxTotal(int maxTotal) { this.maxTotal = maxTotal; }
+        public int getMaxPerRoute() { return maxPerRoute; }
+        public void setMaxPerRoute(int maxPerRoute) { this.maxPerRoute = maxPerRoute; }
+        public int getConnectTimeoutMs() { return connectTimeoutMs; }
+        public void setConnectTimeoutMs(int connectTimeoutMs) { this.connectTimeoutMs = connectTimeoutMs; }
+        public int getSocketTimeoutMs() { return socketTimeoutMs; }
+        public void setSocketTimeoutMs(int socketTimeoutMs) { this.socketTimeoutMs = socketTimeoutMs; }
+        public int getConnectionRequestTimeoutMs() { return connectionRequestTimeoutMs; }
+        public void setConnectionRequestTimeoutMs(int connectionRequestTimeoutMs) {
+            this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+        }
+        public long getKeepAliveMs() { return keepAliveMs; }
+        public void setKeepAliveMs(long keepAliveMs) { this.keepAliveMs = keepAliveMs; }
+        public long getIdleEvictMs() { return idleEvictMs; }
+        public void setIdleEvictMs(long idleEvictMs) { this.idleEvictMs = idleEvictMs; }
+        public boolean isHttp2() { return http2; }
+        public void setHttp2(boolean http2) { this.http2 = http2; }
+    }
+
+    private record Clients(PoolingHttpClientConnectionManager connectionManager,
+                           CloseableHttpClient apache, HttpClient jdk, RequestConfig requestConfig) {}
+
+    private static volatile Clients clients;
+
+    private SharedHttpClients() {
+    }
+
+    /**
+     * The shared pooled Apache client.
+     */
+    public static CloseableHttpClient apache() {
+        return get().apache();
+    }
+
+    /**
+     * The shared JDK client (HTTP/2 with HTTP/1.1 fallback unless disabled).
+     */
+    public static HttpClient jdk() {
+        return get().jdk();
+    }
+
+    /**
+     * The default request config of the Apache client, for callers that override one timeout.
+     */
+    public static RequestConfig defaultRequestConfig() {
+        return get().requestConfig();
+    }
+
+    /**
+     * Raise or lower the connection limit for one host, e.g. to honour a configured pool size.
+     */
+    public static void setMaxPerRoute(URI uri, int max) {
+        if (uri == null || uri.getHost() == null || max <= 0) {
+            return;
+        }
+        // Match the route the client plans: explicit port, secure for https, no proxy
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        HttpHost host = new HttpHost(uri.getHost(), port, secure ? "https" : "http");
+        HttpRoute route = new HttpRoute(host, null, secure);
+        PoolingHttpClientConnectionManager cm = get().connectionManager();
+        if (cm.getMaxPerRoute(route) != max) {
+            cm.setMaxPerRoute(route, max);
+        }
+    }
+
+    /**
+     * Leased/available/pending/max connections of the Apache pool.
+     */
+    public static PoolStats poolStats() {
+        return get().connectionManager().getTotalStats();
+    }
+
+    /**
+     * Replace the clients with ones built from {@code settings} and close the previous ones.
+     * Meant to be called once at startup, before any requests are made.
+     */
+    public static synchronized void configure(Settings settings) {
+        Clients previous = clients;
+        clients = build(settings);
+        if (previous != null) {
+            close(previous);
+        }
+    }
+
+    public static synchronized void shutdown() {
+        Clients previous = clients;
+        clients = null;
+        if (previous != null) {
+            close(previous);
+        }
+    }
+
+    private static Clients get() {
+        Clients c = clients;
+        if (c == null) {
+            synchronized (SharedHttpClients.class) {
+                c = clients;
+                if (c == null) {
+                    c = build(new Settings());
+                    clients = c;
+                }
+            }
+        }
+        return c;
+    }
+
+    private static Clients build(Settings settings) {
+        PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager();
+        cm.setMaxTotal(Math.max(1, settings.getMaxTotal()));
+        cm.setDefaultMaxPerRoute(Math.max(1, settings.getMaxPerRoute()));
+        cm.setValidateAfterInactivity(2_000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout(settings.getConnectTimeoutMs())
+            .setSocketTimeout(settings.getSocketTimeoutMs())
+            .setConnectionRequestTimeout(settings.getConnectionRequestTimeoutMs())
+            .build();
+
+        // Honour the server's Keep-Alive header, otherwise keep idle connections for keepAliveMs
+        long keepAliveMs = settings.getKeepAliveMs();
+        ConnectionKeepAliveStrategy keepAlive = (response, context) -> {
+            long serverMs = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverMs > 0 ? serverMs : keepAliveMs;
+        };
+
+        HttpClientBuilder builder = HttpClients.custom()
+            .setConnectionManager(cm)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy(keepAlive)
+            .evictExpiredConnections();
+        if (settings.getIdleEvictMs() > 0) {
+            builder.evictIdleConnections(settings.getIdleEvictMs(), TimeUnit.MILLISECONDS);
+        }
+
+        HttpClient jdk = HttpClient.newBuilder()
+            .version(settings.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(settings.getConnectTimeoutMs()))
+            .build();
+
+        return new Clients(cm, builder.build(), jdk, requestConfig);
+    }
+
+    private static void close(Clients c) {
+        try {
+            c.apache().close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close shared HTTP client", e);
+        }
+        c.jdk().close();
+    }
+}
@@ -1042,8 +1042,12 @@ public class DamDataResource {
         try {
             JsonObject jsonList = parseAsJsonObject(body);
             JsonArray qList = jsonList.get("qList").getAsJsonArray();
-            JsonArray retList = new JsonArray();
 
+            // Count all queries of a core in one Solr request instead of one per badge
+            List<String> queryIds = new ArrayList<>();
+            List<org.apache.solr.client.solrj.SolrQuery> archiveQueries = new ArrayList<>();
+            List<org.apache.solr.client.solrj.SolrQuery> latestQueries = new ArrayList<>();
+            List<Boolean> archiveFlags = new ArrayList<>();
             for (int i = 0; i < qList.size(); i++) {
                 JsonObject query = qList.get(i).getAsJsonObject();
                 String queryId = query.get("damid").getAsString();
@@ -1062,15 +1066,26 @@ public class DamDataResource {
                 solrQuery = solrQuery.replaceAll("%20", " ");
                 org.apache.solr.client.solrj.SolrQuery _solrQuery = new org.apache.solr.client.solrj.SolrQuery(solrQuery);
 
-                int count;
-                if (allArchive) {
-                    count = getSolrService().recordCount(_solrQuery);
-                } else {
-                    count = getSolrServiceLatest().recordCount(_solrQuery);
-                }
+                queryIds.add(queryId);
+                archiveFlags.add(allArchive);
+                (allArchive ? archiveQueries : latestQueries).add(_solrQuery);
+            }
+
+            List<Integer> archiveCounts = archiveQueries.isEmpty()
+                    ? List.of() : getSolrService().recordCounts(archiveQueries);
+            List<Integer> latestCounts = latestQueries.isEmpty()
+                    ? List.of() : getSolrServiceLatest().recordCounts(latestQueries);
+
+            JsonArray retList = new JsonArray();
+            int archiveIdx = 0;
+            int latestIdx = 0;
+            for (int i = 0; i < queryIds.size(); i++) {
+                int count = archiveFlags.get(i)
+                        ? archiveCounts.get(archiveIdx++)
+                        : latestCounts.get(latestIdx++);
 
                 JsonObject retQuery = new JsonObject();
-                retQuery.addProperty("damid", queryId);
+                retQuery.addProperty("damid", queryIds.get(i));
                 retQuery.addProperty("count", count);
                 retList.add(retQuery);
             }
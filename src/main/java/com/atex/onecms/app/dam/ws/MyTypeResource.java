@@ -12,6 +12,7 @@ import com.atex.desk.api.entity.AppUser;
 import com.atex.desk.api.repository.AppGroupMemberRepository;
 import com.atex.desk.api.repository.AppGroupRepository;
 import com.atex.desk.api.repository.AppUserRepository;
+import com.atex.desk.api.service.ContentCachePolicy;
 import com.atex.desk.api.service.ContentService;
 import com.atex.onecms.app.dam.propertybag.PropertyBagConfiguration;
 import com.atex.onecms.app.dam.propertybag.SchemaField;
@@ -78,6 +79,7 @@ public class MyTypeResource {
     private final ContentService contentService;
     private final ContentManager contentManager;
     private final DamPublisherFactory damPublisherFactory;
+    private final ContentCachePolicy cachePolicy;
 
     public MyTypeResource(ConfigurationService configurationService,
                           AppGroupMemberRepository groupMemberRepository,
@@ -85,7 +87,8 @@ public class MyTypeResource {
                           AppUserRepository appUserRepository,
                           ContentService contentService,
                           ContentManager contentManager,
-                          DamPublisherFactory damPublisherFactory) {
+                          DamPublisherFactory damPublisherFactory,
+                          ContentCachePolicy cachePolicy) {
         this.configurationService = configurationService;
         this.groupMemberRepository = groupMemberRepository;
         this.groupRepository = groupRepository;
@@ -93,6 +96,7 @@ public class MyTypeResource {
         this.contentService = contentService;
         this.contentManager = contentManager;
         this.damPublisherFactory = damPublisherFactory;
+        this.cachePolicy = cachePolicy;
     }
 
     // ======== Ping ========
@@ -106,7 +110,8 @@ public class MyTypeResource {
 
     /**
      * GET /dam/mytype/content/contentid/{id}
-     * If unversioned, resolve and redirect (303). If versioned, return content.
+     * If unversioned, resolve and redirect (303). If versioned, return content with a short max-age;
+     * If-None-Match and HEAD are answered from an existence check, without loading the content.
      */
     @GetMapping(value = "content/contentid/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<String> getContentWithContentId(
@@ -121,27 +126,35 @@ public class MyTypeResource {
                 return resolveAndForward(contentIdStr, request);
             }
 
-            // Versioned: fetch content
             String[] parts = contentService.parseContentId(contentIdStr);
+            String versionedId = contentService.formatVersionedId(parts[0], parts[1], parts[2]);
+
+            // ETag match check and HEAD, before loading the content
+            boolean notModified = ContentCachePolicy.matches(request.getHeader("If-None-Match"), versionedId);
+            if (notModified || "HEAD".equals(request.getMethod())) {
+                if (!contentService.hasVersion(parts[0], parts[1], parts[2])) {
+                    throw ContentApiException.notFound("No such content: " + contentIdStr);
+                }
+                return ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                        .header("ETag", ContentCachePolicy.etag(versionedId))
+                        .cacheControl(cachePolicy.versioned())
+                        .build();
+            }
+
+            // Versioned: fetch content
             Optional<ContentResultDto> result = contentService.getContent(parts[0], parts[1], parts[2]);
             if (result.isEmpty()) {
                 throw ContentApiException.notFound("No such content: " + contentIdStr);
             }
 
             ContentResultDto dto = result.get();
-            String etag = "\"" + dto.getVersion() + "\"";
-
-            // ETag match check
-            String ifNoneMatch = request.getHeader("If-None-Match");
-            if (ifNoneMatch != null && ifNoneMatch.equals(etag)) {
-                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
-            }
 
             // Fix collection aspect if present
             fixCollectionAspect(dto);
 
             return ResponseEntity.ok()
-                    .header("ETag", etag)
+                    .header("ETag", ContentCachePolicy.etag(dto.getVersion()))
+                    .cacheControl(cachePolicy.versioned())
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(GSON.toJson(dto));
 
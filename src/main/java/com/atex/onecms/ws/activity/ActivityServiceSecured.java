@@ -6,8 +6,14 @@ import com.atex.desk.api.service.ObjectCacheService;
 import com.atex.onecms.content.Status;
 import com.atex.onecms.content.Subject;
 import jakarta.annotation.PostConstruct;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+/**
+ * Permission checks in front of the activity store. Activities are kept in the configured
+ * {@link ActivityStore}; with {@code desk.activity.store=content} no store bean exists and the
+ * legacy content-backed {@link ActivityService} is used instead.
+ */
 @Component
 public class ActivityServiceSecured {
 
@@ -16,13 +22,16 @@ public class ActivityServiceSecured {
     private final ActivityService activityService;
     private final AppUserRepository appUserRepository;
     private final ObjectCacheService cacheService;
+    private final ActivityStore activityStore;
 
     public ActivityServiceSecured(ActivityService activityService,
                                    AppUserRepository appUserRepository,
-                                   ObjectCacheService cacheService) {
+                                   ObjectCacheService cacheService,
+                                   @Nullable ActivityStore activityStore) {
         this.activityService = activityService;
         this.appUserRepository = appUserRepository;
         this.cacheService = cacheService;
+        this.activityStore = activityStore;
     }
 
     @PostConstruct
@@ -32,6 +41,9 @@ public class ActivityServiceSecured {
 
     public ActivityInfo get(Subject subject, String activityId) throws ActivityException {
         assertLoggedIn(subject);
+        if (activityStore != null) {
+            return activityStore.get(activityId);
+        }
         return activityService.get(subject, activityId);
     }
 
@@ -39,6 +51,9 @@ public class ActivityServiceSecured {
                                String applicationId, ApplicationInfo applicationInfo)
             throws ActivityException {
         assertWritePermission(subject, userName);
+        if (activityStore != null) {
+            return activityStore.put(activityId, userName, applicationId, applicationInfo);
+        }
         return activityService.write(subject, activityId, userName, applicationId, applicationInfo);
     }
 
@@ -46,6 +61,9 @@ public class ActivityServiceSecured {
                                 String applicationId) throws ActivityException {
         // Allowed to delete others' activities — easier than figuring out permissions
         assertLoggedIn(subject);
+        if (activityStore != null) {
+            return activityStore.remove(activityId, userName, applicationId);
+        }
         return activityService.delete(subject, activityId, userName, applicationId);
     }
 
@@ -0,0 +1,37 @@
+package com.atex.onecms.ws.activity;
+
+/**
+ * Lease-based storage for activities (content locks and presence heartbeats).
+ * <p>
+ * Each user/application entry is a lease that lapses once its timestamp is older than the
+ * configured lease time ({@code desk.activity.lease-seconds}); clients renew it by writing it
+ * again. Expired entries are never returned. Unlike {@link ActivityService}, stores do not
+ * create content versions, change list entries or index updates.
+ * <p>
+ * Selected with {@code desk.activity.store}: {@code database} (default, shared table, safe
+ * with several API nodes), {@code memory} (single node or development only; leases are lost
+ * on restart and not seen by other nodes) or {@code content} (the legacy content-backed
+ * {@link ActivityService}, no store bean).
+ */
+public interface ActivityStore {
+
+    /**
+     * @return the live activities for the id; empty if there are none
+     */
+    ActivityInfo get(String activityId);
+
+    /**
+     * Create or renew the lease of one user/application entry.
+     *
+     * @return the live activities for the id after the write
+     */
+    ActivityInfo put(String activityId, String userName, String applicationId,
+                     ApplicationInfo applicationInfo);
+
+    /**
+     * Remove one user/application entry.
+     *
+     * @return the live activities for the id after the removal
+     */
+    ActivityInfo remove(String activityId, String userName, String applicationId);
+}
@@ -0,0 +1,122 @@
+package com.atex.onecms.ws.activity;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link ActivityStore} backed by the narrow {@code activity_leases} table, so all API nodes
+ * see the same locks. A heartbeat is one upsert of one row plus a primary-key prefix read;
+ * expired rows are ignored by reads and deleted by a periodic sweep.
+ */
+@Component
+@ConditionalOnProperty(name = "desk.activity.store", havingValue = "database", matchIfMissing = true)
+public class DatabaseActivityStore implements ActivityStore {
+
+    private static final Logger LOGGER = Logger.getLogger(DatabaseActivityStore.class.getName());
+    private static final Gson GSON = new Gson();
+    private static final Type PARAMS_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO activity_leases (activity_id, user_name, application_id, activity, params, updated_at) "
+            + "VALUES (:activityId, :userName, :applicationId, :activity, :params, :updatedAt) "
+            + "ON DUPLICATE KEY UPDATE activity = VALUES(activity), params = VALUES(params), "
+            + "updated_at = VALUES(updated_at)";
+
+    private final EntityManager entityManager;
+    private final long leaseMs;
+
+    public DatabaseActivityStore(EntityManager entityManager,
+                                 @Value("${desk.activity.lease-seconds:900}") long leaseSeconds) {
+        this.entityManager = entityManager;
+        this.leaseMs = TimeUnit.SECONDS.toMillis(leaseSeconds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityInfo get(String activityId) {
+        return load(activityId);
+    }
+
+    @Override
+    @Transactional
+    public ActivityInfo put(String activityId, String userName, String applicationId,
+                            ApplicationInfo applicationInfo) {
+        entityManager.createNativeQuery(UPSERT_SQL)
+                .setParameter("activityId", activityId)
+                .setParameter("userName", userName)
+                .setParameter("applicationId", applicationId)
+                .setParameter("activity", applicationInfo.getActivity())
+                .setParameter("params", GSON.toJson(applicationInfo.getParams()))
+                .setParameter("updatedAt", applicationInfo.getTimestamp())
+                .executeUpdate();
+        return load(activityId);
+    }
+
+    @Override
+    @Transactional
+    public ActivityInfo remove(String activityId, String userName, String applicationId) {
+        entityManager.createNativeQuery(
+                        "DELETE FROM activity_leases WHERE activity_id = :activityId "
+                        + "AND user_name = :userName AND application_id = :applicationId")
+                .setParameter("activityId", activityId)
+                .setParameter("userName", userName)
+                .setParameter("applicationId", applicationId)
+                .executeUpdate();
+        return load(activityId);
+    }
+
+    @Scheduled(fixedDelayString = "${desk.activity.sweep-interval:60000}")
+    @Transactional
+    public void sweep() {
+        try {
+            int deleted = entityManager.createNativeQuery(
+                            "DELETE FROM activity_leases WHERE updated_at <= :cutoff")
+                    .setParameter("cutoff", System.currentTimeMillis() - leaseMs)
+                    .executeUpdate();
+            if (deleted > 0) {
+                LOGGER.fine(() -> "Removed " + deleted + " expired activity leases");
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Activity lease sweep failed", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ActivityInfo load(String activityId) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT user_name, application_id, activity, params, updated_at FROM activity_leases "
+                        + "WHERE activity_id = :activityId AND updated_at > :cutoff")
+                .setParameter("activityId", activityId)
+                .setParameter("cutoff", System.currentTimeMillis() - leaseMs)
+                .getResultList();
+
+        ActivityInfo info = new ActivityInfo();
+        for (Object[] row : rows) {
+            String userName = (String) row[0];
+            String applicationId = (String) row[1];
+            Map<String, String> params = row[3] != null ? GSON.fromJson((String) row[3], PARAMS_TYPE) : null;
+            ApplicationInfo app = new ApplicationInfo(((Number) row[4]).longValue(), (String) row[2], params);
+
+            UserActivities userActivities = info.get(userName);
+            if (userActivities == null) {
+                info.put(userName, new UserActivities(applicationId, app));
+            } else {
+                userActivities.put(applicationId, app);
+            }
+        }
+        return info;
+    }
+}
@@ -0,0 +1,121 @@
+package com.atex.onecms.ws.activity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Single-node {@link ActivityStore}, for development and single-instance deployments: locks
+ * taken on one node are invisible to the others. Activities live in a concurrent map keyed by
+ * activity id; every read and write of one id runs inside {@code compute}, so it is atomic per
+ * id while other ids proceed in parallel. Expired leases are dropped on access and by a periodic sweep.
+ */
+@Component
+@ConditionalOnProperty(name = "desk.activity.store", havingValue = "memory")
+public class InMemoryActivityStore implements ActivityStore {
+
+    private final Map<String, ActivityInfo> activities = new ConcurrentHashMap<>();
+    private final long leaseMs;
+
+    public InMemoryActivityStore(@Value("${desk.activity.lease-seconds:900}") long leaseSeconds) {
+        this.leaseMs = TimeUnit.SECONDS.toMillis(leaseSeconds);
+    }
+
+    @Override
+    public ActivityInfo get(String activityId) {
+        return apply(activityId, false, info -> null);
+    }
+
+    @Override
+    public ActivityInfo put(String activityId, String userName, String applicationId,
+                            ApplicationInfo applicationInfo) {
+        return apply(activityId, true, info -> {
+            UserActivities userActivities = info.get(userName);
+            if (userActivities == null) {
+                info.put(userName, new UserActivities(applicationId, applicationInfo));
+            } else {
+                userActivities.put(applicationId, applicationInfo);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public ActivityInfo remove(String activityId, String userName, String applicationId) {
+        return apply(activityId, false, info -> info.remove(userName, applicationId));
+    }
+
+    public int size() {
+        return activities.size();
+    }
+
+    @Scheduled(fixedDelayString = "${desk.activity.sweep-interval:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (String activityId : activities.keySet()) {
+            activities.computeIfPresent(activityId, (id, info) -> purge(info, now) ? null : info);
+        }
+    }
+
+    /**
+     * Run {@code update} on the activity under the map's per-key lock and return a copy of the
+     * live result; the id is removed once no live entries remain.
+     */
+    private ActivityInfo apply(String activityId, boolean create, Function<ActivityInfo, ?> update) {
+        long now = System.currentTimeMillis();
+        ActivityInfo[] snapshot = new ActivityInfo[1];
+        Function<ActivityInfo, ActivityInfo> step = info -> {
+            update.apply(info);
+            if (purge(info, now)) {
+                return null;
+            }
+            snapshot[0] = copy(info);
+            return info;
+        };
+        if (create) {
+            activities.compute(activityId, (id, info) -> step.apply(info != null ? info : new ActivityInfo()));
+        } else {
+            activities.computeIfPresent(activityId, (id, info) -> step.apply(info));
+        }
+        return snapshot[0] != null ? snapshot[0] : new ActivityInfo();
+    }
+
+    /**
+     * Drop expired applications and users without applications.
+     *
+     * @return true if nothing live remains
+     */
+    private boolean purge(ActivityInfo info, long now) {
+        for (Iterator<UserActivities> users = info.getUsers().values().iterator(); users.hasNext(); ) {
+            UserActivities userActivities = users.next();
+            userActivities.getApplications().values()
+                    .removeIf(app -> app == null || app.getTimestamp() + leaseMs <= now);
+            if (userActivities.getApplications().isEmpty()) {
+                users.remove();
+            }
+        }
+        return info.getUsers().isEmpty();
+    }
+
+    private static ActivityInfo copy(ActivityInfo source) {
+        ActivityInfo copy = new ActivityInfo();
+        for (Map.Entry<String, UserActivities> user : source.getUsers().entrySet()) {
+            UserActivities userCopy = new UserActivities();
+            for (Map.Entry<String, ApplicationInfo> app : user.getValue().getApplications().entrySet()) {
+                ApplicationInfo a = app.getValue();
+                userCopy.put(app.getKey(), new ApplicationInfo(a.getTimestamp(), a.getActivity(),
+                        a.getParams() != null ? new HashMap<>(a.getParams()) : null));
+            }
+            copy.put(user.getKey(), userCopy);
+        }
+        return copy;
+    }
+}
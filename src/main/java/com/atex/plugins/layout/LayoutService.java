@@ -27,8 +27,6 @@ import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpHeaders;
@@ -37,6 +35,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.atex.onecms.app.dam.util.SharedHttpClients;
 import com.atex.onecms.app.dam.ws.ContentApiException;
 import com.atex.onecms.content.ContentManager;
 import com.atex.onecms.content.ContentResult;
@@ -235,7 +234,7 @@ public class LayoutService {
         CloseableHttpResponse autoClose = null;
 
         try {
-            CloseableHttpClient client = getClient();
+            CloseableHttpClient client = getClient(request);
             CloseableHttpResponse httpResponse = client.execute(request);
             autoClose = httpResponse;
 
@@ -330,23 +329,20 @@ public class LayoutService {
         }
     }
 
-    private CloseableHttpClient getClient() {
+    private CloseableHttpClient getClient(HttpUriRequest request) {
         LayoutServerConfigurationBean config = this.configStore.get();
-        int timeout = config.getTimeout() * 1000;
-        int poolSize = config.getPoolSize();
 
-        RequestConfig defaultRequestConfig = getRequestConfig(timeout);
+        if (request instanceof HttpRequestBase base && base.getConfig() == null) {
+            base.setConfig(getRequestConfig(config.getTimeout() * 1000));
+        }
+        // The configured pool size caps the connections to this server in the shared pool
+        SharedHttpClients.setMaxPerRoute(request.getURI(), config.getPoolSize());
 
         if (logger.isLoggable(Level.FINE)) {
             logger.fine("Client Configuration " + config);
         }
 
-        return HttpClients.custom()
-                .setDefaultRequestConfig(defaultRequestConfig)
-                .setMaxConnTotal(poolSize)
-                .setMaxConnPerRoute(poolSize)
-                .setRetryHandler(DefaultHttpRequestRetryHandler.INSTANCE)
-                .build();
+        return SharedHttpClients.apache();
     }
 
     private RequestConfig getRequestConfig(int timeout) {
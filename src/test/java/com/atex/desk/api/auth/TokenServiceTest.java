@@ -0,0 +1,75 @@
+package com.atex.desk.api.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Token verification through {@link VerifiedTokenCache}: a cached token must never outlive
+ * its own expiry, and failed verifications must never be cached.
+ */
+class TokenServiceTest {
+
+    private final TokenProperties properties = properties();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(properties);
+    private final TokenService tokenService = new TokenService(properties, cache);
+
+    @Test
+    void cachedToken_isRejectedOnceExpired() throws Exception {
+        String token = tokenService.createToken("alice", List.of("READ"), Duration.ofSeconds(1));
+
+        DecodedToken decoded = tokenService.decodeToken(token);
+        assertEquals("alice", decoded.subject());
+        assertSame(decoded, cache.get(token, DecodedToken.class));
+
+        // The cache TTL is far longer than the token's lifetime; only the expiry may count
+        Thread.sleep(decoded.expiration().getTime() - System.currentTimeMillis() + 50);
+
+        assertNull(cache.get(token, DecodedToken.class));
+        assertThrows(InvalidTokenException.class, () -> tokenService.decodeToken(token));
+    }
+
+    @Test
+    void tokenSignedWithAnotherKey_isNeverCached() {
+        TokenService other = new TokenService(properties(), new VerifiedTokenCache(properties));
+        String foreign = other.createToken("mallory", List.of("OWNER"), Duration.ofMinutes(5));
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.decodeToken(foreign));
+        assertNull(cache.get(foreign, DecodedToken.class));
+        assertThrows(InvalidTokenException.class, () -> tokenService.decodeToken(foreign));
+    }
+
+    @Test
+    void tamperedToken_isNotServedFromTheOriginalsEntry() throws Exception {
+        String token = tokenService.createToken("alice", List.of("READ"), Duration.ofMinutes(5));
+        tokenService.decodeToken(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+            + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.decodeToken(tampered));
+        assertNull(cache.get(tampered, DecodedToken.class));
+    }
+
+    @Test
+    void put_ignoresAlreadyExpiredTokens() {
+        Date expired = new Date(System.currentTimeMillis() - 1_000);
+
+        cache.put("token", "value", expired, 0);
+
+        assertNull(cache.get("token", String.class));
+        assertEquals(0, cache.getCache().size());
+    }
+
+    private static TokenProperties properties() {
+        TokenProperties properties = new TokenProperties();
+        properties.setInstanceId("test-instance");
+        properties.setClockSkew(0);
+        properties.setTokenCacheTtl(300);
+        return properties;
+    }
+}
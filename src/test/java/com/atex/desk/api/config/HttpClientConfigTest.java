@@ -0,0 +1,109 @@
+package com.atex.desk.api.config;
+
+import com.atex.onecms.app.dam.util.HttpDamUtils;
+import com.atex.onecms.app.dam.util.SharedHttpClients;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link HttpClientConfig} binds {@code desk.http.client.*} into {@link SharedHttpClients}, and
+ * the outbound helpers all go through the one pool it configures.
+ */
+class HttpClientConfigTest {
+
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+        SharedHttpClients.shutdown();
+    }
+
+    @Test
+    void deskHttpClientProperties_areBoundIntoTheSharedClients() {
+        HttpClientConfig config = new HttpClientConfig(new MockEnvironment()
+            .withProperty("desk.http.client.max-total", "7")
+            .withProperty("desk.http.client.connect-timeout-ms", "1234")
+            .withProperty("desk.http.client.socket-timeout-ms", "4321")
+            .withProperty("desk.http.client.connection-request-timeout-ms", "555")
+            .withProperty("desk.http.client.http2", "false"));
+        config.configure();
+
+        assertEquals(7, SharedHttpClients.poolStats().getMax());
+        RequestConfig requestConfig = SharedHttpClients.defaultRequestConfig();
+        assertEquals(1234, requestConfig.getConnectTimeout());
+        assertEquals(4321, requestConfig.getSocketTimeout());
+        assertEquals(555, requestConfig.getConnectionRequestTimeout());
+        assertEquals(HttpClient.Version.HTTP_1_1, SharedHttpClients.jdk().version());
+        assertEquals(Optional.of(Duration.ofMillis(1234)), SharedHttpClients.jdk().connectTimeout());
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        config.httpClientPoolMetrics().bindTo(registry);
+        assertEquals(7.0, registry.get("desk.http.client.pool.max").gauge().value());
+        assertEquals(0.0, registry.get("desk.http.client.pool.leased").gauge().value());
+    }
+
+    @Test
+    void missingProperties_keepTheDefaults() {
+        new HttpClientConfig(new MockEnvironment()).configure();
+
+        SharedHttpClients.Settings defaults = new SharedHttpClients.Settings();
+        assertEquals(defaults.getMaxTotal(), SharedHttpClients.poolStats().getMax());
+        assertEquals(defaults.getSocketTimeoutMs(), SharedHttpClients.defaultRequestConfig().getSocketTimeout());
+        assertEquals(HttpClient.Version.HTTP_2, SharedHttpClients.jdk().version());
+    }
+
+    @Test
+    void outboundCalls_shareOnePooledConnection() throws IOException {
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try (InputStream in = exchange.getRequestBody()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        String base = "http://localhost:" + server.getAddress().getPort();
+
+        new HttpClientConfig(new MockEnvironment().withProperty("desk.http.client.max-total", "4")).configure();
+
+        // Content API publishing, file service reads and file service uploads
+        assertFalse(HttpDamUtils.callDataApiWs("application/json", "{}",
+            HttpDamUtils.WebServiceMethod.POST, base + "/content").isError());
+        assertEquals("{\"ok\":true}", HttpDamUtils.readBinaryContentFromURL(base + "/file/a.jpg", null, "token")
+            .toString(StandardCharsets.UTF_8));
+        assertFalse(HttpDamUtils.sendStreamToFileService("image/jpeg",
+            new ByteArrayInputStream(new byte[1024]), base + "/file", "token").isError());
+
+        assertEquals(1, clientPorts.size(), "all calls should reuse one kept-alive connection");
+        assertEquals(4, SharedHttpClients.poolStats().getMax());
+        assertEquals(0, SharedHttpClients.poolStats().getLeased());
+        assertEquals(1, SharedHttpClients.poolStats().getAvailable());
+    }
+}
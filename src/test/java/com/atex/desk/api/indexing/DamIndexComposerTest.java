@@ -0,0 +1,104 @@
+package com.atex.desk.api.indexing;
+
+import com.atex.onecms.app.dam.solr.SolrService;
+import com.atex.onecms.app.dam.standard.aspects.OneArticleBean;
+import com.atex.onecms.app.dam.standard.aspects.OneImageBean;
+import com.atex.onecms.app.dam.workflow.WebContentStatusAspectBean;
+import com.atex.onecms.content.ContentResult;
+import com.atex.onecms.content.ContentResultBuilder;
+import com.atex.onecms.content.ContentVersionId;
+import com.atex.onecms.content.InsertionInfoAspectBean;
+import com.atex.onecms.content.aspects.Aspect;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.SolrInputField;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link DamIndexComposer#composeSolrDocument} must produce the same Solr documents as
+ * {@link DamIndexComposer#compose} followed by {@link SolrService#jsonToSolrDoc}, on the
+ * benchmark fixtures with the main aspect as a typed bean and as a plain map.
+ */
+class DamIndexComposerTest {
+
+    private final Gson gson = new Gson();
+    private final DamIndexComposer composer = new DamIndexComposer();
+
+    @ParameterizedTest
+    @CsvSource({"article, bean", "article, map", "image, bean", "image, map"})
+    void directComposition_matchesJsonComposition(String fixture, String form) throws IOException {
+        ContentVersionId versionId = new ContentVersionId("onecms", "test-" + fixture, "v1");
+        ContentResult<Object> result = contentResult(fixture, form, versionId);
+
+        Map<String, List<Object>> expected = fields(SolrService.jsonToSolrDoc(composer.compose(result, versionId)));
+        Map<String, List<Object>> actual = fields(composer.composeSolrDocument(result, versionId));
+
+        assertTrue(expected.containsKey("headline_atex_desk_ts") || expected.containsKey("title_atex_desk_ts"),
+            "fixture should produce content fields: " + expected.keySet());
+        assertEquals(expected, actual);
+    }
+
+    private ContentResult<Object> contentResult(String fixture, String form, ContentVersionId versionId)
+            throws IOException {
+        boolean article = "article".equals(fixture);
+        Object mainAspect;
+        try (Reader reader = fixtureReader(fixture + ".json")) {
+            if ("map".equals(form)) {
+                mainAspect = gson.fromJson(reader, new TypeToken<Map<String, Object>>() {}.getType());
+            } else {
+                mainAspect = gson.fromJson(reader, article ? OneArticleBean.class : OneImageBean.class);
+            }
+        }
+
+        return new ContentResultBuilder<Object>()
+            .id(versionId)
+            .type(article ? OneArticleBean.ASPECT_NAME : OneImageBean.ASPECT_NAME)
+            .mainAspectData(mainAspect)
+            .aspects(
+                new Aspect<Object>(WebContentStatusAspectBean.ASPECT_NAME, Map.of(
+                    "status", Map.of(
+                        "statusID", "published",
+                        "name", "Published",
+                        "attributes", List.of("online", "frontpage")))),
+                new Aspect<Object>(InsertionInfoAspectBean.ASPECT_NAME, Map.of(
+                    "securityParentId", Map.of("delegationId", "policy", "key", "2.184"),
+                    "insertParentId", "policy:2.200",
+                    "associatedSites", List.of("policy:2.300", "policy:2.301"))))
+            // A fixed modification time, so both documents get the same modificationTime_dt
+            .meta(new ContentResult.Meta(1718697600000L, 1718611200000L))
+            .build();
+    }
+
+    /**
+     * Field name to values, in a form that compares by value and type.
+     */
+    private static Map<String, List<Object>> fields(SolrInputDocument doc) {
+        Map<String, List<Object>> fields = new TreeMap<>();
+        for (SolrInputField field : doc) {
+            fields.put(field.getName(), new ArrayList<>(field.getValues()));
+        }
+        return fields;
+    }
+
+    private static Reader fixtureReader(String name) throws IOException {
+        InputStream in = DamIndexComposerTest.class.getResourceAsStream("/fixtures/" + name);
+        if (in == null) {
+            throw new IOException("Missing fixture: " + name);
+        }
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,179 @@
+package com.atex.desk.api.indexing;
+
+import com.atex.desk.api.entity.IndexerState;
+import com.atex.desk.api.repository.IndexerStateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SolrIndexProcessor#runPipelined} against a stubbed write queue and job repository:
+ * the job cursor may only move past a page once its write has been acknowledged, and a pause
+ * that happens while a page is being written stops the job, including on its last page.
+ */
+class SolrIndexProcessorTest {
+
+    private static final String JOB_ID = "reindex-test";
+
+    /** Writes handed to the queue, completed by the test. */
+    private final BlockingQueue<CompletableFuture<Void>> writes = new LinkedBlockingQueue<>();
+    /** The cursor of every saved job state, in order. */
+    private final List<Long> savedCursors = new CopyOnWriteArrayList<>();
+    private volatile String storedStatus = "RUNNING";
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor();
+    private final SolrIndexProcessor processor = new SolrIndexProcessor(
+        repository(), null, new DamIndexComposer(), null, new StubQueue(), null, null,
+        "test-instance", 10, 60, "onecms", 60, 1, true);
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdownNow();
+        processor.shutdown();
+    }
+
+    @Test
+    void cursor_onlyAdvancesOnceTheWriteIsAcknowledged() throws Exception {
+        IndexerState job = job();
+        Future<Boolean> run = runner.submit(() -> processor.runPipelined(job, pages(3)));
+
+        CompletableFuture<Void> first = nextWrite();
+        // The second page is composed meanwhile, but not handed over before the first is written
+        assertNull(writes.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(List.of(), savedCursors);
+
+        first.complete(null);
+        CompletableFuture<Void> second = nextWrite();
+        assertEquals(List.of(10L), savedCursors);
+
+        second.complete(null);
+        CompletableFuture<Void> third = nextWrite();
+        assertEquals(List.of(10L, 20L), savedCursors);
+
+        third.complete(null);
+        assertTrue(run.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(10L, 20L, 30L), savedCursors);
+        assertEquals(30L, job.getLastCursor());
+        assertEquals(30L, job.getProcessedItems());
+    }
+
+    @Test
+    void failedWrite_leavesTheCursorWhereItWas() throws Exception {
+        IndexerState job = job();
+        Future<Boolean> run = runner.submit(() -> processor.runPipelined(job, pages(3)));
+
+        nextWrite().completeExceptionally(new IllegalStateException("solr down"));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> run.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(List.of(), savedCursors);
+        assertEquals(0L, job.getLastCursor());
+    }
+
+    @Test
+    void pauseDuringTheLastPage_isNotReportedAsCompleted() throws Exception {
+        IndexerState job = job();
+        Future<Boolean> run = runner.submit(() -> processor.runPipelined(job, pages(1)));
+
+        CompletableFuture<Void> last = nextWrite();
+        storedStatus = "PAUSED";
+        last.complete(null);
+
+        assertFalse(run.get(5, TimeUnit.SECONDS));
+        assertEquals("PAUSED", job.getStatus());
+        assertEquals(List.of(10L), savedCursors);
+    }
+
+    @Test
+    void pauseDuringAnEarlierPage_stopsBeforeTheNextWrite() throws Exception {
+        IndexerState job = job();
+        Future<Boolean> run = runner.submit(() -> processor.runPipelined(job, pages(3)));
+
+        CompletableFuture<Void> first = nextWrite();
+        storedStatus = "PAUSED";
+        first.complete(null);
+
+        assertFalse(run.get(5, TimeUnit.SECONDS));
+        assertEquals("PAUSED", job.getStatus());
+        assertEquals(List.of(10L), savedCursors);
+        assertTrue(writes.isEmpty());
+    }
+
+    private CompletableFuture<Void> nextWrite() throws InterruptedException {
+        CompletableFuture<Void> write = writes.poll(5, TimeUnit.SECONDS);
+        assertNotNull(write, "expected a page to be written");
+        return write;
+    }
+
+    /** Pages of 10 items with cursors 10, 20, ..., the last one flagged as such. */
+    private static SolrIndexProcessor.PageLoader pages(int count) {
+        return cursor -> {
+            long next = cursor + 10;
+            SolrInputDocument doc = new SolrInputDocument();
+            doc.setField("id", "doc-" + next);
+            return new SolrIndexProcessor.Page(List.of(doc), next, 10, next >= count * 10L);
+        };
+    }
+
+    private IndexerState job() {
+        IndexerState job = new IndexerState();
+        job.setIndexerId(JOB_ID);
+        job.setJobType("REINDEX_FULL");
+        job.setStatus("RUNNING");
+        job.setCreatedAt(Instant.now());
+        job.setUpdatedAt(Instant.now());
+        return job;
+    }
+
+    private IndexerStateRepository repository() {
+        return (IndexerStateRepository) Proxy.newProxyInstance(
+            IndexerStateRepository.class.getClassLoader(),
+            new Class<?>[] {IndexerStateRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findByIndexerId" -> {
+                    IndexerState stored = job();
+                    stored.setStatus(storedStatus);
+                    yield Optional.of(stored);
+                }
+                case "save" -> {
+                    savedCursors.add(((IndexerState) args[0]).getLastCursor());
+                    yield args[0];
+                }
+                case "toString" -> "IndexerStateRepository stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    /** Hands every write to the test instead of Solr. */
+    private class StubQueue extends SolrIndexQueue {
+        StubQueue() {
+            super(null, new SimpleMeterRegistry(), 100, 10, 1000, 0, 0, 0);
+        }
+
+        @Override
+        public CompletableFuture<Void> add(String collection, List<SolrInputDocument> docs) {
+            CompletableFuture<Void> write = new CompletableFuture<>();
+            writes.add(write);
+            return write;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.atex.desk.api.integration;
+
+import com.atex.onecms.ws.activity.ActivityInfo;
+import com.atex.onecms.ws.activity.ActivityStore;
+import com.atex.onecms.ws.activity.ApplicationInfo;
+import com.atex.onecms.ws.activity.DatabaseActivityStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for /activities (editing locks) against the default database lease store.
+ */
+class ActivityIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    ActivityStore activityStore;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private String activityId;
+
+    @BeforeEach
+    void setUp() {
+        token = loginSysadmin();
+        activityId = "onecms:" + UUID.randomUUID();
+    }
+
+    @Test
+    void putThenGet_returnsLease() throws Exception {
+        HttpResponse<String> put = rawPut("/activities/" + activityId + "/sysadmin/desk",
+            "{\"activity\":\"editing\",\"params\":{\"field\":\"body\"}}", token, null);
+        assertEquals(200, put.statusCode());
+        assertTrue(put.body().contains("\"editing\""));
+
+        HttpResponse<String> get = rawGet("/activities/" + activityId, token);
+        assertEquals(200, get.statusCode());
+        assertTrue(get.body().contains("\"sysadmin\""));
+        assertTrue(get.body().contains("\"desk\""));
+        assertTrue(get.body().contains("\"body\""));
+    }
+
+    @Test
+    void delete_releasesLease() throws Exception {
+        rawPut("/activities/" + activityId + "/sysadmin/desk", "{\"activity\":\"editing\"}", token, null);
+
+        HttpResponse<String> delete = rawDelete("/activities/" + activityId + "/sysadmin/desk", token, null);
+        assertEquals(200, delete.statusCode());
+
+        HttpResponse<String> get = rawGet("/activities/" + activityId, token);
+        assertEquals(200, get.statusCode());
+        assertFalse(get.body().contains("\"sysadmin\""));
+    }
+
+    @Test
+    void putForOtherUser_isRejected() throws Exception {
+        HttpResponse<String> put = rawPut("/activities/" + activityId + "/someoneelse/desk",
+            "{\"activity\":\"editing\"}", token, null);
+        assertTrue(put.statusCode() >= 400);
+    }
+
+    @Test
+    void defaultStore_isDatabase() {
+        assertInstanceOf(DatabaseActivityStore.class, activityStore);
+    }
+
+    @Test
+    void put_writesSharedLeaseRow() throws Exception {
+        rawPut("/activities/" + activityId + "/sysadmin/desk", "{\"activity\":\"editing\"}", token, null);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT user_name, application_id, activity FROM activity_leases WHERE activity_id = ?", activityId);
+        assertEquals("sysadmin", row.get("user_name"));
+        assertEquals("desk", row.get("application_id"));
+        assertEquals("editing", row.get("activity"));
+    }
+
+    @Test
+    void expiredLease_isHiddenAndSwept() {
+        long expired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1);
+        activityStore.put(activityId, "sysadmin", "desk", new ApplicationInfo(expired, "editing", Map.of()));
+        activityStore.put(activityId, "sysadmin", "mobile",
+            new ApplicationInfo(System.currentTimeMillis(), "editing", Map.of()));
+
+        ActivityInfo info = activityStore.get(activityId);
+        assertNotNull(info.get("sysadmin"));
+        assertFalse(info.get("sysadmin").getApplications().containsKey("desk"));
+        assertTrue(info.get("sysadmin").getApplications().containsKey("mobile"));
+
+        ((DatabaseActivityStore) activityStore).sweep();
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM activity_leases WHERE activity_id = ?", Integer.class, activityId));
+    }
+}
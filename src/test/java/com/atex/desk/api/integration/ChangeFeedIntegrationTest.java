@@ -0,0 +1,215 @@
+package com.atex.desk.api.integration;
+
+import com.atex.desk.api.service.ChangeListService;
+import com.atex.desk.api.service.CommitIdAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the /changes feed, including long-polling with wait=.
+ */
+class ChangeFeedIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    CommitIdAllocator commitIdAllocator;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ChangeListService changeListService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = loginSysadmin();
+    }
+
+    @Test
+    void waitForChanges_returnsAsSoonAsMatchingChangeCommits() throws Exception {
+        long cursor = currentMaxCommitId();
+
+        CompletableFuture<Map<String, Object>> poll = CompletableFuture.supplyAsync(
+            () -> getFeed("/changes?commitId=" + cursor + "&object=article&wait=30"));
+
+        // Give the poll time to park, then commit a non-matching and a matching change
+        Thread.sleep(500);
+        assertFalse(poll.isDone(), "poll should wait while no matching change exists");
+        createContent(token, imageBody("Ignored by filter", "desc"));
+        String articleId = extractId(createContent(token, articleBody("Long poll", "lead", "body")));
+
+        Map<String, Object> feed = poll.get(10, TimeUnit.SECONDS);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> events = (List<Map<String, Object>>) feed.get("events");
+        assertFalse(events.isEmpty());
+        assertTrue(events.stream().anyMatch(e -> articleId.equals(e.get("contentId"))));
+        assertTrue(events.stream().allMatch(e -> "article".equals(e.get("objectType"))));
+    }
+
+    @Test
+    void waitForChanges_returnsPendingChangesImmediately() {
+        long cursor = currentMaxCommitId();
+        String articleId = extractId(createContent(token, articleBody("Already there", "lead", "body")));
+
+        long start = System.nanoTime();
+        Map<String, Object> feed = getFeed("/changes?commitId=" + cursor + "&wait=30");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> events = (List<Map<String, Object>>) feed.get("events");
+        assertTrue(events.stream().anyMatch(e -> articleId.equals(e.get("contentId"))));
+        assertTrue(elapsedMs < 5000, "pending changes should not wait, took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void waitForChanges_timesOutWithEmptyFeed() {
+        long cursor = currentMaxCommitId();
+
+        Map<String, Object> feed = getFeed("/changes?commitId=" + cursor + "&content=no.such.type&wait=1");
+
+        assertEquals(0, ((Number) feed.get("size")).intValue());
+    }
+
+    @Test
+    void concurrentWrites_getDistinctCommitIds() throws Exception {
+        long cursor = currentMaxCommitId();
+
+        List<CompletableFuture<String>> creates = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String headline = "Concurrent " + i;
+            creates.add(CompletableFuture.supplyAsync(
+                () -> extractId(createContent(token, articleBody(headline, "lead", "body")))));
+        }
+        CompletableFuture.allOf(creates.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+
+        Map<String, Object> feed = getFeed("/changes?commitId=" + cursor + "&rows=100");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> events = (List<Map<String, Object>>) feed.get("events");
+        List<Long> commitIds = events.stream().map(e -> ((Number) e.get("commitId")).longValue()).toList();
+        assertEquals(commitIds.size(), commitIds.stream().distinct().count());
+        assertTrue(commitIds.size() >= 8);
+        assertEquals(commitIds.getLast().longValue(), ((Number) feed.get("maxCommitId")).longValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void commitIds_committedOutOfOrderWaitForTheHighWaterMark() throws Exception {
+        long cursor = currentMaxCommitId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        CountDownLatch firstAllocated = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger firstId = new AtomicInteger();
+
+        // The first transaction takes an ID and stays open; later IDs commit before it
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> tx.execute(status -> {
+            int id = commitIdAllocator.next();
+            firstId.set(id);
+            firstAllocated.countDown();
+            try {
+                releaseFirst.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return id;
+        }));
+        assertTrue(firstAllocated.await(10, TimeUnit.SECONDS));
+        int secondId = CompletableFuture.supplyAsync(() -> tx.execute(status -> commitIdAllocator.next()))
+            .get(10, TimeUnit.SECONDS);
+        String articleId = extractId(createContent(token, articleBody("Behind an open commit", "lead", "body")));
+
+        // Neither the allocator nor the feed may move past the open ID
+        assertTrue(secondId > firstId.get(), "IDs are handed out in order: " + firstId + ", " + secondId);
+        assertFalse(first.isDone());
+        assertTrue(commitIdAllocator.committedUpTo() < firstId.get());
+        Map<String, Object> held = getFeed("/changes?commitId=" + cursor + "&rows=100");
+        assertTrue(((Number) held.get("maxCommitId")).longValue() < firstId.get());
+        assertTrue(((List<Map<String, Object>>) held.get("events")).stream()
+            .noneMatch(e -> articleId.equals(e.get("contentId"))), "a commit above an open ID was served");
+
+        releaseFirst.countDown();
+        assertEquals(firstId.get(), first.get(10, TimeUnit.SECONDS));
+
+        assertTrue(commitIdAllocator.committedUpTo() >= secondId);
+        Map<String, Object> feed = getFeed("/changes?commitId=" + cursor + "&rows=100");
+        assertTrue(((List<Map<String, Object>>) feed.get("events")).stream()
+            .anyMatch(e -> articleId.equals(e.get("contentId"))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update_replacesPreviousFeedEntry() {
+        long cursor = currentMaxCommitId();
+        Map<String, Object> created = createContent(token, articleBody("Upsert", "lead", "body"));
+        String id = extractId(created);
+        String firstVersion = extractVersion(created);
+
+        Map<String, Object> updated = restClient.put()
+            .uri("/content/contentid/{id}", id)
+            .headers(h -> {
+                h.addAll(authHeaders(token));
+                h.set("If-Match", "\"" + firstVersion + "\"");
+            })
+            .body(articleBody("Upsert 2", "lead", "body"))
+            .retrieve()
+            .body(Map.class);
+
+        Map<String, Object> feed = getFeed("/changes?commitId=" + cursor);
+        List<Map<String, Object>> events = ((List<Map<String, Object>>) feed.get("events")).stream()
+            .filter(e -> id.equals(e.get("contentId")))
+            .toList();
+        assertEquals(1, events.size());
+        assertEquals("UPDATE", events.getFirst().get("eventType"));
+        assertEquals(updated.get("version"), events.getFirst().get("contentVersionId"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void delete_keepsObjectTypeForFilteredListeners() throws Exception {
+        String id = extractId(createContent(token, articleBody("Deleted", "lead", "body")));
+        long cursor = currentMaxCommitId();
+
+        CompletableFuture<Map<String, Object>> poll = CompletableFuture.supplyAsync(
+            () -> getFeed("/changes?commitId=" + cursor + "&object=article&wait=30"));
+        Thread.sleep(500);
+        String[] parts = id.split(":", 2);
+        changeListService.recordDelete(parts[0], parts[1], null, null, "98");
+
+        Map<String, Object> feed = poll.get(10, TimeUnit.SECONDS);
+        List<Map<String, Object>> events = ((List<Map<String, Object>>) feed.get("events")).stream()
+            .filter(e -> id.equals(e.get("contentId")))
+            .toList();
+        assertEquals(1, events.size());
+        assertEquals("DELETE", events.getFirst().get("eventType"));
+        assertEquals("article", events.getFirst().get("objectType"));
+        assertEquals("atex.onecms.article", events.getFirst().get("contentType"));
+    }
+
+    private long currentMaxCommitId() {
+        return ((Number) getFeed("/changes?rows=1").get("maxCommitId")).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getFeed(String uri) {
+        return restClient.get()
+            .uri(uri)
+            .headers(h -> h.addAll(authHeaders(token)))
+            .retrieve()
+            .body(Map.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.atex.desk.api.integration;
+
+import com.atex.desk.api.dto.ContentResultDto;
+import com.atex.desk.api.service.ContentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the batched ContentService read path (getMany / resolveMany).
+ */
+class ContentBatchReadIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    ContentService contentService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = loginSysadmin();
+    }
+
+    @Test
+    void resolveMany_matchesSingleResolve() {
+        String id1 = extractId(createContent(token, articleBody("Batch 1", "lead", "body")));
+        String id2 = extractId(createContent(token, articleBody("Batch 2", "lead", "body")));
+        String key1 = id1.split(":")[1];
+        String key2 = id2.split(":")[1];
+
+        Map<String, String> resolved = contentService.resolveMany("onecms",
+            List.of(key1, key2, "doesnotexist"), "p.latest");
+
+        assertEquals(2, resolved.size());
+        assertEquals(contentService.resolve("onecms", key1).orElseThrow(), resolved.get(key1));
+        assertEquals(contentService.resolve("onecms", key2).orElseThrow(), resolved.get(key2));
+        assertFalse(resolved.containsKey("doesnotexist"));
+    }
+
+    @Test
+    void getMany_matchesSingleGet() {
+        String v1 = extractVersion(createContent(token, articleBody("Batch Get 1", "lead", "body")));
+        String v2 = extractVersion(createContent(token, imageBody("Batch Get 2", "desc")));
+
+        Map<String, ContentResultDto> results = contentService.getMany(
+            List.of(v1, v2, "onecms:doesnotexist:v1"));
+
+        assertEquals(List.of(v1, v2), List.copyOf(results.keySet()));
+        for (String versionedId : List.of(v1, v2)) {
+            String[] parts = contentService.parseContentId(versionedId);
+            ContentResultDto single = contentService.getContent(parts[0], parts[1], parts[2]).orElseThrow();
+            ContentResultDto batched = results.get(versionedId);
+            assertEquals(single.getId(), batched.getId());
+            assertEquals(single.getVersion(), batched.getVersion());
+            assertEquals(single.getAspects().keySet(), batched.getAspects().keySet());
+            assertEquals(single.getAspects().get("contentData").getData(),
+                batched.getAspects().get("contentData").getData());
+            assertEquals(single.getMeta().getOriginalCreationTime(), batched.getMeta().getOriginalCreationTime());
+        }
+    }
+
+    @Test
+    void getContent_cachedResultIsIsolatedAndSeesAliasChanges() {
+        String versionedId = extractVersion(createContent(token, articleBody("Cached", "lead", "body")));
+        String[] parts = contentService.parseContentId(versionedId);
+
+        ContentResultDto first = contentService.getContent(parts[0], parts[1], parts[2]).orElseThrow();
+        first.getAspects().get("contentData").getData().put("headline", Map.of("text", "mutated by caller"));
+
+        contentService.createAlias(parts[0], parts[1], "externalId", "cache-test-" + parts[1]);
+
+        ContentResultDto second = contentService.getContent(parts[0], parts[1], parts[2]).orElseThrow();
+        assertEquals(Map.of("text", "Cached"), second.getAspects().get("contentData").getData().get("headline"));
+        assertEquals("cache-test-" + parts[1], second.getMeta().getAliases().get("externalId"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.atex.desk.api.integration;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@code POST /content/batch}.
+ */
+class ContentBatchWriteIntegrationTest extends BaseIntegrationTest {
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = loginSysadmin();
+    }
+
+    @Test
+    void batch_createsAndUpdatesWithPerItemStatus() throws Exception {
+        Map<String, Object> existing = createContent(token, articleBody("Before", "lead", "body"));
+        String existingId = extractId(existing);
+
+        Map<String, Object> update = new LinkedHashMap<>(articleBody("After", "lead", "body"));
+        update.put("version", extractVersion(existing));
+        Map<String, Object> missing = new LinkedHashMap<>(articleBody("Missing", "lead", "body"));
+        missing.put("version", "onecms:doesnotexist:1");
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        items.add(Map.of("content", articleBody("Batch New 1", "lead", "body")));
+        items.add(Map.of("id", existingId, "content", update));
+        items.add(Map.of("content", articleBody("Batch New 2", "lead", "body")));
+        items.add(Map.of("id", "onecms:doesnotexist", "content", missing));
+        items.add(Map.of("id", extractVersion(existing), "content", articleBody("Versioned", "lead", "body")));
+
+        HttpResponse<String> response = rawPost("/content/batch", toJson(Map.of("items", items)), token);
+        assertEquals(200, response.statusCode(), response.body());
+
+        List<Map<String, Object>> results = results(response);
+        assertEquals(5, results.size());
+        assertEquals(20100, statusCode(results.get(0)));
+        assertEquals(20000, statusCode(results.get(1)));
+        assertEquals(20100, statusCode(results.get(2)));
+        assertEquals(40400, statusCode(results.get(3)));
+        assertEquals(40001, statusCode(results.get(4)));
+
+        assertNull(results.get(3).get("content"));
+        assertNull(results.get(4).get("content"));
+        assertNotEquals(results.get(0).get("content"), results.get(2).get("content"));
+
+        Map<String, Object> updated = content(results.get(1));
+        assertEquals(existingId, updated.get("id"));
+        assertNotEquals(extractVersion(existing), updated.get("version"));
+        assertEquals("After", headline(updated));
+    }
+
+    @Test
+    void batch_updateWithStaleVersionConflicts() throws Exception {
+        Map<String, Object> existing = createContent(token, articleBody("Original", "lead", "body"));
+        String existingId = extractId(existing);
+
+        Map<String, Object> stale = new LinkedHashMap<>(articleBody("Stale", "lead", "body"));
+        stale.put("version", existingId + ":stale");
+
+        HttpResponse<String> response = rawPost("/content/batch", toJson(Map.of("items", List.of(
+            Map.of("id", existingId, "content", stale),
+            Map.of("content", articleBody("Unaffected", "lead", "body"))))), token);
+        assertEquals(200, response.statusCode(), response.body());
+
+        List<Map<String, Object>> results = results(response);
+        assertEquals(40900, statusCode(results.get(0)));
+        assertEquals(20100, statusCode(results.get(1)));
+        assertEquals("Unaffected", headline(content(results.get(1))));
+    }
+
+    @Test
+    void batch_updateWithoutVersionIsRejected() throws Exception {
+        Map<String, Object> existing = createContent(token, articleBody("Unlocked", "lead", "body"));
+        String existingId = extractId(existing);
+
+        HttpResponse<String> response = rawPost("/content/batch", toJson(Map.of("items", List.of(
+            Map.of("id", existingId, "content", articleBody("No version", "lead", "body")),
+            Map.of("content", articleBody("Still created", "lead", "body"))))), token);
+        assertEquals(200, response.statusCode(), response.body());
+
+        List<Map<String, Object>> results = results(response);
+        assertEquals(40001, statusCode(results.get(0)));
+        assertNull(results.get(0).get("content"));
+        assertEquals(20100, statusCode(results.get(1)));
+
+        // The latest version is still the original one
+        HttpResponse<String> current = rawGet("/content/contentid/" + existingId, token);
+        assertEquals(303, current.statusCode());
+        assertTrue(current.headers().firstValue("Location").orElse("").endsWith(extractVersion(existing)));
+    }
+
+    @Test
+    void batch_aspectOnlyUpdateKeepsContentData() throws Exception {
+        Map<String, Object> existing = createContent(token, articleBody("Kept", "lead", "body"));
+
+        Map<String, Object> aspectOnly = new LinkedHashMap<>();
+        aspectOnly.put("aspects", Map.of("test.Marker", Map.of("data", Map.of("marked", true))));
+        aspectOnly.put("version", extractVersion(existing));
+
+        HttpResponse<String> response = rawPost("/content/batch", toJson(Map.of("items", List.of(
+            Map.of("id", extractId(existing), "content", aspectOnly)))), token);
+        assertEquals(200, response.statusCode(), response.body());
+
+        List<Map<String, Object>> results = results(response);
+        assertEquals(20000, statusCode(results.get(0)));
+        assertEquals("Kept", headline(content(results.get(0))));
+    }
+
+    @Test
+    void batch_emptyIsRejected() throws Exception {
+        HttpResponse<String> response = rawPost("/content/batch", "{\"items\":[]}", token);
+        assertEquals(400, response.statusCode());
+    }
+
+    // --- Helpers ---
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> results(HttpResponse<String> response) {
+        Map<String, Object> body = new Gson().fromJson(response.body(), Map.class);
+        return (List<Map<String, Object>>) body.get("results");
+    }
+
+    private static int statusCode(Map<String, Object> result) {
+        return ((Number) result.get("statusCode")).intValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> content(Map<String, Object> result) {
+        return (Map<String, Object>) result.get("content");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String headline(Map<String, Object> content) {
+        Map<String, Object> aspects = (Map<String, Object>) content.get("aspects");
+        Map<String, Object> contentData = (Map<String, Object>) aspects.get("contentData");
+        Map<String, Object> data = (Map<String, Object>) contentData.get("data");
+        return (String) ((Map<String, Object>) data.get("headline")).get("text");
+    }
+}
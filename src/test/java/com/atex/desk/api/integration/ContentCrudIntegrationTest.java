@@ -244,6 +244,48 @@ class ContentCrudIntegrationTest extends BaseIntegrationTest {
         assertTrue(response.statusCode() >= 400);
     }
 
+    @Test
+    void getVersioned_isCacheableAndHonoursIfNoneMatch() throws Exception {
+        String versionedId = extractVersion(createContent(token, articleBody("Conditional", "Lead", "Body")));
+        String path = "/content/contentid/" + versionedId;
+
+        HttpResponse<String> response = rawGet(path, token);
+        assertEquals(200, response.statusCode());
+        String etag = response.headers().firstValue("ETag").orElseThrow();
+        assertEquals("\"" + versionedId + "\"", etag);
+        String cacheControl = response.headers().firstValue("Cache-Control").orElse("");
+        // The meta aliases can change, so the response must not be cached as immutable
+        assertFalse(cacheControl.contains("immutable"), cacheControl);
+        assertTrue(cacheControl.contains("max-age=60"), cacheControl);
+
+        HttpResponse<String> notModified = rawRequest("GET", path, null,
+            Map.of("X-Auth-Token", token, "If-None-Match", etag));
+        assertEquals(304, notModified.statusCode());
+        assertEquals(etag, notModified.headers().firstValue("ETag").orElse(null));
+        assertTrue(notModified.body().isEmpty());
+
+        // Another version's ETag does not match
+        HttpResponse<String> other = rawRequest("GET", path, null,
+            Map.of("X-Auth-Token", token, "If-None-Match", "\"onecms:other:version\""));
+        assertEquals(200, other.statusCode());
+    }
+
+    @Test
+    void headVersioned_checksExistenceOnly() throws Exception {
+        String versionedId = extractVersion(createContent(token, articleBody("Head", "Lead", "Body")));
+
+        HttpResponse<String> head = rawRequest("HEAD", "/content/contentid/" + versionedId, null,
+            Map.of("X-Auth-Token", token));
+        assertEquals(200, head.statusCode());
+        assertEquals("\"" + versionedId + "\"", head.headers().firstValue("ETag").orElse(null));
+        assertTrue(head.headers().firstValue("Cache-Control").orElse("").contains("max-age="));
+
+        String missing = versionedId.substring(0, versionedId.lastIndexOf(':')) + ":doesnotexist";
+        HttpResponse<String> notFound = rawRequest("HEAD", "/content/contentid/" + missing, null,
+            Map.of("X-Auth-Token", token));
+        assertEquals(404, notFound.statusCode());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void defaultAspects_onCreateArticle() {
@@ -1,7 +1,13 @@
 package com.atex.desk.api.integration;
 
+import com.atex.desk.api.service.ContentCacheService;
+import com.atex.desk.api.service.ContentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
 
@@ -12,6 +18,15 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class ContentVersioningIntegrationTest extends BaseIntegrationTest {
 
+    @Autowired
+    ContentService contentService;
+
+    @Autowired
+    ContentCacheService contentCache;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     private String token;
 
     @BeforeEach
@@ -122,6 +137,88 @@ class ContentVersioningIntegrationTest extends BaseIntegrationTest {
         assertEquals(v2, response.get("version"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void originalCreationTime_stableAcrossManyVersions() {
+        Map<String, Object> created = createContent(token, articleBody("Created Time V0", "Lead", "Body"));
+        String unversionedId = extractId(created);
+        String version = extractVersion(created);
+        Object originalCreationTime = ((Map<String, Object>) created.get("meta")).get("originalCreationTime");
+        assertNotNull(originalCreationTime);
+
+        for (int i = 1; i <= 30; i++) {
+            String ifMatch = "\"" + version + "\"";
+            Map<String, Object> updated = restClient.put()
+                .uri("/content/contentid/{id}", unversionedId)
+                .headers(h -> {
+                    h.addAll(authHeaders(token));
+                    h.set("If-Match", ifMatch);
+                })
+                .body(articleBody("Created Time V" + i, "Lead", "Body"))
+                .retrieve()
+                .body(Map.class);
+            version = extractVersion(updated);
+        }
+
+        Map<String, Object> latest = restClient.get()
+            .uri("/content/contentid/{id}", version)
+            .header("X-Auth-Token", token)
+            .retrieve()
+            .body(Map.class);
+
+        assertNotNull(latest);
+        assertEquals(originalCreationTime, ((Map<String, Object>) latest.get("meta")).get("originalCreationTime"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void uncachedRead_queryCountDoesNotGrowWithVersions() {
+        Map<String, Object> created = createContent(token, articleBody("Query Count V0", "Lead", "Body"));
+        String unversionedId = extractId(created);
+        String version = extractVersion(created);
+
+        long singleVersion = statementsForUncachedRead(version);
+
+        for (int i = 1; i <= 30; i++) {
+            String ifMatch = "\"" + version + "\"";
+            Map<String, Object> updated = restClient.put()
+                .uri("/content/contentid/{id}", unversionedId)
+                .headers(h -> {
+                    h.addAll(authHeaders(token));
+                    h.set("If-Match", ifMatch);
+                })
+                .body(articleBody("Query Count V" + i, "Lead", "Body"))
+                .retrieve()
+                .body(Map.class);
+            version = extractVersion(updated);
+        }
+
+        assertEquals(singleVersion, statementsForUncachedRead(version),
+            "reading content with 31 versions should take as many statements as with one");
+    }
+
+    /**
+     * JDBC statements prepared to read a version with the content caches empty, after one
+     * warm-up read so lookups cached outside the content caches are excluded. The statistics
+     * also count background work such as commit ID claim refreshes, so the fewest of a few
+     * reads is taken.
+     */
+    private long statementsForUncachedRead(String versionedId) {
+        String[] parts = versionedId.split(":", 3);
+        contentCache.clearAll();
+        assertTrue(contentService.getContent(parts[0], parts[1], parts[2]).isPresent());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long fewest = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            contentCache.clearAll();
+            long before = statistics.getPrepareStatementCount();
+            assertTrue(contentService.getContent(parts[0], parts[1], parts[2]).isPresent());
+            fewest = Math.min(fewest, statistics.getPrepareStatementCount() - before);
+        }
+        return fewest;
+    }
+
     @Test
     void purgeVersion_removesVersion() {
         Map<String, Object> created = createContent(token, articleBody("Purge V1", "Lead", "Body"));
@@ -218,6 +218,87 @@ class FileDeliveryIntegrationTest extends BaseIntegrationTest {
         assertArrayEquals(fileContent, response.body());
     }
 
+    @Test
+    void multiRangeRequest_returnsByteranges() throws Exception {
+        Map<String, String> headers = Map.of("Range", "bytes=0-2,10-14");
+        HttpResponse<byte[]> response = rawGetBytes(
+            "/filedelivery/" + contentId + "/delivery-test.txt", headers);
+
+        assertEquals(206, response.statusCode());
+        String contentType = response.headers().firstValue("Content-Type").orElse("");
+        assertTrue(contentType.startsWith("multipart/byteranges; boundary="), contentType);
+
+        String body = new String(response.body(), StandardCharsets.US_ASCII);
+        String total = "/" + fileContent.length;
+        assertTrue(body.contains("Content-Range: bytes 0-2" + total + "\r\n\r\nThe\r\n"), body);
+        assertTrue(body.contains("Content-Range: bytes 10-14" + total + "\r\n\r\nbrown\r\n"), body);
+        assertEquals(response.body().length,
+            response.headers().firstValueAsLong("Content-Length").orElse(-1));
+    }
+
+    @Test
+    void overlappingRanges_areMerged() throws Exception {
+        Map<String, String> headers = Map.of("Range", "bytes=4-8,0-5,9-14");
+        HttpResponse<byte[]> response = rawGetBytes(
+            "/filedelivery/" + contentId + "/delivery-test.txt", headers);
+
+        assertEquals(206, response.statusCode());
+        assertEquals("bytes 0-14/" + fileContent.length,
+            response.headers().firstValue("Content-Range").orElse(null));
+        assertEquals("The quick brown", new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void rangesExceedingFileLength_returnWholeFileOnce() throws Exception {
+        Map<String, String> headers = Map.of("Range", "bytes=0-,0-,0-,0-,0-,0-,0-,0-,0-,0-");
+        HttpResponse<byte[]> response = rawGetBytes(
+            "/filedelivery/" + contentId + "/delivery-test.txt", headers);
+
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(fileContent, response.body());
+        assertTrue(response.headers().firstValue("Content-Range").isEmpty());
+    }
+
+    @Test
+    void unsatisfiableRange_returns416() throws Exception {
+        Map<String, String> headers = Map.of("Range", "bytes=" + (fileContent.length + 10) + "-");
+        HttpResponse<byte[]> response = rawGetBytes(
+            "/filedelivery/" + contentId + "/delivery-test.txt", headers);
+
+        assertEquals(416, response.statusCode());
+        assertEquals("bytes */" + fileContent.length,
+            response.headers().firstValue("Content-Range").orElse(null));
+    }
+
+    @Test
+    void conditionalRequest_matchingEtag_returns304() throws Exception {
+        HttpResponse<byte[]> initial = rawGetBytes(
+            "/filedelivery/" + contentId + "/delivery-test.txt", null);
+        String etag = initial.headers().firstValue("ETag").orElse(null);
+        assertNotNull(etag);
+        assertFalse(etag.startsWith("W/"), "ETag should be strong");
+
+        HttpResponse<byte[]> response = rawGetBytes(
+            "/filedelivery/" + contentId + "/delivery-test.txt", Map.of("If-None-Match", etag));
+
+        assertEquals(304, response.statusCode());
+        assertEquals(0, response.body().length);
+        assertEquals(etag, response.headers().firstValue("ETag").orElse(null));
+    }
+
+    @Test
+    void conditionalRequest_notModifiedSince_returns304() throws Exception {
+        HttpResponse<byte[]> initial = rawGetBytes(
+            "/filedelivery/" + contentId + "/delivery-test.txt", null);
+        String lastModified = initial.headers().firstValue("Last-Modified").orElse(null);
+        assertNotNull(lastModified, "Last-Modified header should be present");
+
+        HttpResponse<byte[]> response = rawGetBytes(
+            "/filedelivery/" + contentId + "/delivery-test.txt", Map.of("If-Modified-Since", lastModified));
+
+        assertEquals(304, response.statusCode());
+    }
+
     @Test
     void ping_returnsOk() throws Exception {
         HttpResponse<String> response = rawGet("/filedelivery", null);
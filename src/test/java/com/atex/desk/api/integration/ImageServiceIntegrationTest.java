@@ -161,6 +161,49 @@ class ImageServiceIntegrationTest extends BaseIntegrationTest {
         assertTrue(location.contains("flipv=1"), "Should include vertical flip");
     }
 
+    @Test
+    void imageEndpoint_repeatedRequests_redirectToSameSignedUrl() throws Exception {
+        Map<String, Object> created = createContent(token, createImageWithFileAspect("repeat.jpg", 640, 480));
+        String version = extractVersion(created);
+
+        String first = rawGet("/image/contentid/" + version + "/repeat.jpg?w=320", token)
+            .headers().firstValue("Location").orElse("");
+        String second = rawGet("/image/contentid/" + version + "/repeat.jpg?w=320", token)
+            .headers().firstValue("Location").orElse("");
+        String other = rawGet("/image/contentid/" + version + "/repeat.jpg?w=160", token)
+            .headers().firstValue("Location").orElse("");
+
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertTrue(other.contains("w=160"), "Different renditions are signed separately");
+    }
+
+    @Test
+    void imageEndpoint_afterUpdate_redirectsToNewVersion() throws Exception {
+        Map<String, Object> created = createContent(token, createImageWithFileAspect("update.jpg", 1920, 1080));
+        String id = extractId(created);
+        String version = extractVersion(created);
+
+        HttpResponse<String> before = rawGet("/image/" + id + "/update.jpg", token);
+        assertEquals(303, before.statusCode());
+        assertTrue(before.headers().firstValue("Location").orElse("").contains(version));
+
+        HttpResponse<String> update = rawPut("/content/contentid/" + id,
+            toJson(createImageWithEditInfo("update.jpg", 1920, 1080, 180, false, true)),
+            token, "\"" + version + "\"");
+        assertEquals(200, update.statusCode());
+
+        HttpResponse<String> after = rawGet("/image/" + id + "/update.jpg", token);
+        assertEquals(303, after.statusCode());
+        String versionedUrl = after.headers().firstValue("Location").orElse("");
+        assertFalse(versionedUrl.contains(version), "Should redirect to the new version, got: " + versionedUrl);
+
+        String sidecarUrl = rawGet(versionedUrl, token).headers().firstValue("Location").orElse("");
+        assertTrue(sidecarUrl.contains("rot=180"), "Should use the new version's edit info");
+        assertTrue(sidecarUrl.contains("fliph=1"), "Should use the new version's edit info");
+    }
+
     // ---- Helpers ----
 
     private Map<String, Object> createImageWithFileAspect(String filePath, int width, int height) {
@@ -96,6 +96,31 @@ class MyTypeContentIntegrationTest extends BaseIntegrationTest {
         assertNotNull(result.get("id"), "Response should have 'id'");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getContent_versioned_conditionalAndHead() throws Exception {
+        String body = GSON.toJson(articlePayload("Get Conditional", "lead", "body"));
+        HttpResponse<String> createResp = rawPost("/dam/mytype/content", body, token);
+        assertEquals(201, createResp.statusCode(), "Create should succeed: " + createResp.body());
+        String versionedId = (String) GSON.fromJson(createResp.body(), Map.class).get("version");
+        String path = "/dam/mytype/content/contentid/" + versionedId;
+
+        HttpResponse<String> resp = rawGet(path, token);
+        assertEquals(200, resp.statusCode());
+        String etag = resp.headers().firstValue("ETag").orElseThrow();
+        assertTrue(resp.headers().firstValue("Cache-Control").orElse("").contains("max-age="));
+
+        HttpResponse<String> notModified = rawRequest("GET", path, null,
+            Map.of("X-Auth-Token", token, "If-None-Match", etag));
+        assertEquals(304, notModified.statusCode());
+        assertEquals(etag, notModified.headers().firstValue("ETag").orElse(null));
+
+        HttpResponse<String> head = rawRequest("HEAD", path, null, Map.of("X-Auth-Token", token));
+        assertEquals(200, head.statusCode());
+        assertEquals(etag, head.headers().firstValue("ETag").orElse(null));
+        assertTrue(head.body().isEmpty());
+    }
+
     @Test
     void getContent_notFound_returns404() throws Exception {
         HttpResponse<String> resp = rawGet("/dam/mytype/content/contentid/onecms:nonexistent", token);
@@ -0,0 +1,164 @@
+package com.atex.desk.api.integration;
+
+import com.atex.desk.api.config.FileServiceProperties;
+import com.atex.desk.api.file.S3FileService;
+import com.atex.onecms.content.Subject;
+import com.atex.onecms.content.files.FileInfo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uploads through {@link S3FileService} against a MinIO container, covering both the single PUT
+ * and the streamed multipart path.
+ */
+class S3FileServiceIntegrationTest {
+
+    private static final String ACCESS_KEY = "minioadmin";
+    private static final String SECRET_KEY = "minioadmin";
+    private static final int MB = 1024 * 1024;
+
+    static final GenericContainer<?> minio = new GenericContainer<>("minio/minio:RELEASE.2025-04-22T22-12-26Z")
+        .withCommand("server", "/data")
+        .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+        .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+        .withExposedPorts(9000)
+        .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+    private static S3Client s3;
+    private static S3FileService fileService;
+
+    @BeforeAll
+    static void startMinio() {
+        minio.start();
+        String endpoint = "http://" + minio.getHost() + ":" + minio.getMappedPort(9000);
+
+        s3 = S3Client.builder()
+            .region(Region.US_EAST_1)
+            .endpointOverride(URI.create(endpoint))
+            .forcePathStyle(true)
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+            .build();
+        s3.createBucket(b -> b.bucket("content"));
+        s3.createBucket(b -> b.bucket("tmp"));
+
+        FileServiceProperties.S3Properties config = new FileServiceProperties.S3Properties();
+        config.setEnabled(true);
+        config.setRegion("us-east-1");
+        config.setEndpoint(endpoint);
+        config.setAccessKey(ACCESS_KEY);
+        config.setSecretKey(SECRET_KEY);
+        config.setMultipartThreshold(MB);
+        config.setPartSize(5 * MB);
+        config.setMaxConcurrentUploads(2);
+        fileService = new S3FileService(config);
+    }
+
+    @AfterAll
+    static void stopMinio() {
+        if (s3 != null) s3.close();
+        minio.stop();
+    }
+
+    @Test
+    void smallUpload_isSinglePut() throws Exception {
+        byte[] data = randomBytes(64 * 1024);
+
+        FileInfo info = fileService.uploadFile("content", "sysadmin", "small.bin",
+            new ByteArrayInputStream(data), "application/octet-stream", Subject.NOBODY_CALLER);
+
+        assertNotNull(info);
+        assertEquals(data.length, info.getLength());
+        assertArrayEquals(md5(data), info.getChecksum());
+        assertArrayEquals(data, download(info.getUri()));
+        assertFalse(etag(info.getUri()).contains("-"), "expected a plain PUT ETag");
+    }
+
+    @Test
+    void largeUpload_isStreamedAsMultipart() throws Exception {
+        byte[] data = randomBytes(11 * MB + 123);
+
+        FileInfo info = fileService.uploadFile("content", "sysadmin", "large.bin",
+            new ByteArrayInputStream(data), "application/octet-stream", Subject.NOBODY_CALLER);
+
+        assertNotNull(info);
+        assertEquals(data.length, info.getLength());
+        assertArrayEquals(md5(data), info.getChecksum());
+        assertArrayEquals(data, download(info.getUri()));
+        // Multipart ETags are "<md5 of part md5s>-<part count>": 5 MB + 5 MB + remainder
+        assertTrue(etag(info.getUri()).endsWith("-3\""), "expected a 3-part upload");
+    }
+
+    @Test
+    void failedUpload_abortsMultipart() {
+        byte[] data = randomBytes(7 * MB);
+        InputStream failing = new InputStream() {
+            private final InputStream delegate = new ByteArrayInputStream(data);
+
+            @Override
+            public int read() throws IOException {
+                int b = delegate.read();
+                if (b < 0) throw new IOException("connection reset");
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buf, int off, int len) throws IOException {
+                int n = delegate.read(buf, off, len);
+                if (n < 0) throw new IOException("connection reset");
+                return n;
+            }
+        };
+
+        FileInfo info = fileService.uploadFile("tmp", "sysadmin", "broken.bin",
+            failing, "application/octet-stream", Subject.NOBODY_CALLER);
+
+        assertNull(info);
+        assertTrue(s3.listMultipartUploads(b -> b.bucket("tmp")).uploads().isEmpty(),
+            "incomplete upload should have been aborted");
+    }
+
+    // --- Helpers ---
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    private static byte[] md5(byte[] data) throws Exception {
+        return MessageDigest.getInstance("MD5").digest(data);
+    }
+
+    private static byte[] download(String uri) throws IOException {
+        try (InputStream in = fileService.getFile(uri, Subject.NOBODY_CALLER)) {
+            assertNotNull(in, "file not found: " + uri);
+            return in.readAllBytes();
+        }
+    }
+
+    private static String etag(String uri) {
+        String filename = uri.substring(uri.lastIndexOf('/') + 1);
+        return s3.listObjectsV2(b -> b.bucket("content")).contents().stream()
+            .filter(o -> o.key().endsWith("/" + filename))
+            .map(S3Object::eTag)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,127 @@
+package com.atex.desk.api.integration;
+
+import com.atex.onecms.app.dam.solr.SolrService;
+import com.polopoly.search.solr.SolrServerUrl;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares {@link SolrService#recordCounts} against one {@link SolrService#recordCount} per
+ * query, on a Solr container with the default configset. Like the desk cores, its select
+ * handler parses queries with edismax.
+ */
+class SolrRecordCountsIntegrationTest {
+
+    private static final String CORE = "counts";
+
+    static final GenericContainer<?> solr = new GenericContainer<>("solr:9.8.0")
+        .withCommand("solr-precreate", CORE)
+        .withExposedPorts(8983)
+        .waitingFor(Wait.forHttp("/solr/" + CORE + "/select?q=*:*").forPort(8983));
+
+    private static SolrClient client;
+    private static SolrService solrService;
+
+    @BeforeAll
+    static void startSolr() throws Exception {
+        solr.start();
+        String url = "http://" + solr.getHost() + ":" + solr.getMappedPort(8983) + "/solr";
+        client = new HttpSolrClient.Builder(url).build();
+        useEdismax(url);
+
+        List<SolrInputDocument> docs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            SolrInputDocument doc = new SolrInputDocument();
+            doc.addField("id", "doc-" + i);
+            doc.addField("type_s", i % 3 == 0 ? "image" : "article");
+            doc.addField("section_s", "section-" + (i % 5));
+            doc.addField("rank_i", i);
+            docs.add(doc);
+        }
+        client.add(CORE, docs);
+        client.commit(CORE);
+
+        solrService = new SolrService(new SolrServerUrl(url), CORE);
+    }
+
+    /** Make edismax over type_s and section_s the select handler's query parser. */
+    private static void useEdismax(String url) throws Exception {
+        String command = """
+            {"update-requesthandler": {"name": "/select", "class": "solr.SearchHandler",
+              "defaults": {"defType": "edismax", "qf": "type_s section_s", "rows": 10}}}""";
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder()
+                    .uri(URI.create(url + "/" + CORE + "/config"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(command))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode(), response.body());
+        }
+    }
+
+    @AfterAll
+    static void stopSolr() throws Exception {
+        if (client != null) client.close();
+        solr.stop();
+    }
+
+    @Test
+    void batchedCounts_matchPerQueryCounts() throws Exception {
+        List<SolrQuery> queries = List.of(
+            new SolrQuery("*:*"),
+            new SolrQuery("type_s:article"),
+            new SolrQuery("type_s:image AND section_s:section-0"),
+            new SolrQuery("rank_i:[10 TO 19]"),
+            new SolrQuery("{!lucene q.op=AND}type_s:article section_s:section-1"),
+            new SolrQuery("type_s:missing"),
+            // Free text goes through the handler's parser (edismax over qf), not lucene over df
+            new SolrQuery("article"),
+            // Extra parameters cannot be batched and fall back to a query of their own
+            new SolrQuery("*:*").addFilterQuery("type_s:image"));
+
+        List<Integer> batched = solrService.recordCounts(queries);
+
+        assertEquals(queries.size(), batched.size());
+        for (int i = 0; i < queries.size(); i++) {
+            assertEquals(solrService.recordCount(queries.get(i)), batched.get(i),
+                "count of " + queries.get(i).getQuery());
+        }
+        assertEquals(50, batched.get(0));
+        assertEquals(0, batched.get(5));
+        assertEquals(batched.get(1), batched.get(6));
+    }
+
+    @Test
+    void manyQueries_fitInOneRequest() throws Exception {
+        // Far more text than a GET URL can carry
+        List<SolrQuery> queries = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            queries.add(new SolrQuery("rank_i:[" + (i % 50) + " TO 49] AND type_s:article AND "
+                + "NOT section_s:unused-section-name-to-pad-the-query-" + i));
+        }
+
+        List<Integer> batched = solrService.recordCounts(queries);
+
+        assertEquals(queries.size(), batched.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(solrService.recordCount(queries.get(i)), batched.get(i));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.atex.desk.api.search;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.util.NamedList;
+import org.apache.solr.common.util.SimpleOrderedMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchResultCacheTest {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final SearchResultCache cache = new SearchResultCache(true, 100, 60_000, generation::get);
+
+    @Test
+    void lookup_missesUntilStoredThenHits() {
+        SolrQuery query = new SolrQuery("title:storm");
+
+        SearchResultCache.Lookup first = cache.lookup("onecms", query, List.of());
+        assertNull(first.get());
+        first.put(response("a", "b"));
+
+        QueryResponse hit = cache.lookup("onecms", query, List.of()).get();
+        assertNotNull(hit);
+        assertEquals(List.of("a", "b"), ids(hit));
+        assertEquals(1, cache.getStats().get(SearchResultCache.CACHE_NAME).hitCount());
+    }
+
+    @Test
+    void hit_isACopyCallersCanChange() {
+        SolrQuery query = new SolrQuery("*:*");
+        cache.lookup("onecms", query, List.of()).put(response("a"));
+
+        QueryResponse hit = cache.lookup("onecms", query, List.of()).get();
+        hit.getResults().get(0).setField("_data", "{}");
+
+        QueryResponse again = cache.lookup("onecms", query, List.of()).get();
+        assertNull(again.getResults().get(0).getFieldValue("_data"));
+    }
+
+    @Test
+    void key_ignoresParameterAndFilterQueryOrder() {
+        SolrQuery stored = new SolrQuery("*:*").setRows(10).addFilterQuery("type:article", "partition:web");
+        cache.lookup("onecms", stored, List.of("group:all", "98")).put(response("a"));
+
+        SolrQuery reordered = new SolrQuery().setRows(10).setQuery("*:*")
+            .addFilterQuery("partition:web", "type:article");
+        assertNotNull(cache.lookup("onecms", reordered, List.of("98", "group:all")).get());
+        assertEquals(SearchResultCache.normalize(stored), SearchResultCache.normalize(reordered));
+    }
+
+    @Test
+    void key_separatesQueriesThatCanDiffer() {
+        SolrQuery query = new SolrQuery("*:*").addSort("modified", SolrQuery.ORDER.desc)
+            .addSort("id", SolrQuery.ORDER.asc);
+        cache.lookup("onecms", query, List.of("98")).put(response("a"));
+
+        // Sort order, core, principals and extra values are all part of the key
+        SolrQuery otherSort = new SolrQuery("*:*").addSort("id", SolrQuery.ORDER.asc)
+            .addSort("modified", SolrQuery.ORDER.desc);
+        assertNull(cache.lookup("onecms", otherSort, List.of("98")).get());
+        assertNull(cache.lookup("latest", query, List.of("98")).get());
+        assertNull(cache.lookup("onecms", query, List.of("99")).get());
+        assertNull(cache.lookup("onecms", query.getCopy().addFilterQuery("type:image"), List.of("98")).get());
+        assertNotNull(cache.lookup("onecms", query, List.of("98")).get());
+    }
+
+    @Test
+    void newGeneration_hidesEarlierEntries() {
+        SolrQuery query = new SolrQuery("title:storm");
+        cache.lookup("onecms", query, List.of()).put(response("a"));
+
+        generation.incrementAndGet();
+
+        SearchResultCache.Lookup lookup = cache.lookup("onecms", query, List.of());
+        assertNull(lookup.get());
+        lookup.put(response("a", "b"));
+        assertEquals(List.of("a", "b"), ids(cache.lookup("onecms", query, List.of()).get()));
+    }
+
+    @Test
+    void resultRacingAGenerationChange_isNotStored() {
+        SolrQuery query = new SolrQuery("title:storm");
+        SearchResultCache.Lookup lookup = cache.lookup("onecms", query, List.of());
+
+        generation.incrementAndGet();
+        lookup.put(response("a"));
+
+        assertNull(cache.lookup("onecms", query, List.of()).get());
+        assertEquals(1, cache.getStats().get(SearchResultCache.CACHE_NAME).notStored());
+    }
+
+    @Test
+    void disabledCache_givesNoLookup() {
+        SearchResultCache disabled = new SearchResultCache(false, 100, 60_000, generation::get);
+
+        assertNull(disabled.lookup("onecms", new SolrQuery("*:*"), List.of()));
+    }
+
+    private static QueryResponse response(String... ids) {
+        SolrDocumentList docs = new SolrDocumentList();
+        for (String id : ids) {
+            SolrDocument doc = new SolrDocument();
+            doc.setField("id", id);
+            docs.add(doc);
+        }
+        docs.setNumFound(ids.length);
+        NamedList<Object> body = new SimpleOrderedMap<>();
+        body.add("response", docs);
+        QueryResponse response = new QueryResponse();
+        response.setResponse(body);
+        return response;
+    }
+
+    private static List<String> ids(QueryResponse response) {
+        return response.getResults().stream().map(doc -> (String) doc.getFieldValue("id")).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.atex.onecms.app.dam.solr;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexGenerationTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final IndexGeneration generation = new IndexGeneration(now::get);
+
+    @Test
+    void commitWithinWrite_advancesGenerationOnceVisible() {
+        long start = generation.current();
+        generation.written(1_000);
+
+        now.addAndGet(999);
+        assertEquals(start, generation.current());
+        now.addAndGet(1);
+        assertEquals(start + 1, generation.current());
+        assertEquals(start + 1, generation.current());
+    }
+
+    @Test
+    void writesWhileAWindowIsOpen_becomeVisibleTogether() {
+        long start = generation.current();
+        generation.written(1_000);
+        now.addAndGet(400);
+        generation.written(1_000);
+        now.addAndGet(400);
+        generation.written(1_000);
+        assertEquals(start, generation.current());
+
+        now.addAndGet(200);
+        assertEquals(start + 1, generation.current());
+        now.addAndGet(5_000);
+        assertEquals(start + 1, generation.current());
+    }
+
+    @Test
+    void writeAfterAWindowClosed_opensANewOne() {
+        long start = generation.current();
+        generation.written(1_000);
+        now.addAndGet(1_500);
+        // Not read in between: the first window is closed before the second opens
+        generation.written(1_000);
+        assertEquals(start + 1, generation.current());
+
+        now.addAndGet(1_000);
+        assertEquals(start + 2, generation.current());
+    }
+
+    @Test
+    void writeWithoutCommitWithin_advancesGenerationAtOnce() {
+        long start = generation.current();
+        generation.written(0);
+
+        assertEquals(start + 1, generation.current());
+    }
+}